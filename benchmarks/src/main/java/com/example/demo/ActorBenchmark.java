@@ -0,0 +1,113 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.scene.Group;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks creating actors and updating the heart display, the JavaFX work done when enemies spawn
+ * and when the player is hit. Runs on the headless JavaFX toolkit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorBenchmark {
+
+    // Number of hearts shown by the level view, matching level one
+    private static final int HEARTS = 5;
+
+    // Sprites packed by the atlas benchmark, the same set the game packs at startup
+    private static final String[] SPRITE_NAMES = {
+        SpriteAtlas.USER_PLANE, SpriteAtlas.ENEMY_PLANE, SpriteAtlas.BOSS_PLANE, SpriteAtlas.USER_PROJECTILE,
+        SpriteAtlas.ENEMY_PROJECTILE, SpriteAtlas.BOSS_PROJECTILE, SpriteAtlas.HEART, SpriteAtlas.SHIELD
+    };
+    private static final String[] SPRITE_PATHS = {
+        "/com/example/demo/images/userplane.png", "/com/example/demo/images/enemyplane.png",
+        "/com/example/demo/images/bossplane.png", "/com/example/demo/images/userfire.png",
+        "/com/example/demo/images/enemyFire.png", "/com/example/demo/images/fireball.png",
+        "/com/example/demo/images/heart.png", "/com/example/demo/images/shield.png"
+    };
+
+    // User plane whose health is published to the level view observing it
+    private UserPlane user;
+
+    /**
+     * Starts the headless toolkit and packs the default sprite atlas.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessFx.start();
+        SpriteAtlas.getDefault(); // Pack the atlas outside the measurement
+        user = new UserPlane(HEARTS);
+        new LevelView(new Group(), HEARTS).observe(user);
+    }
+
+    /**
+     * Constructs an enemy plane from the packed atlas.
+     *
+     * @return the new enemy plane
+     */
+    @Benchmark
+    public EnemyPlane constructEnemyPlane() {
+        return new EnemyPlane(1300, 300);
+    }
+
+    /**
+     * Packs the game sprites into a fresh atlas, decoding every sprite image again, the one-off cost paid at startup.
+     *
+     * @return the packed atlas
+     */
+    @Benchmark
+    public SpriteAtlas packSpriteAtlas() {
+        return SpriteAtlas.pack(2048, SPRITE_NAMES, SPRITE_PATHS);
+    }
+
+    /**
+     * Takes an enemy plane from its pool and returns it, the path spawning uses instead of construction.
+     *
+     * @return the pooled enemy plane
+     */
+    @Benchmark
+    public ActiveActorDestructible acquireAndRecycleEnemyPlane() {
+        ActiveActorDestructible enemy = ActorPools.ENEMY_PLANES.acquire(1300, 300);
+        enemy.recycle();
+        return enemy;
+    }
+
+    /**
+     * Builds a heart display with a full set of hearts.
+     *
+     * @return the new heart display
+     */
+    @Benchmark
+    public HeartDisplay createHeartDisplay() {
+        return new HeartDisplay(5, 25, HEARTS);
+    }
+
+    /**
+     * Publishes unchanged health to the level view, which the level does on every tick;
+     * the view is not notified, as the health did not change.
+     *
+     * @return the user plane
+     */
+    @Benchmark
+    public UserPlane publishHealthUnchanged() {
+        user.publishHealth();
+        return user;
+    }
+}
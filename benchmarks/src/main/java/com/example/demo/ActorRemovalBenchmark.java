@@ -0,0 +1,112 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javafx.scene.Group;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link ActorCompactor} with the stream and {@code removeAll} removal it replaced, for one actor list
+ * shown in a scene graph node. Removal is destructive, so each measurement is a single shot: before each iteration
+ * the list and the node are refilled and a fraction of the actors is destroyed. Runs on the headless JavaFX toolkit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class ActorRemovalBenchmark {
+
+    // Seed for choosing the destroyed actors, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of actors before removal
+    @Param({"100", "1000", "5000"})
+    public int actorCount;
+
+    // Fraction of the actors destroyed before each removal
+    @Param({"0.1", "0.5", "0.9"})
+    public double destroyedFraction;
+
+    // Every actor, the list and scene graph node under test, and the compactor
+    private List<ActiveActorDestructible> allActors;
+    private List<ActiveActorDestructible> actors;
+    private Group root;
+    private ActorCompactor compactor;
+    private SplittableRandom random;
+
+    /**
+     * Starts the headless toolkit and creates the actors. The actors are not pooled, so recycling them does nothing.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessFx.start();
+        allActors = new ArrayList<>(actorCount);
+        for (int i = 0; i < actorCount; i++) {
+            allActors.add(new EnemyPlane(i, i));
+        }
+        actors = new ArrayList<>(actorCount);
+        root = new Group();
+        compactor = new ActorCompactor();
+        random = new SplittableRandom(SEED);
+    }
+
+    /**
+     * Refills the list and the node with every actor and destroys a random fraction of them.
+     */
+    @Setup(Level.Iteration)
+    public void destroySome() {
+        actors.clear();
+        actors.addAll(allActors);
+        root.getChildren().setAll(allActors);
+        for (ActiveActorDestructible actor : allActors) {
+            actor.getBody().setDestroyed(random.nextDouble() < destroyedFraction);
+        }
+    }
+
+    /**
+     * Removes the destroyed actors by collecting them into a new list and calling {@code removeAll}
+     * on the node's children and on the actor list.
+     *
+     * @return the remaining actors
+     */
+    @Benchmark
+    public List<ActiveActorDestructible> streamAndRemoveAll() {
+        List<ActiveActorDestructible> destroyedActors = actors.stream()
+            .filter(ActiveActorDestructible::isDestroyed)
+            .collect(Collectors.toList());
+        root.getChildren().removeAll(destroyedActors);
+        actors.removeAll(destroyedActors);
+        destroyedActors.forEach(ActiveActorDestructible::recycle);
+        return actors;
+    }
+
+    /**
+     * Removes the destroyed actors by compacting the list in place and removing them from the node in one batch.
+     *
+     * @return the remaining actors
+     */
+    @Benchmark
+    public List<ActiveActorDestructible> compaction() {
+        compactor.compact(actors);
+        compactor.flush(root.getChildren());
+        return actors;
+    }
+}
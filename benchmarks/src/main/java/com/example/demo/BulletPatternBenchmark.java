@@ -0,0 +1,91 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stress-tests the {@link BulletPatternEngine} at bullet-hell densities: two counter-rotating spirals, a fan and an
+ * aimed burst, all with {@code arms} shots per volley and fired every tick or two, which at the game's 20 ticks per
+ * second is several hundred to several thousand shots per second. One invocation is one tick. {@code emitShots}
+ * measures the engine alone with a sink that only consumes the shots; {@code spawnPooledShots} turns every shot into
+ * a pooled {@link BossProjectile} and recycles it, as the level does over the projectile's lifetime. Run with
+ * {@code -prof gc} to confirm that neither allocates per shot once the pool is warm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulletPatternBenchmark {
+
+    // Origin of the shots and the target the aimed burst turns towards
+    private static final double ORIGIN_X = 1000;
+    private static final double ORIGIN_Y = 512;
+    private static final double TARGET_X = 80;
+    private static final double TARGET_Y = 300;
+
+    // Shots per volley of every pattern
+    @Param({"8", "32", "128"})
+    public int arms;
+
+    // The engine under test and the sinks it fires into
+    private BulletPatternEngine engine;
+    private ShotSink consumingSink;
+    private ShotSink poolingSink;
+
+    // Sum of the consumed directions, so the shots are not eliminated
+    private double checksum;
+
+    /**
+     * Starts the headless toolkit, builds the patterns and fills the projectile pool.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessFx.start();
+        engine = new BulletPatternEngine();
+        engine.addPattern(BulletPattern.spiral(arms, 7, 1, 220));
+        engine.addPattern(BulletPattern.spiral(arms, -11, 1, 180));
+        engine.addPattern(BulletPattern.fan(arms, 120, 2, 260));
+        engine.addPattern(BulletPattern.aimedBurst(arms, 30, 3, 2, 1, 320));
+        consumingSink = (x, y, directionX, directionY, speed) -> checksum += directionX + directionY;
+        poolingSink = (x, y, directionX, directionY, speed) -> {
+            BossProjectile projectile = ActorPools.BOSS_PROJECTILES.acquire(x, y);
+            projectile.aim(directionX, directionY, speed);
+            projectile.recycle();
+        };
+        ActorPools.BOSS_PROJECTILES.prefill(1);
+    }
+
+    /**
+     * Fires one tick of the patterns into a sink that only consumes the shots.
+     *
+     * @return the number of shots, so the tick is not eliminated
+     */
+    @Benchmark
+    public double emitShots() {
+        return engine.update(ORIGIN_X, ORIGIN_Y, TARGET_X, TARGET_Y, consumingSink) + checksum;
+    }
+
+    /**
+     * Fires one tick of the patterns, acquiring and aiming a pooled projectile for every shot.
+     *
+     * @return the number of shots, so the tick is not eliminated
+     */
+    @Benchmark
+    public int spawnPooledShots() {
+        return engine.update(ORIGIN_X, ORIGIN_Y, TARGET_X, TARGET_Y, poolingSink);
+    }
+}
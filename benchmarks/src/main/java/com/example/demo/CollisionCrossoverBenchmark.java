@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds the entity count from which the parallel collision passes beat the serial ones, to choose the default
+ * {@link World#DEFAULT_PARALLEL_COLLISION_THRESHOLD}. Each entity count is stepped with every pass serial and with
+ * every pass parallel; the crossover is the smallest count at which the parallel step is faster. The world is laid
+ * out as in {@link WorldBenchmark}, so only the collision passes differ. Run on the target hardware: on a single
+ * core the world never runs passes in parallel unless forced, as here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionCrossoverBenchmark {
+
+    // Size of the simulated screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Elapsed time of one step at the game's tick rate
+    private static final double DT = 1.0 / 20;
+
+    // Seed for the body layout, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of enemies; the same number of user projectiles and a tenth as many enemy projectiles are added
+    @Param({"125", "250", "500", "1000", "2000", "4000", "8000"})
+    public int entityCount;
+
+    // Whether every collision pass runs in parallel or serially
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    // The world under test
+    private World world;
+
+    /**
+     * Fills a world with stationary enemies and projectiles spread over the screen.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        world = new World(WIDTH, HEIGHT, Integer.MAX_VALUE);
+        world.setParallelCollisionThreshold(parallel ? 0 : Integer.MAX_VALUE);
+        Body player = newBody(random, 150, 50);
+        world.addFriendly(player);
+        world.setPlayer(player);
+        for (int i = 0; i < entityCount; i++) {
+            world.addEnemy(newBody(random, 150, 60));
+            world.addUserProjectile(newBody(random, 80, 20));
+        }
+        for (int i = 0; i < entityCount / 10; i++) {
+            world.addEnemyProjectile(newBody(random, 60, 20));
+        }
+    }
+
+    /**
+     * Runs one simulation step.
+     *
+     * @return the world, so the step is not eliminated
+     */
+    @Benchmark
+    public World step() {
+        world.step(DT);
+        return world;
+    }
+
+    /**
+     * Creates a stationary body with effectively unlimited health at a random on-screen position.
+     *
+     * @param random the source of positions
+     * @param width the width of the body
+     * @param height the height of the body
+     * @return the new body
+     */
+    private static Body newBody(SplittableRandom random, double width, double height) {
+        Body body = new Body(random.nextDouble(WIDTH - width), random.nextDouble(HEIGHT - height), width, height);
+        body.setHealth(Integer.MAX_VALUE);
+        return body;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link EntityStore#removeDestroyed()}, the compaction the world runs at the end of every step.
+ * Before each invocation the store is topped up to the entity count and a fraction of it is destroyed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityRemovalBenchmark {
+
+    // Seed for choosing the destroyed entities, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of entities in the store before removal
+    @Param({"100", "1000", "10000"})
+    public int entityCount;
+
+    // Fraction of the entities destroyed before each removal
+    @Param({"0.01", "0.1", "0.5"})
+    public double destroyedFraction;
+
+    // The store under test and the bodies available to it
+    private EntityStore store;
+    private List<Body> bodies;
+    private SplittableRandom random;
+
+    /**
+     * Creates the bodies once for the whole trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new EntityStore();
+        bodies = new ArrayList<>(entityCount);
+        random = new SplittableRandom(SEED);
+        for (int i = 0; i < entityCount; i++) {
+            bodies.add(new Body(i, i, 10, 10));
+        }
+    }
+
+    /**
+     * Puts every unbound body back into the store and destroys a random fraction of the store.
+     */
+    @Setup(Level.Invocation)
+    public void destroySome() {
+        for (Body body : bodies) {
+            if (!body.isBound()) {
+                body.setDestroyed(false);
+                store.add(body, EntityStore.KIND_ENEMY);
+            }
+        }
+        for (Body body : bodies) {
+            if (random.nextDouble() < destroyedFraction) {
+                body.destroy();
+            }
+        }
+    }
+
+    /**
+     * Removes the destroyed entities.
+     *
+     * @return the number of removed entities
+     */
+    @Benchmark
+    public int removeDestroyed() {
+        return store.removeDestroyed();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares moving entities stored in the {@link EntityStore} arrays with moving the same entities stored as
+ * individual objects, the layout the world used before the store was introduced.
+ * Both benchmarks run the same integration step: save the previous position, apply the velocity,
+ * apply the vertical move only within the limits and age the entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityStoreBenchmark {
+
+    // Elapsed time of one step at the game's tick rate
+    private static final double DT = 1.0 / 20;
+
+    // Seed for the entity state, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of entities
+    @Param({"1000", "10000", "100000"})
+    public int entityCount;
+
+    // The same entities in both layouts
+    private EntityStore store;
+    private List<ObjectEntity> objects;
+
+    /**
+     * Creates the entities in both layouts. The objects are shuffled so that, as in a long-running level,
+     * neighbouring list entries are not neighbours in memory.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        store = new EntityStore();
+        objects = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            double x = random.nextDouble(1300);
+            double y = random.nextDouble(750);
+            double velocityX = random.nextDouble(-300, 300);
+            double velocityY = random.nextDouble(-160, 160);
+            Body body = new Body(x, y, 80, 20);
+            body.setVelocity(velocityX, velocityY);
+            body.setVerticalLimits(-40, 600);
+            store.add(body, EntityStore.KIND_USER_PROJECTILE);
+            objects.add(new ObjectEntity(x, y, velocityX, velocityY));
+        }
+        Collections.shuffle(objects, new Random(SEED));
+    }
+
+    /**
+     * Integrates the entities held in the store's parallel arrays.
+     *
+     * @return the store, so the step is not eliminated
+     */
+    @Benchmark
+    public EntityStore structureOfArrays() {
+        double[] x = store.x;
+        double[] y = store.y;
+        double[] previousX = store.previousX;
+        double[] previousY = store.previousY;
+        double[] velocityX = store.velocityX;
+        double[] velocityY = store.velocityY;
+        double[] minYLimit = store.minYLimit;
+        double[] maxYLimit = store.maxYLimit;
+        int[] ageInTicks = store.ageInTicks;
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.isDestroyed(i)) continue;
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i] * DT;
+            double newY = y[i] + velocityY[i] * DT;
+            if (newY >= minYLimit[i] && newY <= maxYLimit[i]) {
+                y[i] = newY;
+            }
+            ageInTicks[i]++;
+        }
+        return store;
+    }
+
+    /**
+     * Integrates the entities held as individual objects.
+     *
+     * @return the objects, so the step is not eliminated
+     */
+    @Benchmark
+    public List<ObjectEntity> arrayOfObjects() {
+        for (ObjectEntity entity : objects) {
+            if (entity.destroyed) continue;
+            entity.previousX = entity.x;
+            entity.previousY = entity.y;
+            entity.x += entity.velocityX * DT;
+            double newY = entity.y + entity.velocityY * DT;
+            if (newY >= entity.minYLimit && newY <= entity.maxYLimit) {
+                entity.y = newY;
+            }
+            entity.ageInTicks++;
+        }
+        return objects;
+    }
+
+    /**
+     * The per-object entity layout the world used before the {@link EntityStore}.
+     */
+    public static final class ObjectEntity {
+
+        // Entity state, mirroring the fields a body held on its own
+        double x;
+        double y;
+        double previousX;
+        double previousY;
+        double velocityX;
+        double velocityY;
+        double width = 80;
+        double height = 20;
+        double minYLimit = -40;
+        double maxYLimit = 600;
+        int health = 1;
+        int ageInTicks;
+        boolean destroyed;
+
+        /**
+         * Constructs an {@code ObjectEntity} at the specified position and velocity.
+         *
+         * @param x the X position
+         * @param y the Y position
+         * @param velocityX the horizontal velocity
+         * @param velocityY the vertical velocity
+         */
+        ObjectEntity(double x, double y, double velocityX, double velocityY) {
+            this.x = x;
+            this.y = y;
+            this.velocityX = velocityX;
+            this.velocityY = velocityY;
+        }
+    }
+}
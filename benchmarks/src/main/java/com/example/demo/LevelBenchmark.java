@@ -0,0 +1,110 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the per-tick phases of {@link LevelParent} that touch every actor: updating actors and
+ * removing destroyed actors from the actor lists and the scene graph. Runs level one on the headless
+ * JavaFX toolkit with the given number of enemies on screen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark {
+
+    // Size of the game screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Fraction of the enemies destroyed before each removal
+    private static final double DESTROYED_FRACTION = 0.1;
+
+    // Seed for enemy positions and destruction, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of enemies in the level
+    @Param({"10", "100", "1000"})
+    public int enemyCount;
+
+    // The level under test
+    private LevelParent level;
+    private SplittableRandom random;
+
+    /**
+     * Starts the headless toolkit and creates the level.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessFx.start();
+        level = new DefinedLevel(LevelDefinitions.get("level1"), HEIGHT, WIDTH, null);
+        level.initializeScene();
+        level.getRandom().reseed(SEED); // Spawn and fire the same way on every run
+        random = new SplittableRandom(SEED);
+    }
+
+    /**
+     * Tops the level up to the enemy count and destroys a fraction of the enemies,
+     * removing their bodies from the world as a step would.
+     */
+    @Setup(Level.Invocation)
+    public void fillLevel() {
+        for (int i = level.getWorld().getEnemyCount(); i < enemyCount; i++) {
+            level.addEnemyUnit(ActorPools.ENEMY_PLANES.acquire(random.nextDouble(WIDTH), random.nextDouble(HEIGHT)));
+        }
+        for (int i = 0, n = level.getWorld().getStore().size(); i < n; i++) {
+            Body body = level.getWorld().getStore().owners[i];
+            if (body != level.getUser().getBody() && random.nextDouble() < DESTROYED_FRACTION) {
+                body.destroy();
+            }
+        }
+        level.getWorld().getStore().removeDestroyed();
+    }
+
+    /**
+     * Removes the actors destroyed for the invocation, so the level returns to a steady state.
+     */
+    @TearDown(Level.Invocation)
+    public void removeDestroyed() {
+        level.removeAllDestroyedActors();
+    }
+
+    /**
+     * Updates every actor in the level.
+     *
+     * @return the level
+     */
+    @Benchmark
+    public LevelParent updateActors() {
+        level.updateActors();
+        return level;
+    }
+
+    /**
+     * Removes the destroyed actors from the actor lists and the scene graph.
+     *
+     * @return the level
+     */
+    @Benchmark
+    public LevelParent removeDestroyedActors() {
+        level.removeAllDestroyedActors();
+        return level;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the work left on the JavaFX thread when "Next Level" is clicked, before and after preloading:
+ * building Level Two there, as the transition used to, against taking a level that a {@link LevelPreloader}
+ * has already built. The background image is evicted before each shot, as it is not cached on the first
+ * transition of a game. Runs on the headless JavaFX toolkit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class LevelTransitionBenchmark {
+
+    // Screen size of the game and the background image of Level Two
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+
+    // Level Two being built in the background for the preloaded transition
+    private LevelPreloader preloader;
+
+    /**
+     * Starts the headless toolkit and packs the sprite atlas, which the game does once at startup.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessFx.start();
+        SpriteAtlas.getDefault();
+    }
+
+    /**
+     * Evicts the background image and preloads a fresh Level Two, waiting until it is built.
+     *
+     * @throws InterruptedException if interrupted while waiting for the preload
+     */
+    @Setup(Level.Iteration)
+    public void preload() throws InterruptedException {
+        SpriteCache.evict(BACKGROUND_IMAGE_NAME);
+        preloader = new LevelPreloader(LevelTransitionBenchmark::createLevelTwo);
+        while (!preloader.isReady()) {
+            Thread.sleep(1);
+        }
+        SpriteCache.evict(BACKGROUND_IMAGE_NAME); // The synchronous build must decode it again
+    }
+
+    /**
+     * Builds Level Two and its scene on the calling thread, as the transition did before preloading.
+     *
+     * @return the built level
+     */
+    @Benchmark
+    public LevelParent synchronousBuild() {
+        LevelParent level = createLevelTwo();
+        level.initializeScene();
+        return level;
+    }
+
+    /**
+     * Takes the level built in the background, the work left for the transition with preloading.
+     *
+     * @return the preloaded level
+     */
+    @Benchmark
+    public LevelParent preloadedTake() {
+        LevelParent level = preloader.take();
+        level.initializeScene(); // Returns the prebuilt scene
+        return level;
+    }
+
+    /**
+     * Creates Level Two at the game's screen size, without a stage.
+     *
+     * @return the new level
+     */
+    private static LevelParent createLevelTwo() {
+        return new DefinedLevel(LevelDefinitions.get("level2"), SCREEN_HEIGHT, SCREEN_WIDTH, null);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo;
+
+import java.util.Properties;
+
+/**
+ * Command-line entry point of the load ramp: starts the headless JavaFX toolkit and runs a {@link LoadGenerator}
+ * until the tick budget is exceeded. Arguments, all optional: {@code key=value} pairs overriding values of the
+ * level file, such as {@code wave.0.spawnChance=1} or {@code projectileSpeed=4}, and the options
+ * {@code --level=}, {@code --start=}, {@code --growth=}, {@code --max=}, {@code --settle=}, {@code --measure=} and
+ * {@code --fire=} (ticks between the bot's shots). Run with
+ * {@code java -cp benchmarks/target/benchmarks.jar com.example.demo.Load wave.0.spawnChance=1 playerHealth=50}.
+ */
+public final class Load {
+
+    // Size of the game screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Seed of the loaded levels, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    private Load() {
+    }
+
+    /**
+     * Runs the load ramp.
+     *
+     * @param args the level overrides and options
+     */
+    public static void main(String[] args) {
+        String levelId = "level2";
+        int start = 10;
+        double growth = 1.5;
+        int max = 20_000;
+        int settle = 300;
+        int measure = 512;
+        int fire = 2;
+        Properties overrides = new Properties();
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--level=")) {
+                levelId = value;
+            } else if (arg.startsWith("--start=")) {
+                start = Integer.parseInt(value);
+            } else if (arg.startsWith("--growth=")) {
+                growth = Double.parseDouble(value);
+            } else if (arg.startsWith("--max=")) {
+                max = Integer.parseInt(value);
+            } else if (arg.startsWith("--settle=")) {
+                settle = Integer.parseInt(value);
+            } else if (arg.startsWith("--measure=")) {
+                measure = Integer.parseInt(value);
+            } else if (arg.startsWith("--fire=")) {
+                fire = Integer.parseInt(value);
+            } else if (arg.contains("=") && !arg.startsWith("--")) {
+                overrides.setProperty(arg.substring(0, arg.indexOf('=')), value);
+            } else {
+                System.err.println("Ignoring unknown argument: " + arg);
+            }
+        }
+        HeadlessFx.start();
+        new LoadGenerator(levelId, overrides, HEIGHT, WIDTH, SEED, fire).run(start, growth, max, settle, measure, System.out);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a spawn-chance roll through {@code Math.random()}, which every thread shares, with a roll through a
+ * {@link GameRandom} owned by the rolling thread, on one thread and on four threads rolling at once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomBenchmark {
+
+    // Chance rolled by every benchmark, the spawn chance of level one
+    private static final double SPAWN_CHANCE = 0.20;
+
+    // Generator of the benchmark thread
+    private GameRandom random;
+
+    /**
+     * Creates the thread's generator with a fixed seed.
+     */
+    @Setup
+    public void setUp() {
+        random = new GameRandom(42);
+    }
+
+    /**
+     * Rolls the chance through the shared generator on one thread.
+     *
+     * @return the roll
+     */
+    @Benchmark
+    public boolean mathRandom() {
+        return Math.random() < SPAWN_CHANCE;
+    }
+
+    /**
+     * Rolls the chance through the thread's own generator on one thread.
+     *
+     * @return the roll
+     */
+    @Benchmark
+    public boolean gameRandom() {
+        return random.chance(SPAWN_CHANCE);
+    }
+
+    /**
+     * Rolls the chance through the shared generator on four threads at once.
+     *
+     * @return the roll
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean mathRandomContended() {
+        return Math.random() < SPAWN_CHANCE;
+    }
+
+    /**
+     * Rolls the chance through each thread's own generator on four threads at once.
+     *
+     * @return the roll
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean gameRandomContended() {
+        return random.chance(SPAWN_CHANCE);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.WritableImage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares showing actors as {@code ImageView} nodes with drawing them onto a canvas through the
+ * {@link CanvasActorRenderer}. {@code updateFrame} measures the per-frame work on the application thread:
+ * replacing a share of the actors, as spawning and removal do, handing the new positions to the renderer and
+ * bringing the scene's bounds up to date. {@code renderFrame} also rasterises the scene into an image with the
+ * headless software pipeline, whose pixel cost weighs the same for both modes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RendererBenchmark {
+
+    // Size of the game screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Seed for actor positions, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Share of the actors replaced every frame
+    private static final double REPLACED_FRACTION = 0.05;
+
+    // Number of actors on screen
+    @Param({"100", "1000", "5000"})
+    public int actorCount;
+
+    // Rendering mode under test
+    @Param({"nodes", "canvas"})
+    public String renderer;
+
+    // Actors, the scene they are shown in and the image frames are rendered into
+    private List<ActiveActorDestructible> actors;
+    private Group root;
+    private CanvasActorRenderer canvasRenderer;
+    private WritableImage frame;
+    private SnapshotParameters snapshotParameters;
+    private SplittableRandom random;
+
+    /**
+     * Starts the headless toolkit and builds the scene for the rendering mode.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessFx.start();
+        random = new SplittableRandom(SEED);
+        actors = new ArrayList<>(actorCount);
+        for (int i = 0; i < actorCount; i++) {
+            actors.add(new EnemyProjectile(random.nextDouble(WIDTH), random.nextDouble(HEIGHT)));
+        }
+        HeadlessFx.runAndWait(() -> {
+            root = new Group();
+            new Scene(root, WIDTH, HEIGHT);
+            if ("canvas".equals(renderer)) {
+                canvasRenderer = new CanvasActorRenderer(WIDTH, HEIGHT);
+                root.getChildren().add(canvasRenderer.getCanvas());
+            } else {
+                root.getChildren().addAll(actors);
+            }
+            frame = new WritableImage((int) WIDTH, (int) HEIGHT);
+            snapshotParameters = new SnapshotParameters();
+        });
+    }
+
+    /**
+     * Replaces a share of the actors, moves every actor and prepares one frame without rasterising it.
+     *
+     * @return the scene's root
+     */
+    @Benchmark
+    public Group updateFrame() {
+        for (ActiveActorDestructible actor : actors) {
+            actor.getBody().setPosition(random.nextDouble(WIDTH), random.nextDouble(HEIGHT));
+        }
+        HeadlessFx.runAndWait(() -> {
+            int replaced = (int) (actors.size() * REPLACED_FRACTION);
+            for (int i = 0; i < replaced; i++) {
+                ActiveActorDestructible actor = actors.remove(random.nextInt(actors.size()));
+                actors.add(actor);
+                if (canvasRenderer == null) {
+                    root.getChildren().remove(actor);
+                    root.getChildren().add(actor);
+                }
+            }
+            if (canvasRenderer != null) {
+                canvasRenderer.beginFrame();
+                canvasRenderer.draw(actors, 1.0);
+            } else {
+                for (ActiveActorDestructible actor : actors) {
+                    actor.syncView(1.0);
+                }
+            }
+            root.getBoundsInParent();
+        });
+        return root;
+    }
+
+    /**
+     * Moves every actor and renders one frame.
+     *
+     * @return the rendered frame
+     */
+    @Benchmark
+    public WritableImage renderFrame() {
+        for (ActiveActorDestructible actor : actors) {
+            actor.getBody().setPosition(random.nextDouble(WIDTH), random.nextDouble(HEIGHT));
+        }
+        HeadlessFx.runAndWait(() -> {
+            if (canvasRenderer != null) {
+                canvasRenderer.beginFrame();
+                canvasRenderer.draw(actors, 1.0);
+            } else {
+                for (ActiveActorDestructible actor : actors) {
+                    actor.syncView(1.0);
+                }
+            }
+            root.snapshot(snapshotParameters, frame);
+        });
+        return frame;
+    }
+}
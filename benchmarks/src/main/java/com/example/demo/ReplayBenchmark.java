@@ -0,0 +1,108 @@
+package com.example.demo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays a recorded session through {@code updateScene} as a repeatable load profile. The session is read from
+ * the file named by the {@code session} parameter, for example one recorded with {@code -Dskybattle.record=dir};
+ * without one, a scripted session is recorded on level one at setup. Each shot replays the whole session against
+ * a fresh level. Runs on the headless JavaFX toolkit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReplayBenchmark {
+
+    // Size of the game screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Length of the scripted session and the seed of its script, fixed so that runs are comparable
+    private static final int SCRIPTED_TICKS = 2000;
+    private static final long SEED = 42;
+
+    // Path of a recorded session to replay, or empty to record the scripted session
+    @Param({""})
+    public String session;
+
+    // Session replayed by every shot and the runner of the next shot
+    private InputLog log;
+    private ReplayRunner runner;
+
+    /**
+     * Starts the headless toolkit and reads or records the session.
+     *
+     * @throws IOException if the session cannot be read or recorded
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        HeadlessFx.start();
+        if (session.isEmpty()) {
+            log = InputLog.read(new ByteArrayInputStream(recordScriptedSession()));
+        } else {
+            try (InputStream input = Files.newInputStream(Paths.get(session))) {
+                log = InputLog.read(input);
+            }
+        }
+    }
+
+    /**
+     * Builds a fresh level for the next shot.
+     */
+    @Setup(Level.Iteration)
+    public void createRunner() {
+        runner = new ReplayRunner(log, HEIGHT, WIDTH);
+    }
+
+    /**
+     * Replays the whole session.
+     *
+     * @return the number of ticks run
+     */
+    @Benchmark
+    public long replay() {
+        return runner.run();
+    }
+
+    /**
+     * Plays level one with a {@link ScriptedPlayer}, recording the session in memory.
+     *
+     * @return the recorded session
+     * @throws IOException if the session cannot be recorded
+     */
+    private static byte[] recordScriptedSession() throws IOException {
+        LevelParent level = new DefinedLevel(LevelDefinitions.get(LevelDefinitions.FIRST_LEVEL_ID), HEIGHT, WIDTH, null);
+        level.initializeScene();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        level.startRecording(output);
+        ScriptedPlayer player = new ScriptedPlayer(SEED);
+        for (int tick = 0; tick < SCRIPTED_TICKS && !level.isGameOver(); tick++) {
+            player.act(level.getInputBus());
+            level.updateScene();
+        }
+        level.stopRecording();
+        return output.toByteArray();
+    }
+}
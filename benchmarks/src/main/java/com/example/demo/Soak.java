@@ -0,0 +1,50 @@
+package com.example.demo;
+
+/**
+ * Command-line entry point of the headless soak test: starts the headless JavaFX toolkit and runs a
+ * {@link SoakRunner}. Arguments, all optional and in order: the number of ticks (default 1,000,000), the ticks
+ * between reports (default 100,000) and the level identifier (default {@code level2}); {@code --gc} anywhere
+ * collects garbage before each heap sample. Run with
+ * {@code java -cp benchmarks/target/benchmarks.jar com.example.demo.Soak 5000000 250000 --gc}.
+ */
+public final class Soak {
+
+    // Size of the game screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Seed of the soaked levels and the scripted player, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    private Soak() {
+    }
+
+    /**
+     * Runs the soak test.
+     *
+     * @param args the tick count, the report interval, the level identifier and {@code --gc}
+     */
+    public static void main(String[] args) {
+        long ticks = 1_000_000;
+        long reportInterval = 100_000;
+        String levelId = "level2";
+        boolean collectBeforeSample = false;
+        int position = 0;
+        for (String arg : args) {
+            if (arg.equals("--gc")) {
+                collectBeforeSample = true;
+            } else if (position == 0) {
+                ticks = Long.parseLong(arg);
+                position++;
+            } else if (position == 1) {
+                reportInterval = Long.parseLong(arg);
+                position++;
+            } else {
+                levelId = arg;
+            }
+        }
+        HeadlessFx.start();
+        new SoakRunner(levelId, HEIGHT, WIDTH, SEED, collectBeforeSample).run(ticks, reportInterval, System.out);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link SpatialGrid} broad phase with the all-pairs check it replaced.
+ * Both benchmarks count the overlapping pairs between two sets of boxes spread over the screen,
+ * rebuilding the grid on every invocation as the world does on every tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialGridBenchmark {
+
+    // Size of the simulated screen and of the grid cells, matching the world
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+    private static final double CELL_SIZE = 100;
+
+    // Seed for the box layout, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of boxes in each set
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    // Boxes that are queried (projectiles) and boxes that are indexed (targets)
+    private double[] projectileBoxes;
+    private double[] targetBoxes;
+
+    // The grid under test
+    private SpatialGrid grid;
+
+    /**
+     * Generates the two sets of boxes.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        projectileBoxes = randomBoxes(random, 80, 20);
+        targetBoxes = randomBoxes(random, 150, 60);
+        grid = new SpatialGrid(WIDTH, HEIGHT, CELL_SIZE);
+    }
+
+    /**
+     * Counts overlapping pairs with the spatial grid.
+     *
+     * @return the number of overlapping pairs
+     */
+    @Benchmark
+    public int grid() {
+        grid.clear();
+        for (int i = 0; i < entityCount; i++) {
+            int b = i * 4;
+            grid.insert(i, targetBoxes[b], targetBoxes[b + 1], targetBoxes[b + 2], targetBoxes[b + 3]);
+        }
+        int pairs = 0;
+        for (int i = 0; i < entityCount; i++) {
+            int b = i * 4;
+            int candidates = grid.query(projectileBoxes[b], projectileBoxes[b + 1], projectileBoxes[b + 2], projectileBoxes[b + 3]);
+            for (int c = 0; c < candidates; c++) {
+                if (overlaps(projectileBoxes, i, targetBoxes, grid.getResult(c))) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Counts overlapping pairs by testing every projectile against every target.
+     *
+     * @return the number of overlapping pairs
+     */
+    @Benchmark
+    public int bruteForce() {
+        int pairs = 0;
+        for (int i = 0; i < entityCount; i++) {
+            for (int j = 0; j < entityCount; j++) {
+                if (overlaps(projectileBoxes, i, targetBoxes, j)) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Checks whether two boxes overlap. Touching edges count as an overlap.
+     *
+     * @param a the first set of boxes
+     * @param i the index of the box in the first set
+     * @param b the second set of boxes
+     * @param j the index of the box in the second set
+     * @return {@code true} if the boxes overlap, otherwise {@code false}
+     */
+    private static boolean overlaps(double[] a, int i, double[] b, int j) {
+        int p = i * 4;
+        int q = j * 4;
+        return a[p] <= b[q + 2] && b[q] <= a[p + 2] && a[p + 1] <= b[q + 3] && b[q + 1] <= a[p + 3];
+    }
+
+    /**
+     * Generates boxes of a fixed size at random positions, stored as min X, min Y, max X, max Y.
+     *
+     * @param random the source of positions
+     * @param width the width of each box
+     * @param height the height of each box
+     * @return the boxes, four values per box
+     */
+    private double[] randomBoxes(SplittableRandom random, double width, double height) {
+        double[] boxes = new double[entityCount * 4];
+        for (int i = 0; i < entityCount; i++) {
+            double x = random.nextDouble(WIDTH - width);
+            double y = random.nextDouble(HEIGHT - height);
+            boxes[i * 4] = x;
+            boxes[i * 4 + 1] = y;
+            boxes[i * 4 + 2] = x + width;
+            boxes[i * 4 + 3] = y + height;
+        }
+        return boxes;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LevelParent#spawnEnemyUnits()} for level one, starting every invocation from a level
+ * without enemies so that each call rolls for the full wave. Runs on the headless JavaFX toolkit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchmark {
+
+    // Seed of the level's randomness, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // The level under test
+    private LevelParent level;
+
+    /**
+     * Starts the headless toolkit and creates the level.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessFx.start();
+        level = new DefinedLevel(LevelDefinitions.get("level1"), 750, 1300, null);
+        level.initializeScene();
+        level.getRandom().reseed(SEED); // Spawn the same enemies on every run
+    }
+
+    /**
+     * Destroys the enemies spawned by the previous invocation and removes them, as a step would.
+     */
+    @Setup(Level.Invocation)
+    public void clearEnemies() {
+        EntityStore store = level.getWorld().getStore();
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.kind[i] == EntityStore.KIND_ENEMY) {
+                store.setDestroyed(i, true);
+            }
+        }
+        store.removeDestroyed();
+        level.removeAllDestroyedActors();
+    }
+
+    /**
+     * Runs the level's enemy spawning.
+     *
+     * @return the level
+     */
+    @Benchmark
+    public LevelParent spawnEnemyUnits() {
+        level.spawnEnemyUnits();
+        return level;
+    }
+}
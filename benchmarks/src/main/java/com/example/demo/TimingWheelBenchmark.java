@@ -0,0 +1,123 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one tick of {@code pendingTimers} cooldowns, each restarting with a random length of up to a minute at
+ * 20 ticks per second when it runs out. {@code advanceWheel} advances a {@link TimingWheel} holding the cooldowns,
+ * whose cost follows the number of timers expiring on the tick; {@code scanCountdowns} counts every cooldown down
+ * by hand, the per-entity countdown the wheel replaces, whose cost follows the number of pending cooldowns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+    // Longest cooldown, in ticks
+    private static final int MAX_DELAY_TICKS = 1200;
+
+    // Number of precomputed cooldown lengths, cycled through so that drawing one costs nothing
+    private static final int DELAY_TABLE_SIZE = 4096;
+
+    // Seed of the cooldown lengths, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of cooldowns running at any time
+    @Param({"1000", "10000", "100000"})
+    public int pendingTimers;
+
+    // The wheel holding the cooldowns and the callbacks restarting them
+    private TimingWheel wheel;
+    private TimerCallback[] callbacks;
+
+    // Ticks left of each cooldown, for the countdown scan
+    private int[] ticksLeft;
+
+    // Precomputed cooldown lengths and the next one to use
+    private int[] delays;
+    private int nextDelay;
+
+    // Number of cooldowns that ran out, so the callbacks are not eliminated
+    private long expired;
+
+    /**
+     * Starts every cooldown on the wheel and in the countdown array.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        delays = new int[DELAY_TABLE_SIZE];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = 1 + random.nextInt(MAX_DELAY_TICKS);
+        }
+        wheel = new TimingWheel();
+        callbacks = new TimerCallback[pendingTimers];
+        ticksLeft = new int[pendingTimers];
+        for (int i = 0; i < pendingTimers; i++) {
+            TimerCallback[] self = callbacks;
+            int index = i;
+            callbacks[i] = () -> {
+                expired++;
+                wheel.schedule(nextDelay(), self[index]); // Restart the cooldown
+            };
+            wheel.schedule(nextDelay(), callbacks[i]);
+            ticksLeft[i] = nextDelay();
+        }
+    }
+
+    /**
+     * Runs one tick of the wheel.
+     *
+     * @return the number of cooldowns that ran out so far
+     */
+    @Benchmark
+    public long advanceWheel() {
+        wheel.advance();
+        return expired;
+    }
+
+    /**
+     * Counts every cooldown down by one tick, restarting those that run out.
+     *
+     * @return the number of cooldowns that ran out so far
+     */
+    @Benchmark
+    public long scanCountdowns() {
+        int[] left = ticksLeft;
+        for (int i = 0; i < left.length; i++) {
+            if (--left[i] == 0) {
+                expired++;
+                left[i] = nextDelay(); // Restart the cooldown
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Draws the length of a cooldown.
+     *
+     * @return the length in ticks
+     */
+    private int nextDelay() {
+        int delay = delays[nextDelay];
+        nextDelay = (nextDelay + 1) & (DELAY_TABLE_SIZE - 1);
+        return delay;
+    }
+}
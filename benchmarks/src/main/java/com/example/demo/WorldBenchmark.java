@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a full {@link World#step(double)}, which covers movement, the three collision passes,
+ * enemy penetration, projectile retirement and removal of destroyed bodies.
+ * Every body has effectively unlimited health and stays on screen, so the world is in a steady state
+ * and each step does the same amount of work. {@code swept} compares continuous collisions with collisions
+ * tested at the end of the step only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBenchmark {
+
+    // Size of the simulated screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Elapsed time of one step at the game's tick rate
+    private static final double DT = 1.0 / 20;
+
+    // Seed for the body layout, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Number of enemies; the same number of user projectiles and a tenth as many enemy projectiles are added
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    // Whether collisions are tested over the motion of the step or at its end only
+    @Param({"true", "false"})
+    public boolean swept;
+
+    // The world under test
+    private World world;
+
+    /**
+     * Fills a world with stationary enemies and projectiles spread over the screen.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        world = new World(WIDTH, HEIGHT, Integer.MAX_VALUE);
+        world.setSweptCollisions(swept);
+        Body player = newBody(random, 150, 50);
+        world.addFriendly(player);
+        world.setPlayer(player);
+        for (int i = 0; i < entityCount; i++) {
+            world.addEnemy(newBody(random, 150, 60));
+            world.addUserProjectile(newBody(random, 80, 20));
+        }
+        for (int i = 0; i < entityCount / 10; i++) {
+            world.addEnemyProjectile(newBody(random, 60, 20));
+        }
+    }
+
+    /**
+     * Runs one simulation step.
+     *
+     * @return the world, so the step is not eliminated
+     */
+    @Benchmark
+    public World step() {
+        world.step(DT);
+        return world;
+    }
+
+    /**
+     * Creates a stationary body with effectively unlimited health at a random on-screen position.
+     *
+     * @param random the source of positions
+     * @param width the width of the body
+     * @param height the height of the body
+     * @return the new body
+     */
+    private static Body newBody(SplittableRandom random, double width, double height) {
+        Body body = new Body(random.nextDouble(WIDTH - width), random.nextDouble(HEIGHT - height), width, height);
+        body.setHealth(Integer.MAX_VALUE);
+        return body;
+    }
+}
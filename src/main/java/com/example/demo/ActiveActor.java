@@ -1,30 +1,37 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
  * Represents an abstract active actor in the game.
  * Extends {@link ImageView} to handle graphical representation and provides common functionality
  * for setting image properties, positioning, and movement.
+ * The actor's simulation state lives in a plain-Java {@link Body}; the {@code ImageView} is only a view
+ * that copies the body's position once per rendered frame through {@link #syncView(double)}.
  * Subclasses are required to implement the {@code updatePosition} method.
  */
 public abstract class ActiveActor extends ImageView {
 
-    // Directory path for images used in the game
-    private static final String IMAGE_DIRECTORY = "/com/example/demo/images/";
+    // Simulation state of the actor
+    private final Body body;
+
+    // Region of the shared sprite atlas the actor is drawn with
+    private final SpriteRegion sprite;
 
     /**
-     * Constructs an ActiveActor with the specified image, height, and initial position.
+     * Constructs an ActiveActor with the specified sprite, height, and initial position.
      *
-     * @param imageName   the name of the image file to use for this actor
+     * @param spriteName  the name of the sprite in the {@link SpriteAtlas} to use for this actor
      * @param imageHeight the height of the image in pixels
      * @param initialXPos the initial X position of the actor
      * @param initialYPos the initial Y position of the actor
      */
-    public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        // Set the image of the actor by loading it using the provided image name
-        setImage(loadImage(imageName));
+    public ActiveActor(String spriteName, int imageHeight, double initialXPos, double initialYPos) {
+        // Show the actor's region of the shared sprite atlas
+        SpriteAtlas atlas = SpriteAtlas.getDefault();
+        sprite = atlas.getRegion(spriteName);
+        setImage(atlas.getImage());
+        setViewport(sprite.getViewport());
 
         // Set the height of the image
         setFitHeight(imageHeight);
@@ -35,31 +42,93 @@ public abstract class ActiveActor extends ImageView {
 
         // Preserve the image's aspect ratio while resizing
         setPreserveRatio(true);
+
+        // Create the simulation body with the same size as the displayed image, colliding with the opaque part only
+        double scale = sprite.getHeight() > 0 ? (double) imageHeight / sprite.getHeight() : 1;
+        body = new Body(initialXPos, initialYPos, computeDisplayedWidth(imageHeight), imageHeight,
+                sprite.getOpaqueX() * scale, sprite.getOpaqueY() * scale,
+                sprite.getOpaqueWidth() * scale, sprite.getOpaqueHeight() * scale);
     }
 
     /**
-     * Loads the image resource based on the provided image name.
+     * Computes the displayed width of the sprite when it is scaled to the specified height with its aspect ratio preserved.
      *
-     * @param imageName the name of the image file to load
-     * @return the {@link Image} object loaded from the resources
+     * @param imageHeight the displayed height of the sprite
+     * @return the displayed width of the sprite, or the height if the sprite has no size
      */
-    private Image loadImage(String imageName) {
-        return new Image(getClass().getResource(IMAGE_DIRECTORY + imageName).toExternalForm());
+    private double computeDisplayedWidth(int imageHeight) {
+        if (sprite.getHeight() <= 0) {
+            return imageHeight;
+        }
+        return (double) sprite.getWidth() * imageHeight / sprite.getHeight();
     }
 
     /**
-     * Abstract method to update the position of the actor.
-     * Subclasses must implement this method to define how the actor's position is updated.
+     * Abstract method to update the movement of the actor.
+     * Subclasses must implement this method to set the velocity of the actor's body;
+     * the body is then moved by the {@link World} when it is stepped.
      */
     public abstract void updatePosition();
 
+    /**
+     * Gets the region of the sprite atlas the actor is drawn with.
+     *
+     * @return the actor's {@link SpriteRegion}
+     */
+    public SpriteRegion getSprite() {
+        return sprite;
+    }
+
+    /**
+     * Gets the simulation body of the actor.
+     *
+     * @return the {@link Body} holding the actor's position, velocity and health
+     */
+    public Body getBody() {
+        return body;
+    }
+
+    /**
+     * Copies the position of the actor's body to the view, interpolating between the last two simulation steps.
+     *
+     * @param alpha the interpolation factor, from 0 (previous step) to 1 (current step)
+     */
+    public void syncView(double alpha) {
+        setTranslateX(body.getInterpolatedX(alpha) - getLayoutX());
+        setTranslateY(body.getInterpolatedY(alpha) - getLayoutY());
+    }
+
+    /**
+     * Moves the actor back to the specified position and clears any accumulated movement.
+     *
+     * @param xPos the new X position of the actor
+     * @param yPos the new Y position of the actor
+     */
+    protected void resetPosition(double xPos, double yPos) {
+        setLayoutX(xPos);
+        setLayoutY(yPos);
+        setTranslateX(0);
+        setTranslateY(0);
+        body.setPosition(xPos, yPos);
+    }
+
+    /**
+     * Sets the velocity of the actor.
+     *
+     * @param velocityX the horizontal velocity in pixels per second
+     * @param velocityY the vertical velocity in pixels per second
+     */
+    protected void setVelocity(double velocityX, double velocityY) {
+        body.setVelocity(velocityX, velocityY);
+    }
+
     /**
      * Moves the actor horizontally by a specified delta value.
      *
      * @param deltaX the amount to move the actor along the X-axis
      */
     protected void moveHorizontally(double deltaX) {
-        setTranslateX(getTranslateX() + deltaX); // Adjust the X position by deltaX
+        body.moveBy(deltaX, 0); // Adjust the X position by deltaX
     }
 
     /**
@@ -68,6 +137,6 @@ public abstract class ActiveActor extends ImageView {
      * @param deltaY the amount to move the actor along the Y-axis
      */
     protected void moveVertically(double deltaY) {
-        setTranslateY(getTranslateY() + deltaY); // Adjust the Y position by deltaY
+        body.moveBy(0, deltaY); // Adjust the Y position by deltaY
     }
 }
@@ -8,23 +8,20 @@ package com.example.demo;
  */
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
-    // A boolean flag indicating whether the actor is destroyed
-    private boolean isDestroyed;
+    // The pool this actor was acquired from, or null if it is not currently pooled
+    private ActorPool<?> pool;
 
     /**
      * Constructs a destructible active actor with the specified image, height, and initial position.
      *
-     * @param imageName   the name of the image file to use for this actor
+     * @param spriteName  the name of the sprite in the {@link SpriteAtlas} to use for this actor
      * @param imageHeight the height of the image in pixels
      * @param initialXPos the initial X position of the actor
      * @param initialYPos the initial Y position of the actor
      */
-    public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
+    public ActiveActorDestructible(String spriteName, int imageHeight, double initialXPos, double initialYPos) {
         // Call the parent constructor to initialize the image and position
-        super(imageName, imageHeight, initialXPos, initialYPos);
-
-        // Initialize isDestroyed to false, meaning the actor is not destroyed by default
-        isDestroyed = false;
+        super(spriteName, imageHeight, initialXPos, initialYPos);
     }
 
     /**
@@ -62,7 +59,41 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * @param isDestroyed the new destroyed state of the actor
      */
     protected void setDestroyed(boolean isDestroyed) {
-        this.isDestroyed = isDestroyed;
+        getBody().setDestroyed(isDestroyed);
+    }
+
+    /**
+     * Resets the actor to its initial state at the specified position so that it can be reused.
+     * Subclasses with additional state must override this method and call the superclass implementation.
+     *
+     * @param initialXPos the initial X position of the actor
+     * @param initialYPos the initial Y position of the actor
+     */
+    public void reset(double initialXPos, double initialYPos) {
+        resetPosition(initialXPos, initialYPos);
+        getBody().respawn(initialXPos, initialYPos);
+    }
+
+    /**
+     * Records the pool this actor was acquired from.
+     *
+     * @param pool the owning pool
+     */
+    void setPool(ActorPool<?> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the actor to the pool it was acquired from, if any.
+     * The actor must already be removed from the scene graph and the level's tracking lists.
+     * Calling this method more than once, or on an actor that was not pooled, has no effect.
+     */
+    public void recycle() {
+        if (pool != null) {
+            ActorPool<?> owningPool = pool;
+            pool = null;
+            owningPool.release(this);
+        }
     }
 
     /**
@@ -71,6 +102,6 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * @return {@code true} if the actor is destroyed, {@code false} otherwise
      */
     public boolean isDestroyed() {
-        return isDestroyed;
+        return getBody().isDestroyed();
     }
 }
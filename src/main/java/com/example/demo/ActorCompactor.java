@@ -0,0 +1,83 @@
+package com.example.demo;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.scene.Node;
+
+/**
+ * The {@code ActorCompactor} class removes destroyed actors at the end of a tick in linear time.
+ * Each actor list is compacted in place, moving the surviving actors forward and truncating the tail,
+ * while the destroyed actors are gathered in an identity set. The scene graph is then updated with a
+ * single batched removal, so it fires one change event per tick instead of one per list, and membership
+ * checks against the set are constant time instead of a scan of the removed actors.
+ * The compactor keeps its storage between ticks, so a tick without destroyed actors does not allocate.
+ */
+public class ActorCompactor {
+
+    // Destroyed actors gathered during the current tick, compared by identity
+    private final Set<ActiveActorDestructible> destroyedActors;
+
+    /**
+     * Constructs an empty {@code ActorCompactor}.
+     */
+    public ActorCompactor() {
+        this.destroyedActors = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Removes the destroyed actors from a list in place, keeping the order of the remaining actors,
+     * and gathers them for {@link #flush(List)}.
+     *
+     * @param actors the list of actors to compact
+     * @return the number of actors removed from the list
+     */
+    public int compact(List<ActiveActorDestructible> actors) {
+        int size = actors.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (actor.isDestroyed()) {
+                destroyedActors.add(actor);
+            } else {
+                if (kept != i) {
+                    actors.set(kept, actor); // Move the survivor forward over a destroyed actor
+                }
+                kept++;
+            }
+        }
+        if (kept < size) {
+            actors.subList(kept, size).clear(); // Drop the tail in one range removal
+        }
+        return size - kept;
+    }
+
+    /**
+     * Removes every gathered actor from the scene graph in one batched change and returns pooled actors
+     * to their pools.
+     *
+     * @param sceneNodes the children of the scene graph node holding the actors
+     * @return the number of actors removed
+     */
+    public int flush(List<Node> sceneNodes) {
+        int removed = destroyedActors.size();
+        if (removed == 0) return 0; // Nothing was destroyed this tick
+        sceneNodes.removeAll(destroyedActors);
+        for (ActiveActorDestructible actor : destroyedActors) {
+            actor.recycle(); // Return pooled actors for reuse
+        }
+        destroyedActors.clear();
+        return removed;
+    }
+
+    /**
+     * Gets the number of destroyed actors gathered and not yet flushed.
+     *
+     * @return the pending actor count
+     */
+    public int getPendingCount() {
+        return destroyedActors.size();
+    }
+}
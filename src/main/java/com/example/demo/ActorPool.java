@@ -0,0 +1,161 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * The {@code ActorPool} class recycles instances of an {@link ActiveActorDestructible} subtype so that
+ * spawning planes and projectiles in the game loop does not allocate new {@code ImageView} nodes.
+ * Acquired actors are reset to their initial state at the requested position, and released actors are kept
+ * for reuse until the pool holds its maximum number of idle actors; any further releases are left to the garbage collector.
+ * Pools are used from the JavaFX application thread only and are not thread-safe.
+ *
+ * @param <T> the type of actor held by the pool
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+    // Factory used to create actors when the pool is empty
+    private final Supplier<T> factory;
+
+    // Maximum number of idle actors kept for reuse
+    private final int maxIdle;
+
+    // Idle actors ready to be acquired
+    private final ArrayDeque<T> idleActors;
+
+    // Pool statistics
+    private int inUseCount;
+    private int highWaterMark;
+    private long createdCount;
+    private long reusedCount;
+    private long discardedCount;
+
+    /**
+     * Constructs an {@code ActorPool} that creates actors with the specified factory.
+     *
+     * @param factory the factory used to create new actors
+     * @param maxIdle the maximum number of idle actors kept for reuse
+     */
+    public ActorPool(Supplier<T> factory, int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("Maximum idle size must not be negative: " + maxIdle);
+        }
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+        this.idleActors = new ArrayDeque<>(maxIdle);
+    }
+
+    /**
+     * Acquires an actor from the pool, creating one if no idle actor is available,
+     * and resets it to its initial state at the specified position.
+     *
+     * @param initialXPos the initial X position of the actor
+     * @param initialYPos the initial Y position of the actor
+     * @return an actor ready to be added to the game
+     */
+    public T acquire(double initialXPos, double initialYPos) {
+        T actor = idleActors.pollLast();
+        if (actor == null) {
+            actor = factory.get();
+            createdCount++;
+        } else {
+            reusedCount++;
+        }
+        actor.reset(initialXPos, initialYPos);
+        actor.setPool(this);
+        inUseCount++;
+        highWaterMark = Math.max(highWaterMark, inUseCount);
+        return actor;
+    }
+
+    /**
+     * Returns an actor to the pool. Callers should use {@link ActiveActorDestructible#recycle()},
+     * which guarantees that an actor is released at most once.
+     *
+     * @param actor the actor to release; it must have been acquired from this pool
+     */
+    @SuppressWarnings("unchecked")
+    void release(ActiveActorDestructible actor) {
+        inUseCount--;
+        if (idleActors.size() < maxIdle) {
+            idleActors.addLast((T) actor);
+        } else {
+            discardedCount++; // Pool is full, let the garbage collector reclaim the actor
+        }
+    }
+
+    /**
+     * Creates idle actors up front so that the first acquisitions do not allocate.
+     *
+     * @param count the number of actors to create, capped at the maximum idle size
+     */
+    public void prefill(int count) {
+        while (idleActors.size() < Math.min(count, maxIdle)) {
+            idleActors.addLast(factory.get());
+            createdCount++;
+        }
+    }
+
+    /**
+     * Gets the number of idle actors currently held by the pool.
+     *
+     * @return the idle actor count
+     */
+    public int getIdleCount() {
+        return idleActors.size();
+    }
+
+    /**
+     * Gets the number of acquired actors that have not been released yet.
+     *
+     * @return the in-use actor count
+     */
+    public int getInUseCount() {
+        return inUseCount;
+    }
+
+    /**
+     * Gets the highest number of actors that were in use at the same time.
+     *
+     * @return the high-water mark of in-use actors
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Gets the total number of actors created by the pool's factory.
+     *
+     * @return the created actor count
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Gets the number of acquisitions that were served by an idle actor.
+     *
+     * @return the reused actor count
+     */
+    public long getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * Gets the number of released actors that were dropped because the pool was full.
+     *
+     * @return the discarded actor count
+     */
+    public long getDiscardedCount() {
+        return discardedCount;
+    }
+
+    /**
+     * Gets the maximum number of idle actors kept for reuse.
+     *
+     * @return the maximum idle size
+     */
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+}
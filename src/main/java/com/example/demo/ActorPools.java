@@ -0,0 +1,65 @@
+package com.example.demo;
+
+/**
+ * The {@code ActorPools} class holds the shared {@link ActorPool} instances for the actors
+ * that are spawned and destroyed continuously during a level.
+ */
+public final class ActorPools {
+
+    // Maximum number of idle actors kept by each pool
+    private static final int MAX_IDLE_USER_PROJECTILES = 64;
+    private static final int MAX_IDLE_ENEMY_PROJECTILES = 128;
+    private static final int MAX_IDLE_BOSS_PROJECTILES = 1024; // Bullet patterns keep hundreds in flight
+    private static final int MAX_IDLE_ENEMY_PLANES = 32;
+
+    /**
+     * Pool of projectiles fired by the user's plane.
+     */
+    public static final ActorPool<UserProjectile> USER_PROJECTILES =
+            new ActorPool<>(() -> new UserProjectile(0, 0), MAX_IDLE_USER_PROJECTILES);
+
+    /**
+     * Pool of projectiles fired by enemy planes.
+     */
+    public static final ActorPool<EnemyProjectile> ENEMY_PROJECTILES =
+            new ActorPool<>(() -> new EnemyProjectile(0, 0), MAX_IDLE_ENEMY_PROJECTILES);
+
+    /**
+     * Pool of projectiles fired by the boss.
+     */
+    public static final ActorPool<BossProjectile> BOSS_PROJECTILES =
+            new ActorPool<>(() -> new BossProjectile(0), MAX_IDLE_BOSS_PROJECTILES);
+
+    /**
+     * Pool of enemy planes.
+     */
+    public static final ActorPool<EnemyPlane> ENEMY_PLANES =
+            new ActorPool<>(() -> new EnemyPlane(0, 0), MAX_IDLE_ENEMY_PLANES);
+
+    /**
+     * Name of the enemy plane in level spawn tables.
+     */
+    public static final String ENEMY_PLANE_TYPE = "enemyplane";
+
+    /**
+     * Gets the pool of an enemy type named in a level spawn table.
+     *
+     * @param type the name of the enemy type
+     * @return the pool spawning that type
+     * @throws IllegalArgumentException if no enemy type has the name
+     */
+    public static ActorPool<? extends ActiveActorDestructible> forEnemyType(String type) {
+        switch (type) {
+            case ENEMY_PLANE_TYPE:
+                return ENEMY_PLANES;
+            default:
+                throw new IllegalArgumentException("Unknown enemy type: " + type);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ActorPools() {
+    }
+}
@@ -1,46 +1,154 @@
 package com.example.demo;
 
+import java.net.URL;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
 
 /**
- * This class handles the background audio playback for the game.
- * It provides methods to play, stop, and adjust the volume of the background music.
+ * The {@code Audio} class is the game's single audio service: it owns the background music and the sound effects
+ * for the whole process, so levels and transitions share them instead of each creating their own players.
+ * <p>
+ * Music is played by one {@link MediaPlayer} that is reused while the same track is requested again, such as when a
+ * level is restarted or followed by a level with the same music. Changing tracks crossfades: the new track fades in
+ * while the old one fades out and is then disposed, so at most two music players exist at any time.
+ * </p>
+ * <p>
+ * Sound effects are {@link AudioClip}s decoded once into memory and replayed from there. Plays are bounded by a
+ * fixed table of {@value #MAX_VOICES} voices: each effect may hold a limited number of them, and when every voice is
+ * busy a new effect takes over the voice of a lower-priority one, stopping it; otherwise it is dropped. A burst of
+ * fire therefore never starts more than a handful of sounds. {@code AudioClip} does not report when a play ends, so
+ * a voice is held for the nominal length of its effect. The choice of voices is made by a {@link VoiceTable}.
+ * </p>
+ * <p>
+ * All methods must be called on the JavaFX application thread. Audio can be switched off, as headless runs do,
+ * with {@link #setEnabled(boolean)} or the {@code skybattle.audio} system property.
+ * </p>
  */
-public class Audio {
+public final class Audio {
 
-    // MediaPlayer instance to play background music
-    private MediaPlayer backgroundMusicPlayer;
+    /**
+     * Effect played when the user's plane fires.
+     */
+    public static final int EFFECT_USER_SHOT = 0;
 
     /**
-     * Plays background music from the specified file.
-     *
-     * @param musicFileName the name of the music file located in the classpath
+     * Effect played when an enemy or the boss fires.
      */
-    public void playBackgroundMusic(String musicFileName) {
-        try {
-            // Get the file path of the music file from the classpath
-            String filePath = getClass().getClassLoader().getResource(musicFileName).toExternalForm();
+    public static final int EFFECT_ENEMY_SHOT = 1;
 
-            // If the file is not found, throw an exception
-            if (filePath == null) {
-                throw new Exception("Music file not found: " + musicFileName);
-            }
+    /**
+     * Effect played when enemies are destroyed.
+     */
+    public static final int EFFECT_EXPLOSION = 2;
+
+    /**
+     * Effect played when the player loses.
+     */
+    public static final int EFFECT_GAME_OVER = 3;
+
+    /**
+     * Number of effects.
+     */
+    public static final int EFFECT_COUNT = 4;
 
-            // Create a new Media object with the file path
-            Media media = new Media(filePath);
+    /**
+     * Maximum number of effects playing at once.
+     */
+    public static final int MAX_VOICES = 8;
+
+    // Resource of each effect, indexed by effect
+    private static final String[] EFFECT_PATHS = {
+        "/com/example/demo/images/UserShot.wav",
+        "/com/example/demo/images/EnemyShot.wav",
+        "/com/example/demo/images/Explosion.wav",
+        "/com/example/demo/images/GameOver.mp3"
+    };
+
+    // Priority of each effect, higher effects taking over the voices of lower ones
+    private static final int[] EFFECT_PRIORITIES = {1, 0, 2, 3};
+
+    // Maximum number of voices each effect may hold at once
+    private static final int[] EFFECT_MAX_VOICES = {3, 3, 2, 1};
+
+    // Nominal length of each effect, for which its voice is held
+    private static final long[] EFFECT_LENGTH_NANOS = {200_000_000L, 200_000_000L, 600_000_000L, 4_200_000_000L};
+
+    // Volume of each effect, before the effects volume is applied
+    private static final double[] EFFECT_VOLUMES = {0.5, 0.3, 0.8, 1.0};
 
-            // Create a new MediaPlayer for the media file
-            backgroundMusicPlayer = new MediaPlayer(media);
+    // Time taken by music to fade in or out
+    private static final Duration MUSIC_FADE = Duration.millis(1500);
 
-            // Set the music to loop indefinitely
-            backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE);
+    // System property switching audio off when set to false
+    private static final String AUDIO_PROPERTY = "skybattle.audio";
 
-            // Set the volume of the music to full (1.0)
-            backgroundMusicPlayer.setVolume(1.0);
+    // Whether audio is played at all
+    private static boolean enabled = !"false".equalsIgnoreCase(System.getProperty(AUDIO_PROPERTY));
 
-            // Start playing the background music
-            backgroundMusicPlayer.play();
+    // Music player of the current track, its track, and the fade running on it
+    private static MediaPlayer musicPlayer;
+    private static String musicPath;
+    private static Timeline musicFade;
+
+    // Music player of the previous track while it fades out, its track, and its fade
+    private static MediaPlayer outgoingPlayer;
+    private static String outgoingPath;
+    private static Timeline outgoingFade;
+
+    // Volume of the music and of the effects, from 0.0 to 1.0
+    private static double musicVolume = 1.0;
+    private static double effectsVolume = 1.0;
+
+    // Decoded effects, indexed by effect, once loaded
+    private static AudioClip[] clips;
+
+    // Voices of the effects
+    private static final VoiceTable VOICES =
+            new VoiceTable(MAX_VOICES, EFFECT_PRIORITIES, EFFECT_MAX_VOICES, EFFECT_LENGTH_NANOS);
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Audio() {
+    }
+
+    /**
+     * Plays a music track in a loop. Requesting the track already playing keeps it going; a stopped track resumes
+     * from its start on the same player. Any other track crossfades with the current one.
+     *
+     * @param musicFileName the absolute classpath resource path of the music file
+     */
+    public static void playMusic(String musicFileName) {
+        if (!enabled) return;
+        try {
+            if (!musicFileName.equals(musicPath)) {
+                MediaPlayer previous = musicPlayer;
+                String previousPath = musicPath;
+                stopFade(musicFade);
+                if (musicFileName.equals(outgoingPath)) { // Bring the fading track back
+                    stopFade(outgoingFade);
+                    musicPlayer = outgoingPlayer;
+                } else {
+                    disposeOutgoing();
+                    musicPlayer = createMusicPlayer(musicFileName);
+                }
+                musicPath = musicFileName;
+                outgoingPlayer = null;
+                outgoingPath = null;
+                if (previous != null) {
+                    fadeOut(previous, previousPath);
+                }
+            }
+            stopFade(musicFade);
+            musicPlayer.play();
+            musicFade = fade(musicPlayer, musicVolume, null);
         } catch (Exception e) {
             // If an error occurs while loading or playing the music, print the error message
             System.err.println("Error loading or playing background music: " + e.getMessage());
@@ -49,25 +157,210 @@ public class Audio {
     }
 
     /**
-     * Stops the background music if it is currently playing.
+     * Fades the music out and stops it, keeping its player for the next {@link #playMusic(String)} of the track.
      */
-    public void stopBackgroundMusic() {
-        if (backgroundMusicPlayer != null) {
-            // Stop the music if the MediaPlayer is initialized
-            backgroundMusicPlayer.stop();
+    public static void stopMusic() {
+        if (musicPlayer == null) return; // No music has been played
+        MediaPlayer player = musicPlayer;
+        stopFade(musicFade);
+        musicFade = fade(player, 0, player::stop);
+    }
+
+    /**
+     * Sets the volume of the music. A fade in progress keeps its course, and the volume applies from the next one.
+     *
+     * @param volume the desired volume level (value between 0.0 and 1.0)
+     */
+    public static void setMusicVolume(double volume) {
+        musicVolume = Math.max(0, Math.min(1, volume));
+        boolean isFading = musicFade != null && musicFade.getStatus() == Animation.Status.RUNNING;
+        if (musicPlayer != null && musicPlayer.getStatus() == MediaPlayer.Status.PLAYING && !isFading) {
+            musicPlayer.setVolume(musicVolume);
         }
     }
 
     /**
-     * Sets the volume level of the background music.
+     * Sets the volume of the sound effects started from now on.
      *
      * @param volume the desired volume level (value between 0.0 and 1.0)
      */
-    public void setVolume(double volume) {
-        if (backgroundMusicPlayer != null) {
-            // Set the volume if the MediaPlayer is initialized
-            backgroundMusicPlayer.setVolume(volume);
+    public static void setEffectsVolume(double volume) {
+        effectsVolume = Math.max(0, Math.min(1, volume));
+    }
+
+    /**
+     * Decodes every sound effect ahead of time, so that the first play of an effect does not decode it during the
+     * game. Effects are loaded once per process; effects that fail to load stay silent.
+     */
+    public static void preloadEffects() {
+        if (!enabled || clips != null) return; // Disabled or already loaded
+        clips = new AudioClip[EFFECT_COUNT];
+        for (int effect = 0; effect < EFFECT_COUNT; effect++) {
+            String path = EFFECT_PATHS[effect];
+            if (path == null) continue; // No sound is shipped for this effect
+            try {
+                URL url = Audio.class.getResource(path);
+                if (url == null) {
+                    throw new IllegalArgumentException("Sound effect not found: " + path);
+                }
+                clips[effect] = new AudioClip(url.toExternalForm());
+            } catch (Exception e) {
+                System.err.println("Error loading sound effect: " + e.getMessage());
+            }
         }
     }
-}
 
+    /**
+     * Plays a sound effect on a free voice, on the voice of a lower-priority effect if every voice is busy, or not
+     * at all if the effect already holds all the voices it may, or only effects of equal or higher priority play.
+     * Taking over a voice stops every play of the effect holding it, as {@code AudioClip} cannot stop a single one.
+     *
+     * @param effect the effect, one of the {@code EFFECT_} constants
+     */
+    public static void playEffect(int effect) {
+        if (!enabled) return;
+        preloadEffects();
+        AudioClip clip = clips[effect];
+        if (clip == null) return; // The effect has no sound
+
+        if (VOICES.allocate(effect, System.nanoTime()) == VoiceTable.NO_VOICE) return; // Dropped
+        if (VOICES.getStolenEffect() != VoiceTable.NO_EFFECT) {
+            clips[VOICES.getStolenEffect()].stop(); // Its voices were taken over
+        }
+        clip.play(EFFECT_VOLUMES[effect] * effectsVolume);
+    }
+
+    /**
+     * Switches audio on or off. Switching it off stops the music and every effect.
+     *
+     * @param isEnabled {@code true} to play audio, {@code false} to stay silent
+     */
+    public static void setEnabled(boolean isEnabled) {
+        if (!isEnabled && enabled) {
+            if (musicPlayer != null) {
+                stopFade(musicFade);
+                musicPlayer.stop();
+            }
+            disposeOutgoing();
+            if (clips != null) {
+                for (AudioClip clip : clips) {
+                    if (clip != null) clip.stop();
+                }
+            }
+            VOICES.clear();
+        }
+        enabled = isEnabled;
+    }
+
+    /**
+     * Checks whether audio is played.
+     *
+     * @return {@code true} if audio is enabled, otherwise {@code false}
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the number of sound effects started since the process started.
+     *
+     * @return the played effect count
+     */
+    public static long getEffectsPlayed() {
+        return VOICES.getPlayedCount();
+    }
+
+    /**
+     * Gets the number of sound effects dropped because no voice could be given to them.
+     *
+     * @return the dropped effect count
+     */
+    public static long getEffectsDropped() {
+        return VOICES.getDroppedCount();
+    }
+
+    /**
+     * Gets the number of times an effect took over the voices of a lower-priority one.
+     *
+     * @return the stolen voice count
+     */
+    public static long getEffectsStolen() {
+        return VOICES.getStolenCount();
+    }
+
+    /**
+     * Creates a silent, looping music player for a track.
+     *
+     * @param musicFileName the absolute classpath resource path of the music file
+     * @return the music player
+     * @throws IllegalArgumentException if the music file cannot be found
+     */
+    private static MediaPlayer createMusicPlayer(String musicFileName) {
+        // Get the URL of the music file from the classpath
+        URL url = Audio.class.getResource(musicFileName);
+        if (url == null) {
+            throw new IllegalArgumentException("Music file not found: " + musicFileName);
+        }
+        MediaPlayer player = new MediaPlayer(new Media(url.toExternalForm()));
+        player.setCycleCount(MediaPlayer.INDEFINITE); // Loop the music indefinitely
+        player.setVolume(0); // Faded in when played
+        player.setOnError(() -> System.err.println("Error playing background music: " + player.getError()));
+        return player;
+    }
+
+    /**
+     * Fades a replaced track out and disposes its player once silent, unless the track is requested again first.
+     *
+     * @param player the player of the replaced track
+     * @param path the replaced track
+     */
+    private static void fadeOut(MediaPlayer player, String path) {
+        outgoingPlayer = player;
+        outgoingPath = path;
+        outgoingFade = fade(player, 0, () -> {
+            if (outgoingPlayer == player) {
+                disposeOutgoing();
+            }
+        });
+    }
+
+    /**
+     * Disposes the player of the track fading out, if any.
+     */
+    private static void disposeOutgoing() {
+        if (outgoingPlayer == null) return;
+        stopFade(outgoingFade);
+        outgoingPlayer.dispose();
+        outgoingPlayer = null;
+        outgoingPath = null;
+        outgoingFade = null;
+    }
+
+    /**
+     * Starts fading a player's volume to a level.
+     *
+     * @param player the player to fade
+     * @param volume the volume to reach
+     * @param onFinished the action to run once the volume is reached, or {@code null}
+     * @return the running fade
+     */
+    private static Timeline fade(MediaPlayer player, double volume, Runnable onFinished) {
+        Timeline timeline = new Timeline(new KeyFrame(MUSIC_FADE, new KeyValue(player.volumeProperty(), volume)));
+        if (onFinished != null) {
+            timeline.setOnFinished(e -> onFinished.run());
+        }
+        timeline.play();
+        return timeline;
+    }
+
+    /**
+     * Stops a fade where it is, if it is running.
+     *
+     * @param timeline the fade, or {@code null}
+     */
+    private static void stopFade(Timeline timeline) {
+        if (timeline != null) {
+            timeline.stop();
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.example.demo;
+
+/**
+ * The {@code Body} class holds the simulation state of a single entity: its axis-aligned bounding box,
+ * hitbox, velocity, health, age and destroyed state. The bounding box is the area the entity is drawn in;
+ * the hitbox is the part of it that collides, usually the opaque bounds of the entity's sprite.
+ * While a body is part of a {@link World}, its state lives in the world's {@link EntityStore} and the body acts
+ * as a handle to its slot there; once it leaves the world, its final state is copied back into its own fields.
+ * Bodies have no dependency on the JavaFX toolkit, and {@link ActiveActor} nodes copy their position
+ * from their body once per rendered frame.
+ */
+public class Body {
+
+    // Store and slot holding the state while the body is part of a world, or null while it is not
+    private EntityStore store;
+    private int slot;
+
+    // Top-left position and size of the bounding box
+    private double x;
+    private double y;
+    private final double width;
+    private final double height;
+
+    // Edges of the hitbox relative to the top-left position
+    private final double hitboxLeft;
+    private final double hitboxTop;
+    private final double hitboxRight;
+    private final double hitboxBottom;
+
+    // Position at the start of the latest step, used to interpolate rendering between steps
+    private double previousX;
+    private double previousY;
+
+    // Velocity in pixels per second
+    private double velocityX;
+    private double velocityY;
+
+    // Vertical range the top of the body may move within
+    private double minYLimit = Double.NEGATIVE_INFINITY;
+    private double maxYLimit = Double.POSITIVE_INFINITY;
+
+    // Health and lifetime state
+    private int health;
+    private int ageInTicks;
+    private boolean destroyed;
+    private boolean invulnerable;
+
+    /**
+     * Constructs a {@code Body} with a health of one, whose hitbox is its whole bounding box.
+     *
+     * @param x the initial X position of the top-left corner
+     * @param y the initial Y position of the top-left corner
+     * @param width the width of the bounding box
+     * @param height the height of the bounding box
+     */
+    public Body(double x, double y, double width, double height) {
+        this(x, y, width, height, 0, 0, width, height);
+    }
+
+    /**
+     * Constructs a {@code Body} with a health of one and a hitbox within its bounding box.
+     *
+     * @param x the initial X position of the top-left corner
+     * @param y the initial Y position of the top-left corner
+     * @param width the width of the bounding box
+     * @param height the height of the bounding box
+     * @param hitboxX the X position of the hitbox relative to the top-left corner
+     * @param hitboxY the Y position of the hitbox relative to the top-left corner
+     * @param hitboxWidth the width of the hitbox
+     * @param hitboxHeight the height of the hitbox
+     */
+    public Body(double x, double y, double width, double height,
+                double hitboxX, double hitboxY, double hitboxWidth, double hitboxHeight) {
+        this.width = width;
+        this.height = height;
+        this.hitboxLeft = hitboxX;
+        this.hitboxTop = hitboxY;
+        this.hitboxRight = hitboxX + hitboxWidth;
+        this.hitboxBottom = hitboxY + hitboxHeight;
+        this.health = 1;
+        respawn(x, y);
+    }
+
+    /**
+     * Copies the state of the body into a slot of a store and makes the store the owner of the state.
+     *
+     * @param entityStore the store holding the body's state from now on
+     * @param entitySlot the slot of the body in the store
+     */
+    void bind(EntityStore entityStore, int entitySlot) {
+        entityStore.x[entitySlot] = x;
+        entityStore.y[entitySlot] = y;
+        entityStore.previousX[entitySlot] = previousX;
+        entityStore.previousY[entitySlot] = previousY;
+        entityStore.velocityX[entitySlot] = velocityX;
+        entityStore.velocityY[entitySlot] = velocityY;
+        entityStore.width[entitySlot] = width;
+        entityStore.height[entitySlot] = height;
+        entityStore.hitboxLeft[entitySlot] = hitboxLeft;
+        entityStore.hitboxTop[entitySlot] = hitboxTop;
+        entityStore.hitboxRight[entitySlot] = hitboxRight;
+        entityStore.hitboxBottom[entitySlot] = hitboxBottom;
+        entityStore.minYLimit[entitySlot] = minYLimit;
+        entityStore.maxYLimit[entitySlot] = maxYLimit;
+        entityStore.health[entitySlot] = health;
+        entityStore.ageInTicks[entitySlot] = ageInTicks;
+        entityStore.setDestroyed(entitySlot, destroyed);
+        entityStore.setInvulnerable(entitySlot, invulnerable);
+        entityStore.updateHitbox(entitySlot);
+        store = entityStore;
+        slot = entitySlot;
+    }
+
+    /**
+     * Copies the state of the body back from its store and detaches the body from the store.
+     */
+    void unbind() {
+        x = store.x[slot];
+        y = store.y[slot];
+        previousX = store.previousX[slot];
+        previousY = store.previousY[slot];
+        velocityX = store.velocityX[slot];
+        velocityY = store.velocityY[slot];
+        minYLimit = store.minYLimit[slot];
+        maxYLimit = store.maxYLimit[slot];
+        health = store.health[slot];
+        ageInTicks = store.ageInTicks[slot];
+        destroyed = store.isDestroyed(slot);
+        invulnerable = store.isInvulnerable(slot);
+        store.setInvulnerable(slot, false); // The slot is about to be freed or reused
+        store = null;
+    }
+
+    /**
+     * Records that the store moved the body's state to another slot.
+     *
+     * @param entitySlot the new slot of the body
+     */
+    void moveTo(int entitySlot) {
+        slot = entitySlot;
+    }
+
+    /**
+     * Checks whether the body is part of a world.
+     *
+     * @return {@code true} if the body's state is held by an entity store, otherwise {@code false}
+     */
+    public boolean isBound() {
+        return store != null;
+    }
+
+    /**
+     * Returns the body to a fresh state at the specified position: stationary, with its age cleared, not destroyed
+     * and not invulnerable.
+     * Health is left unchanged and must be restored by the owner if needed.
+     *
+     * @param newX the new X position of the top-left corner
+     * @param newY the new Y position of the top-left corner
+     */
+    public void respawn(double newX, double newY) {
+        setPosition(newX, newY);
+        setVelocity(0, 0);
+        setInvulnerable(false);
+        if (store != null) {
+            store.ageInTicks[slot] = 0;
+            store.setDestroyed(slot, false);
+        } else {
+            ageInTicks = 0;
+            destroyed = false;
+        }
+    }
+
+    /**
+     * Moves the body immediately by the specified offsets.
+     *
+     * @param deltaX the offset along the X-axis
+     * @param deltaY the offset along the Y-axis
+     */
+    public void moveBy(double deltaX, double deltaY) {
+        if (store != null) {
+            store.x[slot] += deltaX;
+            store.y[slot] += deltaY;
+            store.updateHitbox(slot);
+        } else {
+            x += deltaX;
+            y += deltaY;
+        }
+    }
+
+    /**
+     * Places the body at the specified position without interpolating from its old position.
+     *
+     * @param newX the new X position of the top-left corner
+     * @param newY the new Y position of the top-left corner
+     */
+    public void setPosition(double newX, double newY) {
+        if (store != null) {
+            store.x[slot] = newX;
+            store.y[slot] = newY;
+            store.previousX[slot] = newX;
+            store.previousY[slot] = newY;
+            store.updateHitbox(slot);
+        } else {
+            x = newX;
+            y = newY;
+            previousX = newX;
+            previousY = newY;
+        }
+    }
+
+    /**
+     * Sets the velocity of the body.
+     *
+     * @param newVelocityX the horizontal velocity in pixels per second
+     * @param newVelocityY the vertical velocity in pixels per second
+     */
+    public void setVelocity(double newVelocityX, double newVelocityY) {
+        if (store != null) {
+            store.velocityX[slot] = newVelocityX;
+            store.velocityY[slot] = newVelocityY;
+        } else {
+            velocityX = newVelocityX;
+            velocityY = newVelocityY;
+        }
+    }
+
+    /**
+     * Restricts the vertical range the top of the body may move within.
+     *
+     * @param minY the smallest allowed Y position
+     * @param maxY the largest allowed Y position
+     */
+    public void setVerticalLimits(double minY, double maxY) {
+        if (store != null) {
+            store.minYLimit[slot] = minY;
+            store.maxYLimit[slot] = maxY;
+        } else {
+            minYLimit = minY;
+            maxYLimit = maxY;
+        }
+    }
+
+    /**
+     * Checks whether the hitboxes of this body and another body overlap.
+     * Touching edges count as an overlap.
+     *
+     * @param other the other body
+     * @return {@code true} if the hitboxes overlap, otherwise {@code false}
+     */
+    public boolean intersects(Body other) {
+        return getMinX() <= other.getMaxX() && other.getMinX() <= getMaxX()
+                && getMinY() <= other.getMaxY() && other.getMinY() <= getMaxY();
+    }
+
+    /**
+     * Decreases the health of the body by one and destroys it once health reaches zero.
+     * An invulnerable body takes no damage.
+     */
+    public void takeDamage() {
+        if (isInvulnerable()) {
+            return;
+        }
+        setHealth(getHealth() - 1);
+        if (getHealth() <= 0) {
+            destroy();
+        }
+    }
+
+    /**
+     * Marks the body as destroyed.
+     */
+    public void destroy() {
+        setDestroyed(true);
+    }
+
+    /**
+     * Sets the destroyed state of the body.
+     *
+     * @param isDestroyed the new destroyed state
+     */
+    public void setDestroyed(boolean isDestroyed) {
+        if (store != null) {
+            store.setDestroyed(slot, isDestroyed);
+        } else {
+            destroyed = isDestroyed;
+        }
+    }
+
+    /**
+     * Checks whether the body is destroyed.
+     *
+     * @return {@code true} if the body is destroyed, otherwise {@code false}
+     */
+    public boolean isDestroyed() {
+        return store != null ? store.isDestroyed(slot) : destroyed;
+    }
+
+    /**
+     * Sets whether the body ignores damage, such as a boss behind its shield. Hits on an invulnerable body
+     * still destroy the projectiles that land them.
+     *
+     * @param isInvulnerable the new invulnerable state
+     */
+    public void setInvulnerable(boolean isInvulnerable) {
+        if (store != null) {
+            store.setInvulnerable(slot, isInvulnerable);
+        } else {
+            invulnerable = isInvulnerable;
+        }
+    }
+
+    /**
+     * Checks whether the body ignores damage.
+     *
+     * @return {@code true} if the body is invulnerable, otherwise {@code false}
+     */
+    public boolean isInvulnerable() {
+        return store != null ? store.isInvulnerable(slot) : invulnerable;
+    }
+
+    /**
+     * Sets the health of the body.
+     *
+     * @param newHealth the new health
+     */
+    public void setHealth(int newHealth) {
+        if (store != null) {
+            store.health[slot] = newHealth;
+        } else {
+            health = newHealth;
+        }
+    }
+
+    /**
+     * Gets the health of the body.
+     *
+     * @return the current health
+     */
+    public int getHealth() {
+        return store != null ? store.health[slot] : health;
+    }
+
+    /**
+     * Gets the number of steps the body has been alive for.
+     *
+     * @return the age of the body in ticks
+     */
+    public int getAgeInTicks() {
+        return store != null ? store.ageInTicks[slot] : ageInTicks;
+    }
+
+    /**
+     * Gets the X position interpolated between the previous and current step.
+     *
+     * @param alpha the interpolation factor, from 0 (previous step) to 1 (current step)
+     * @return the interpolated X position
+     */
+    public double getInterpolatedX(double alpha) {
+        if (store != null) {
+            return store.previousX[slot] + (store.x[slot] - store.previousX[slot]) * alpha;
+        }
+        return previousX + (x - previousX) * alpha;
+    }
+
+    /**
+     * Gets the Y position interpolated between the previous and current step.
+     *
+     * @param alpha the interpolation factor, from 0 (previous step) to 1 (current step)
+     * @return the interpolated Y position
+     */
+    public double getInterpolatedY(double alpha) {
+        if (store != null) {
+            return store.previousY[slot] + (store.y[slot] - store.previousY[slot]) * alpha;
+        }
+        return previousY + (y - previousY) * alpha;
+    }
+
+    /**
+     * Gets the X position of the top-left corner.
+     *
+     * @return the X position
+     */
+    public double getX() {
+        return store != null ? store.x[slot] : x;
+    }
+
+    /**
+     * Gets the Y position of the top-left corner.
+     *
+     * @return the Y position
+     */
+    public double getY() {
+        return store != null ? store.y[slot] : y;
+    }
+
+    /**
+     * Gets the width of the bounding box.
+     *
+     * @return the width
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the bounding box.
+     *
+     * @return the height
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the horizontal velocity.
+     *
+     * @return the horizontal velocity in pixels per second
+     */
+    public double getVelocityX() {
+        return store != null ? store.velocityX[slot] : velocityX;
+    }
+
+    /**
+     * Gets the vertical velocity.
+     *
+     * @return the vertical velocity in pixels per second
+     */
+    public double getVelocityY() {
+        return store != null ? store.velocityY[slot] : velocityY;
+    }
+
+    /**
+     * Gets the smallest X coordinate of the hitbox.
+     *
+     * @return the minimum X coordinate
+     */
+    public double getMinX() {
+        return store != null ? store.hitboxMinX[slot] : x + hitboxLeft;
+    }
+
+    /**
+     * Gets the smallest Y coordinate of the hitbox.
+     *
+     * @return the minimum Y coordinate
+     */
+    public double getMinY() {
+        return store != null ? store.hitboxMinY[slot] : y + hitboxTop;
+    }
+
+    /**
+     * Gets the largest X coordinate of the hitbox.
+     *
+     * @return the maximum X coordinate
+     */
+    public double getMaxX() {
+        return store != null ? store.hitboxMaxX[slot] : x + hitboxRight;
+    }
+
+    /**
+     * Gets the largest Y coordinate of the hitbox.
+     *
+     * @return the maximum Y coordinate
+     */
+    public double getMaxY() {
+        return store != null ? store.hitboxMaxY[slot] : y + hitboxBottom;
+    }
+}
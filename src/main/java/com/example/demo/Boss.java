@@ -0,0 +1,186 @@
+package com.example.demo;
+
+/**
+ * The {@code Boss} class represents the boss enemy: a large fighter plane that holds the right of the screen,
+ * drifts up and down, and attacks with bullet patterns instead of single projectiles.
+ * <p>
+ * The fight has four phases. Each time the boss's health falls below another quarter of its initial health,
+ * it raises its shield for a fixed number of ticks, timed on the world's {@link TimingWheel}, ignoring every hit,
+ * and switches to a denser set of patterns: aimed bursts, then fans, then a spiral, and finally two
+ * counter-rotating spirals with aimed bursts on top. The patterns are shared, precomputed {@link BulletPattern}
+ * tables fired by the boss's {@link BulletPatternEngine}, so firing allocates nothing but the pooled projectiles
+ * themselves.
+ * </p>
+ */
+public class Boss extends FighterPlane {
+
+    // Constants specific to the Boss class
+    private static final String SPRITE_NAME = SpriteAtlas.BOSS_PLANE; // Sprite used for the boss
+    private static final int IMAGE_HEIGHT = 300;                // Height of the boss image
+    private static final double INITIAL_X_POSITION = 1000.0;    // Initial X position of the boss
+    private static final double INITIAL_Y_POSITION = 400.0;     // Initial Y position of the boss
+    private static final double Y_POSITION_UPPER_BOUND = -100;  // Highest Y position of the boss
+    private static final double Y_POSITION_LOWER_BOUND = 475;   // Lowest Y position of the boss
+    private static final double VERTICAL_VELOCITY = 160;        // Vertical speed in pixels per second
+    private static final int MOVE_INTERVAL_TICKS = 10;          // Ticks between changes of vertical direction
+    private static final double PROJECTILE_X_OFFSET = 0.0;      // X offset of the shots relative to the boss
+    private static final double PROJECTILE_Y_OFFSET = 112.0;    // Y offset of the shots, centering the fireballs
+    private static final int SHIELD_TICKS = 100;                // Ticks the shield stays up after a phase change
+    private static final int PHASE_COUNT = 4;                   // Number of phases of the fight
+
+    // Patterns of the phases, shared by every boss as they hold no firing state
+    private static final BulletPattern AIMED_BURST = BulletPattern.aimedBurst(3, 24, 3, 5, 2, 320);
+    private static final BulletPattern FAN = BulletPattern.fan(7, 100, 10, 240);
+    private static final BulletPattern SPIRAL = BulletPattern.spiral(4, 14, 2, 220);
+    private static final BulletPattern COUNTER_SPIRAL = BulletPattern.spiral(4, -19, 3, 180);
+
+    // Source of the boss's movement decisions, shared with the level so that replays match
+    private final GameRandom random;
+
+    // Engine firing the patterns of the current phase
+    private final BulletPatternEngine patternEngine = new BulletPatternEngine();
+
+    // Timers of the simulation world, the pending shield timer, and the callback lowering the shield
+    private final TimingWheel timers;
+    private long shieldTimer = TimingWheel.NO_TIMER;
+    private final TimerCallback lowerShield = this::lowerShield;
+
+    // Current phase and ticks until the next change of direction
+    private int phase = -1;
+    private int ticksToMove;
+
+    /**
+     * Constructs a {@code Boss} at its initial position.
+     *
+     * @param health the initial health of the boss
+     * @param random the level's source of randomness, used to pick the boss's movements
+     * @param timers the timers of the simulation world, used to time the shield
+     */
+    public Boss(int health, GameRandom random, TimingWheel timers) {
+        super(SPRITE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, health);
+        this.random = random;
+        this.timers = timers;
+        getBody().setVerticalLimits(Y_POSITION_UPPER_BOUND, Y_POSITION_LOWER_BOUND);
+        enterPhase(0);
+    }
+
+    /**
+     * Changes the vertical direction of the boss every few ticks, picking up, down or still at random.
+     */
+    @Override
+    public void updatePosition() {
+        if (--ticksToMove <= 0) {
+            ticksToMove = MOVE_INTERVAL_TICKS;
+            setVelocity(0, (random.nextInt(3) - 1) * VERTICAL_VELOCITY); // -1, 0 or 1 times the speed
+        }
+    }
+
+    /**
+     * Updates the boss: moves it and enters the phase matching its health.
+     */
+    @Override
+    public void updateActor() {
+        updatePosition();
+        int healthPhase = computePhase();
+        if (healthPhase > phase) {
+            enterPhase(healthPhase);
+        }
+    }
+
+    /**
+     * Lowers the shield once its timer has expired.
+     */
+    private void lowerShield() {
+        shieldTimer = TimingWheel.NO_TIMER;
+        getBody().setInvulnerable(false); // The shield is down
+    }
+
+    /**
+     * Computes the phase reached at the boss's current health: one more phase per quarter of health lost.
+     *
+     * @return the phase, from 0 to {@code PHASE_COUNT - 1}
+     */
+    private int computePhase() {
+        int lost = getInitialHealth() - getHealth();
+        return Math.min(PHASE_COUNT - 1, Math.max(0, lost * PHASE_COUNT / getInitialHealth()));
+    }
+
+    /**
+     * Enters a phase: raises the shield, unless this is the opening phase, and switches to the phase's patterns.
+     *
+     * @param newPhase the phase to enter
+     */
+    private void enterPhase(int newPhase) {
+        phase = newPhase;
+        if (newPhase > 0) {
+            timers.cancel(shieldTimer); // A new phase restarts the shield
+            shieldTimer = timers.schedule(SHIELD_TICKS, lowerShield);
+            getBody().setInvulnerable(true);
+        }
+        patternEngine.clearPatterns();
+        switch (newPhase) {
+            case 0 -> patternEngine.addPattern(AIMED_BURST);
+            case 1 -> {
+                patternEngine.addPattern(FAN);
+                patternEngine.addPattern(AIMED_BURST);
+            }
+            case 2 -> patternEngine.addPattern(SPIRAL);
+            default -> {
+                patternEngine.addPattern(SPIRAL);
+                patternEngine.addPattern(COUNTER_SPIRAL);
+                patternEngine.addPattern(AIMED_BURST);
+            }
+        }
+    }
+
+    /**
+     * Fires the volleys of the current phase that are due this tick. Called once per tick by the level.
+     *
+     * @param targetX the X position aimed patterns turn towards
+     * @param targetY the Y position aimed patterns turn towards
+     * @param sink the receiver of the shots, which turns them into projectiles
+     * @return the number of shots fired
+     */
+    public int firePatterns(double targetX, double targetY, ShotSink sink) {
+        return patternEngine.update(getProjectileXPosition(PROJECTILE_X_OFFSET),
+                getProjectileYPosition(PROJECTILE_Y_OFFSET), targetX, targetY, sink);
+    }
+
+    /**
+     * The boss fires through {@link #firePatterns(double, double, ShotSink)} only, so it never fires single projectiles.
+     *
+     * @param random the level's source of randomness
+     * @return {@code null}, as no single projectile is fired
+     */
+    @Override
+    public ActiveActorDestructible fireProjectile(GameRandom random) {
+        return null;
+    }
+
+    /**
+     * Checks whether the boss's shield is up.
+     *
+     * @return {@code true} if the boss currently ignores hits, otherwise {@code false}
+     */
+    public boolean isShielded() {
+        return getBody().isInvulnerable();
+    }
+
+    /**
+     * Gets the current phase of the fight.
+     *
+     * @return the phase, from 0 to 3
+     */
+    public int getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the engine firing the boss's patterns.
+     *
+     * @return the pattern engine
+     */
+    public BulletPatternEngine getPatternEngine() {
+        return patternEngine;
+    }
+}
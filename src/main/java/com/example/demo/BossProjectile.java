@@ -2,16 +2,22 @@ package com.example.demo;
 
 /**
  * Represents a projectile fired by the boss character in the game.
- * The projectile moves horizontally with a fixed velocity and is represented by an image.
+ * The projectile moves in a straight line, horizontally to the left unless the boss's bullet patterns aim it
+ * in another direction, and is represented by an image.
  */
 public class BossProjectile extends Projectile {
 
     // Constants specific to the BossProjectile class
-    private static final String IMAGE_NAME = "fireball.png"; // Image used for the projectile
+    private static final String SPRITE_NAME = SpriteAtlas.BOSS_PROJECTILE; // Sprite used for the projectile
     private static final int IMAGE_HEIGHT = 75;             // Height of the image
-    private static final int HORIZONTAL_VELOCITY = -15;     // Horizontal speed at which the projectile moves
+    private static final double HORIZONTAL_VELOCITY = -300; // Horizontal speed in pixels per second
     private static final int INITIAL_X_POSITION = 950;      // Initial X position of the projectile
 
+    // Direction and speed of the projectile, set by the pattern that fired it
+    private double directionX = -1;
+    private double directionY = 0;
+    private double speed = -HORIZONTAL_VELOCITY;
+
     /**
      * Constructs a BossProjectile with a specified initial Y position.
      *
@@ -19,17 +25,43 @@ public class BossProjectile extends Projectile {
      */
     public BossProjectile(double initialYPos) {
         // Call the superclass constructor with the projectile's image, height, initial X, and initial Y positions
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+        super(SPRITE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+    }
+
+    /**
+     * Sets the direction and speed of the projectile, as fired by a bullet pattern.
+     *
+     * @param newDirectionX the X component of the unit direction
+     * @param newDirectionY the Y component of the unit direction
+     * @param newSpeed the speed in pixels per second
+     */
+    public void aim(double newDirectionX, double newDirectionY, double newSpeed) {
+        this.directionX = newDirectionX;
+        this.directionY = newDirectionY;
+        this.speed = newSpeed;
+    }
+
+    /**
+     * Resets the projectile for reuse, restoring the default horizontal flight.
+     *
+     * @param initialXPos the initial X position of the projectile
+     * @param initialYPos the initial Y position of the projectile
+     */
+    @Override
+    public void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        aim(-1, 0, -HORIZONTAL_VELOCITY);
     }
 
     /**
-     * Updates the position of the projectile by moving it horizontally.
+     * Updates the movement of the projectile so that it moves in its direction.
      * This method is called repeatedly during the game loop.
      */
     @Override
     public void updatePosition() {
-        // Move the projectile horizontally by the predefined velocity
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        // Move the projectile along its direction at its speed
+        double scaledSpeed = speed * getSpeedScale(); // Scaled by the level that fired it
+        setVelocity(directionX * scaledSpeed, directionY * scaledSpeed);
     }
 
     /**
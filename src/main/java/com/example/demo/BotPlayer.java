@@ -0,0 +1,82 @@
+package com.example.demo;
+
+import java.util.List;
+
+/**
+ * The {@code BotPlayer} class is a simple AI player used to load levels headlessly. Before each tick it picks the
+ * enemy closest to the player's plane horizontally, moves the plane up or down until it is level with that enemy,
+ * and fires at a configurable rate. It plays through the level's {@link InputBus}, as a human player does, so its
+ * sessions can be recorded, and it only posts a movement command when the direction changes.
+ */
+public class BotPlayer {
+
+    // Distance from the target within which the plane stops moving, in pixels
+    private static final double AIM_TOLERANCE = 10;
+
+    // Ticks between shots
+    private final int fireIntervalTicks;
+
+    // Movement command posted last, to post only changes of direction
+    private byte lastMove = InputBus.STOP;
+
+    /**
+     * Constructs a {@code BotPlayer}.
+     *
+     * @param fireIntervalTicks the number of ticks between shots, 1 to fire on every tick
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public BotPlayer(int fireIntervalTicks) {
+        if (fireIntervalTicks <= 0) {
+            throw new IllegalArgumentException("Fire interval must be positive: " + fireIntervalTicks);
+        }
+        this.fireIntervalTicks = fireIntervalTicks;
+    }
+
+    /**
+     * Posts the bot's commands for the next tick of a level.
+     *
+     * @param level the level being played
+     */
+    public void act(LevelParent level) {
+        InputBus inputBus = level.getInputBus();
+        if (inputBus.getTick() % fireIntervalTicks == 0) {
+            inputBus.post(InputBus.FIRE);
+        }
+        Body plane = level.getUser().getBody();
+        double planeCenterY = (plane.getMinY() + plane.getMaxY()) / 2;
+        Body target = findTarget(level.getEnemyUnits(), plane.getMaxX());
+
+        byte move = InputBus.STOP; // Hold still without a target or once level with it
+        if (target != null) {
+            double offset = (target.getMinY() + target.getMaxY()) / 2 - planeCenterY;
+            if (offset < -AIM_TOLERANCE) {
+                move = InputBus.MOVE_UP;
+            } else if (offset > AIM_TOLERANCE) {
+                move = InputBus.MOVE_DOWN;
+            }
+        }
+        if (move != lastMove) {
+            inputBus.post(move);
+            lastMove = move;
+        }
+    }
+
+    /**
+     * Finds the enemy ahead of the plane that is closest to it horizontally.
+     *
+     * @param enemies the enemy units on the level
+     * @param planeFrontX the X coordinate of the front of the plane
+     * @return the body of the target, or {@code null} if no enemy is ahead of the plane
+     */
+    private static Body findTarget(List<ActiveActorDestructible> enemies, double planeFrontX) {
+        Body target = null;
+        for (int i = 0; i < enemies.size(); i++) {
+            Body enemy = enemies.get(i).getBody();
+            if (!enemy.isDestroyed() && enemy.getMinX() > planeFrontX
+                    && (target == null || enemy.getMinX() < target.getMinX())) {
+                target = enemy;
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.demo;
+
+/**
+ * The {@code BulletPattern} class is an immutable table of shot directions, precomputed when the pattern is built so
+ * that firing it only reads arrays. A pattern is a cycle of volleys fired one every {@code intervalTicks} ticks;
+ * volley {@code v} holds the shots {@code volleyStart[v]} to {@code volleyStart[v + 1] - 1} of the direction tables.
+ * A volley without shots is a pause. Directions are unit vectors in screen space, where an angle of 0 points right
+ * and angles grow downwards. The directions of an aimed pattern are relative to the direction of the target,
+ * and are rotated towards it when fired.
+ * <p>
+ * Patterns hold no firing state, so one pattern can be shared by every boss that fires it.
+ * </p>
+ */
+public final class BulletPattern {
+
+    // Angle pointing left, the direction enemies fire in
+    private static final double LEFT = Math.PI;
+
+    // Largest number of volleys in one turn of a spiral
+    private static final int MAX_SPIRAL_VOLLEYS = 360;
+
+    // Unit directions of every shot, volley after volley
+    private final double[] directionX;
+    private final double[] directionY;
+
+    // Index of the first shot of each volley, followed by the total shot count
+    private final int[] volleyStart;
+
+    // Ticks between volleys, speed of the shots, and whether the directions are relative to the target
+    private final int intervalTicks;
+    private final double speed;
+    private final boolean aimed;
+
+    /**
+     * Constructs a {@code BulletPattern} from its tables.
+     *
+     * @param angles the angle of every shot in radians, volley after volley
+     * @param volleyStart the index of the first shot of each volley, followed by the shot count
+     * @param intervalTicks the ticks between volleys
+     * @param speed the speed of the shots in pixels per second
+     * @param aimed {@code true} if the angles are relative to the direction of the target
+     */
+    private BulletPattern(double[] angles, int[] volleyStart, int intervalTicks, double speed, boolean aimed) {
+        this.directionX = new double[angles.length];
+        this.directionY = new double[angles.length];
+        for (int i = 0; i < angles.length; i++) {
+            directionX[i] = Math.cos(angles[i]);
+            directionY[i] = Math.sin(angles[i]);
+        }
+        this.volleyStart = volleyStart;
+        this.intervalTicks = intervalTicks;
+        this.speed = speed;
+        this.aimed = aimed;
+    }
+
+    /**
+     * Builds a spiral: every volley fires one shot per arm, the arms evenly spaced around the circle, and the next
+     * volley is turned by a fixed angle. The turn is rounded so that a whole number of volleys completes the circle
+     * and the cycle repeats seamlessly.
+     *
+     * @param arms the number of arms
+     * @param degreesPerVolley the angle the arms turn by between volleys, negative to turn the other way
+     * @param intervalTicks the ticks between volleys
+     * @param speed the speed of the shots in pixels per second
+     * @return the spiral pattern
+     * @throws IllegalArgumentException if a count, the interval, the turn or the speed is not positive
+     */
+    public static BulletPattern spiral(int arms, double degreesPerVolley, int intervalTicks, double speed) {
+        check(arms, intervalTicks, speed);
+        if (degreesPerVolley == 0 || Double.isNaN(degreesPerVolley)) {
+            throw new IllegalArgumentException("A spiral must turn: " + degreesPerVolley);
+        }
+        int volleys = (int) Math.min(MAX_SPIRAL_VOLLEYS, Math.max(1, Math.round(360 / Math.abs(degreesPerVolley))));
+        double turn = Math.copySign(2 * Math.PI / volleys, degreesPerVolley);
+        double[] angles = new double[volleys * arms];
+        int[] volleyStart = new int[volleys + 1];
+        for (int v = 0; v < volleys; v++) {
+            volleyStart[v] = v * arms;
+            for (int a = 0; a < arms; a++) {
+                angles[v * arms + a] = LEFT + v * turn + a * 2 * Math.PI / arms;
+            }
+        }
+        volleyStart[volleys] = angles.length;
+        return new BulletPattern(angles, volleyStart, intervalTicks, speed, false);
+    }
+
+    /**
+     * Builds a fan: a single volley of shots spread evenly across an arc centered on the left.
+     *
+     * @param shots the number of shots in the fan
+     * @param spreadDegrees the angle between the outermost shots
+     * @param intervalTicks the ticks between fans
+     * @param speed the speed of the shots in pixels per second
+     * @return the fan pattern
+     * @throws IllegalArgumentException if a count, the interval or the speed is not positive
+     */
+    public static BulletPattern fan(int shots, double spreadDegrees, int intervalTicks, double speed) {
+        check(shots, intervalTicks, speed);
+        return new BulletPattern(arc(LEFT, shots, spreadDegrees), new int[] {0, shots}, intervalTicks, speed, false);
+    }
+
+    /**
+     * Builds an aimed burst: a number of volleys, each a small fan centered on the target, followed by a pause.
+     *
+     * @param shots the number of shots in each volley
+     * @param spreadDegrees the angle between the outermost shots of a volley
+     * @param burstVolleys the number of volleys in a burst
+     * @param pauseVolleys the number of silent volleys between bursts
+     * @param intervalTicks the ticks between volleys
+     * @param speed the speed of the shots in pixels per second
+     * @return the aimed burst pattern
+     * @throws IllegalArgumentException if a count, the interval or the speed is not positive, or the pause is negative
+     */
+    public static BulletPattern aimedBurst(int shots, double spreadDegrees, int burstVolleys, int pauseVolleys,
+                                           int intervalTicks, double speed) {
+        check(shots, intervalTicks, speed);
+        if (burstVolleys <= 0 || pauseVolleys < 0) {
+            throw new IllegalArgumentException("Invalid burst: " + burstVolleys + " volleys, " + pauseVolleys + " paused");
+        }
+        double[] volley = arc(0, shots, spreadDegrees);
+        double[] angles = new double[burstVolleys * shots];
+        int[] volleyStart = new int[burstVolleys + pauseVolleys + 1];
+        for (int v = 0; v < burstVolleys; v++) {
+            System.arraycopy(volley, 0, angles, v * shots, shots);
+            volleyStart[v] = v * shots;
+        }
+        for (int v = burstVolleys; v < volleyStart.length; v++) {
+            volleyStart[v] = angles.length; // Pauses hold no shots
+        }
+        return new BulletPattern(angles, volleyStart, intervalTicks, speed, true);
+    }
+
+    /**
+     * Spreads shots evenly across an arc.
+     *
+     * @param center the angle of the middle of the arc in radians
+     * @param shots the number of shots
+     * @param spreadDegrees the angle between the outermost shots
+     * @return the angle of every shot in radians
+     */
+    private static double[] arc(double center, int shots, double spreadDegrees) {
+        double[] angles = new double[shots];
+        double spread = Math.toRadians(spreadDegrees);
+        for (int i = 0; i < shots; i++) {
+            angles[i] = shots == 1 ? center : center - spread / 2 + spread * i / (shots - 1);
+        }
+        return angles;
+    }
+
+    /**
+     * Checks the values shared by every pattern.
+     *
+     * @param shots the number of shots per volley
+     * @param intervalTicks the ticks between volleys
+     * @param speed the speed of the shots
+     * @throws IllegalArgumentException if a value is not positive
+     */
+    private static void check(int shots, int intervalTicks, double speed) {
+        if (shots <= 0 || intervalTicks <= 0 || !(speed > 0)) {
+            throw new IllegalArgumentException("Invalid pattern: " + shots + " shots every " + intervalTicks
+                    + " ticks at " + speed + " px/s");
+        }
+    }
+
+    /**
+     * Gets the number of volleys in one cycle of the pattern, pauses included.
+     *
+     * @return the volley count
+     */
+    public int getVolleyCount() {
+        return volleyStart.length - 1;
+    }
+
+    /**
+     * Gets the index of the first shot of a volley in the direction tables.
+     *
+     * @param volley the volley, below {@link #getVolleyCount()}
+     * @return the first shot index
+     */
+    int getVolleyStart(int volley) {
+        return volleyStart[volley];
+    }
+
+    /**
+     * Gets the index after the last shot of a volley in the direction tables.
+     *
+     * @param volley the volley, below {@link #getVolleyCount()}
+     * @return the end shot index
+     */
+    int getVolleyEnd(int volley) {
+        return volleyStart[volley + 1];
+    }
+
+    /**
+     * Gets the X component of the unit direction of a shot.
+     *
+     * @param shot the index of the shot
+     * @return the X direction
+     */
+    double getDirectionX(int shot) {
+        return directionX[shot];
+    }
+
+    /**
+     * Gets the Y component of the unit direction of a shot.
+     *
+     * @param shot the index of the shot
+     * @return the Y direction
+     */
+    double getDirectionY(int shot) {
+        return directionY[shot];
+    }
+
+    /**
+     * Gets the total number of shots in one cycle of the pattern.
+     *
+     * @return the shot count
+     */
+    public int getShotCount() {
+        return directionX.length;
+    }
+
+    /**
+     * Gets the number of ticks between volleys.
+     *
+     * @return the volley interval in ticks
+     */
+    public int getIntervalTicks() {
+        return intervalTicks;
+    }
+
+    /**
+     * Gets the speed of the shots.
+     *
+     * @return the speed in pixels per second
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Determines whether the directions are relative to the direction of the target.
+     *
+     * @return {@code true} for an aimed pattern, {@code false} for fixed directions
+     */
+    public boolean isAimed() {
+        return aimed;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BulletPatternEngine} class fires a small set of {@link BulletPattern} tables from one origin, one tick at
+ * a time. Each active pattern keeps a cursor into its cycle of volleys and a countdown to its next volley; a tick
+ * emits the volleys that are due to a {@link ShotSink}, rotating aimed patterns towards the target. The cursors are
+ * primitive arrays and shots are passed to the sink as primitive values, so a tick allocates nothing however many
+ * shots it emits.
+ */
+public class BulletPatternEngine {
+
+    /**
+     * Largest number of patterns fired at once.
+     */
+    public static final int MAX_PATTERNS = 4;
+
+    // Active patterns, the next volley of each and the ticks left until it is fired
+    private final BulletPattern[] patterns = new BulletPattern[MAX_PATTERNS];
+    private final int[] volleys = new int[MAX_PATTERNS];
+    private final int[] ticksToVolley = new int[MAX_PATTERNS];
+    private int patternCount;
+
+    // Shots emitted since the engine was created
+    private long shotsFired;
+
+    /**
+     * Stops firing every pattern.
+     */
+    public void clearPatterns() {
+        Arrays.fill(patterns, null);
+        patternCount = 0;
+    }
+
+    /**
+     * Starts firing a pattern from its first volley, on the next tick.
+     *
+     * @param pattern the pattern to fire
+     * @throws IllegalStateException if {@link #MAX_PATTERNS} patterns are already active
+     */
+    public void addPattern(BulletPattern pattern) {
+        if (patternCount == MAX_PATTERNS) {
+            throw new IllegalStateException("At most " + MAX_PATTERNS + " patterns can be fired at once.");
+        }
+        patterns[patternCount] = pattern;
+        volleys[patternCount] = 0;
+        ticksToVolley[patternCount] = 1; // Fire on the next tick
+        patternCount++;
+    }
+
+    /**
+     * Advances the patterns by one tick and emits the volleys that are due.
+     *
+     * @param originX the X position the shots start from
+     * @param originY the Y position the shots start from
+     * @param targetX the X position aimed patterns turn towards
+     * @param targetY the Y position aimed patterns turn towards
+     * @param sink the receiver of the shots
+     * @return the number of shots emitted
+     */
+    public int update(double originX, double originY, double targetX, double targetY, ShotSink sink) {
+        int emitted = 0;
+        for (int p = 0; p < patternCount; p++) {
+            if (--ticksToVolley[p] > 0) continue; // Not due yet
+            BulletPattern pattern = patterns[p];
+            ticksToVolley[p] = pattern.getIntervalTicks();
+            int volley = volleys[p];
+            volleys[p] = volley + 1 == pattern.getVolleyCount() ? 0 : volley + 1;
+
+            // Aimed shots are rotated from the angle 0 to the direction of the target
+            double aimX = 1;
+            double aimY = 0;
+            if (pattern.isAimed()) {
+                double deltaX = targetX - originX;
+                double deltaY = targetY - originY;
+                double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+                if (distance > 0) {
+                    aimX = deltaX / distance;
+                    aimY = deltaY / distance;
+                } else {
+                    aimX = -1; // On top of the target, so fire left
+                }
+            }
+            double speed = pattern.getSpeed();
+            for (int s = pattern.getVolleyStart(volley), end = pattern.getVolleyEnd(volley); s < end; s++) {
+                double directionX = pattern.getDirectionX(s);
+                double directionY = pattern.getDirectionY(s);
+                sink.fire(originX, originY, directionX * aimX - directionY * aimY,
+                        directionX * aimY + directionY * aimX, speed);
+            }
+            emitted += pattern.getVolleyEnd(volley) - pattern.getVolleyStart(volley);
+        }
+        shotsFired += emitted;
+        return emitted;
+    }
+
+    /**
+     * Gets the number of patterns being fired.
+     *
+     * @return the active pattern count
+     */
+    public int getPatternCount() {
+        return patternCount;
+    }
+
+    /**
+     * Gets the number of shots emitted since the engine was created.
+     *
+     * @return the shot count
+     */
+    public long getShotsFired() {
+        return shotsFired;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo;
+
+import java.util.List;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * The {@code CanvasActorRenderer} class draws actors onto a single {@link Canvas} instead of showing each actor
+ * as its own node in the scene graph. Every frame the canvas is cleared and each actor's sprite is copied out of the
+ * {@link SpriteAtlas} at the interpolated position of its {@link Body}, so the number of scene graph nodes stays
+ * constant no matter how many actors are on screen, and spawning or removing an actor never touches the scene graph.
+ */
+public class CanvasActorRenderer {
+
+    // Canvas the actors are drawn on and its drawing context
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+
+    // Number of actors drawn in the latest frame
+    private int drawnCount;
+
+    /**
+     * Constructs a {@code CanvasActorRenderer} with a canvas of the specified size.
+     *
+     * @param width the width of the canvas
+     * @param height the height of the canvas
+     */
+    public CanvasActorRenderer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        canvas.setMouseTransparent(true); // Input is handled by the nodes below the canvas
+        canvas.setFocusTraversable(false);
+    }
+
+    /**
+     * Starts a new frame by clearing the canvas.
+     */
+    public void beginFrame() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawnCount = 0;
+    }
+
+    /**
+     * Draws every visible actor in a list at the interpolated position of its body.
+     *
+     * @param actors the actors to draw
+     * @param alpha the interpolation factor between the previous and the current simulation step
+     */
+    public void draw(List<? extends ActiveActor> actors, double alpha) {
+        for (int i = 0, n = actors.size(); i < n; i++) {
+            ActiveActor actor = actors.get(i);
+            if (!actor.isVisible() || actor.getImage() == null) continue; // Nothing to draw
+            Body body = actor.getBody();
+            SpriteRegion sprite = actor.getSprite();
+            graphics.drawImage(actor.getImage(), // Copy the sprite's region out of the shared atlas
+                    sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(),
+                    body.getInterpolatedX(alpha), body.getInterpolatedY(alpha), body.getWidth(), body.getHeight());
+            drawnCount++;
+        }
+    }
+
+    /**
+     * Gets the number of actors drawn since the latest {@link #beginFrame()}.
+     *
+     * @return the drawn actor count
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * Gets the canvas the actors are drawn on, to be added to the scene graph.
+     *
+     * @return the canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+}
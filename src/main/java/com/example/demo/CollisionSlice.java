@@ -0,0 +1,93 @@
+package com.example.demo;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The {@code CollisionSlice} class is the task run by {@link ParallelCollisions} for one contiguous range of
+ * {@link EntityStore} slots. It tests every live projectile in its range against the targets indexed in the
+ * collision grid and records the pairs whose hitboxes overlap in its own hit buffer, without changing any entity, so that
+ * slices can run on different threads at once. The pairs are applied afterwards on the simulation thread.
+ * A slice is reused every tick and does not allocate once its buffers have grown.
+ */
+class CollisionSlice extends RecursiveAction {
+
+    // Slices are never serialized; the version only quiets the serialization lint of RecursiveAction
+    private static final long serialVersionUID = 1L;
+
+    // Scratch list of grid query results
+    private final transient IntList candidates = new IntList();
+
+    // Overlapping pairs found by the latest run, stored as projectile slot followed by target slot
+    private final transient IntList hits = new IntList();
+
+    // Input of the next run
+    private transient EntityStore store;
+    private transient SpatialGrid grid;
+    private byte projectileKind;
+    private boolean swept;
+    private int from;
+    private int to;
+
+    /**
+     * Prepares the slice for its next run.
+     *
+     * @param store the store holding the entities
+     * @param grid the collision grid holding the live targets
+     * @param projectileKind the kind of the entities that hit
+     * @param swept {@code true} to test the hitboxes over the motion of the step, {@code false} at its end only
+     * @param from the first slot of the range
+     * @param to the slot after the last slot of the range
+     */
+    void prepare(EntityStore store, SpatialGrid grid, byte projectileKind, boolean swept, int from, int to) {
+        reinitialize(); // Allows the completed task to be run again
+        this.store = store;
+        this.grid = grid;
+        this.projectileKind = projectileKind;
+        this.swept = swept;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Finds the overlapping pairs of the range. Targets already destroyed when the pass starts are skipped;
+     * targets destroyed by earlier hits of the same pass are skipped when the hits are applied.
+     */
+    @Override
+    protected void compute() {
+        hits.clear();
+        double[] hitboxMinX = store.hitboxMinX;
+        double[] hitboxMinY = store.hitboxMinY;
+        double[] hitboxMaxX = store.hitboxMaxX;
+        double[] hitboxMaxY = store.hitboxMaxY;
+        byte[] kind = store.kind;
+        for (int p = from; p < to; p++) {
+            if (kind[p] != projectileKind || store.isDestroyed(p)) continue; // Skip if not a live projectile
+            double minX = hitboxMinX[p];
+            double minY = hitboxMinY[p];
+            double maxX = hitboxMaxX[p];
+            double maxY = hitboxMaxY[p];
+            candidates.clear();
+            int candidateCount = swept
+                    ? grid.query(store.sweptMinX(p), store.sweptMinY(p), store.sweptMaxX(p), store.sweptMaxY(p), candidates)
+                    : grid.query(minX, minY, maxX, maxY, candidates);
+            for (int c = 0; c < candidateCount; c++) {
+                int t = candidates.get(c);
+                if (store.isDestroyed(t)) continue; // Skip if target is destroyed
+                if (swept ? store.sweptHitboxesOverlap(p, t)
+                        : minX <= hitboxMaxX[t] && hitboxMinX[t] <= maxX && minY <= hitboxMaxY[t] && hitboxMinY[t] <= maxY) {
+                    hits.add(p);
+                    hits.add(t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the overlapping pairs found by the latest run.
+     *
+     * @return the hits, as projectile slot followed by target slot, in slot order
+     */
+    IntList getHits() {
+        return hits;
+    }
+}
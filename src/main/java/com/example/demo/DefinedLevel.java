@@ -0,0 +1,164 @@
+package com.example.demo;
+
+import javafx.stage.Stage;
+
+/**
+ * The {@code DefinedLevel} class runs any level described by a {@link LevelDefinition}. Enemies are spawned from the
+ * wave active at the player's kill count, the level is won at the definition's kill count, and the next level is the
+ * one the definition names, so adding a level only takes a new level file.
+ * <p>
+ * A definition with a boss makes the level a boss fight: the {@link Boss} joins the level on its first tick, once
+ * the level's randomness has its final seed, fires its bullet patterns at the player every tick, and shows its
+ * shield through a {@link LevelViewLevelTwo}. The level is then won by destroying the boss, and the waves only
+ * provide escorts.
+ * </p>
+ */
+public class DefinedLevel extends LevelParent {
+
+    // Boss of the level, created on the first tick of a boss fight, and whether its shield is shown
+    private Boss boss;
+    private boolean isShieldShown;
+
+    /**
+     * Constructs a {@code DefinedLevel} running the specified definition.
+     *
+     * @param definition the compiled description of the level
+     * @param screenHeight the height of the game screen
+     * @param screenWidth the width of the game screen
+     * @param stage the JavaFX {@code Stage} used for displaying the level
+     */
+    public DefinedLevel(LevelDefinition definition, double screenHeight, double screenWidth, Stage stage) {
+        super(definition, screenHeight, screenWidth, stage);
+        System.out.println(definition.getName() + " instantiated with background: " + definition.getBackgroundImageName()
+                + " and seed: " + getRandom().getSeed());
+    }
+
+    /**
+     * Initializes the friendly units, such as the player's fighter plane, on the level.
+     */
+    @Override
+    protected void initializeFriendlyUnits() {
+        addActorToScene(getUser()); // Show the user's plane in the level
+    }
+
+    /**
+     * Spawns enemy units from the active wave: each free slot below the wave's enemy limit
+     * gets an enemy with the wave's spawn chance, its type picked from the wave's spawn table.
+     * On a boss fight, the boss is updated first.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        if (getDefinition().hasBoss()) {
+            updateBoss();
+        }
+        SpawnWave wave = getDefinition().getWave(getUserKillCount()); // Wave active at the current kill count
+        GameRandom random = getRandom(); // Seeded, so the same seed spawns the same enemies
+        int enemiesToSpawn = wave.getMaxEnemies() - getCurrentNumberOfEnemies(); // Calculate how many enemies can be spawned
+        for (int i = 0; i < enemiesToSpawn; i++) {
+            if (random.chance(wave.getSpawnChance())) {
+                double newEnemyInitialYPosition = random.nextDouble() * getEnemyMaximumYPosition(); // Randomize Y position for the new enemy
+                ActiveActorDestructible newEnemy = wave.pickEnemy(random.nextDouble()).acquire(getScreenWidth(), newEnemyInitialYPosition); // Acquire a pooled enemy of the picked type
+                try {
+                    addEnemyUnit(newEnemy); // Add the newly created enemy to the game
+                } catch (Exception e) {
+                    // Handle error when adding an enemy unit, ensuring it does not crash the game
+                    System.err.println("Error adding enemy unit: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Brings the boss into the level on the first tick, fires the volleys of its patterns that are due at
+     * the player, and shows or hides its shield when it is raised or lowered.
+     */
+    private void updateBoss() {
+        if (boss == null) {
+            boss = new Boss(getDefinition().getBossHealth(), getRandom(), getWorld().getTimers());
+            addEnemyUnit(boss);
+        }
+        if (boss.isDestroyed()) {
+            return;
+        }
+        Body target = getUser().getBody();
+        boss.firePatterns((target.getMinX() + target.getMaxX()) / 2, (target.getMinY() + target.getMaxY()) / 2, getBossShotSink());
+
+        LevelViewLevelTwo view = (LevelViewLevelTwo) getLevelView();
+        Body body = boss.getBody();
+        if (boss.isShielded()) {
+            view.centerShieldOn((body.getMinX() + body.getMaxX()) / 2, (body.getMinY() + body.getMaxY()) / 2);
+            if (!isShieldShown) {
+                view.showShield();
+                isShieldShown = true;
+            }
+        } else if (isShieldShown) {
+            view.hideShield();
+            isShieldShown = false;
+        }
+    }
+
+    /**
+     * Resets the level, so that a boss fight starts over with a new boss.
+     */
+    @Override
+    public void resetLevel() {
+        super.resetLevel();
+        boss = null;
+        isShieldShown = false;
+    }
+
+    /**
+     * Instantiates the {@code LevelView}, which represents the visual components of the level.
+     * A boss fight gets a view that can show the boss's shield, and counts kills without a target.
+     *
+     * @return a {@code LevelView} showing the player's initial health and the kills needed to win
+     */
+    @Override
+    protected LevelView instantiateLevelView() {
+        if (getDefinition().hasBoss()) {
+            return new LevelViewLevelTwo(getRoot(), getDefinition().getPlayerInitialHealth(), 0);
+        }
+        return new LevelView(getRoot(), getDefinition().getPlayerInitialHealth(), getDefinition().getKillsToAdvance());
+    }
+
+    /**
+     * Checks if the game is over: the game is lost if the player is destroyed,
+     * and won once the player reaches the definition's kill count, or destroys the boss on a boss fight.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame(); // If the player is destroyed, the game is lost
+        } else if (getDefinition().hasBoss()) {
+            if (boss != null && boss.isDestroyed()) {
+                winGame(); // If the player destroys the boss, the game is won
+            }
+        } else if (getUserKillCount() >= getDefinition().getKillsToAdvance()) {
+            winGame(); // If the player reaches the kill threshold, the game is won
+        }
+    }
+
+    /**
+     * Gets the boss of the level.
+     *
+     * @return the boss, or {@code null} if the level has no boss or its first tick has not been played
+     */
+    public Boss getBoss() {
+        return boss;
+    }
+
+    /**
+     * Creates the level the definition names as the next one.
+     *
+     * @return the next level, or {@code null} if this is the last level
+     * @throws IllegalArgumentException if the next level's file is missing or invalid
+     */
+    @Override
+    protected LevelParent getNextLevel() {
+        String nextLevelId = getDefinition().getNextLevelId();
+        if (nextLevelId == null) {
+            return null; // Last level
+        }
+        return new DefinedLevel(LevelDefinitions.get(nextLevelId), getScreenHeight(), getScreenWidth(), getStage());
+    }
+}
@@ -8,9 +8,9 @@ package com.example.demo; //REFACTORED 1
 public class EnemyPlane extends FighterPlane {
 
     // Constants specific to the EnemyPlane class
-    private static final String IMAGE_NAME = "enemyplane.png";  // Image used for the enemy plane
+    private static final String SPRITE_NAME = SpriteAtlas.ENEMY_PLANE;  // Sprite used for the enemy plane
     private static final int IMAGE_HEIGHT = 150;               // Height of the enemy plane image
-    private static final int HORIZONTAL_VELOCITY = -6;         // Horizontal speed at which the enemy plane moves
+    private static final double HORIZONTAL_VELOCITY = -120;    // Horizontal speed of the enemy plane in pixels per second
     private static final double PROJECTILE_X_OFFSET = -100.0;  // X offset for the projectile position relative to the enemy plane
     private static final double PROJECTILE_Y_OFFSET = 50.0;    // Y offset for the projectile position relative to the enemy plane
     private static final int INITIAL_HEALTH = 1;               // Initial health of the enemy plane
@@ -26,28 +26,29 @@ public class EnemyPlane extends FighterPlane {
      */
     public EnemyPlane(double initialXPos, double initialYPos) {
         // Call the superclass (FighterPlane) constructor with the image, height, position, and health
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+        super(SPRITE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
     }
 
     /**
-     * Updates the position of the enemy plane. The enemy plane moves horizontally at a predefined velocity.
+     * Updates the movement of the enemy plane. The enemy plane moves horizontally at a predefined velocity.
      */
     @Override
     public void updatePosition() {
-        // Move the enemy plane horizontally by the predefined velocity (to the left)
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        // Move the enemy plane horizontally at the predefined velocity (to the left)
+        setVelocity(HORIZONTAL_VELOCITY, 0);
     }
 
     /**
      * Determines if the enemy plane should fire a projectile. 
      * If the condition is met (based on fire rate), it creates and returns a new projectile.
      *
+     * @param random the level's source of randomness, used to roll the fire rate
      * @return an {@code ActiveActorDestructible} object representing the fired projectile, or {@code null} if no projectile is fired
      */
     @Override
-    public ActiveActorDestructible fireProjectile() {
+    public ActiveActorDestructible fireProjectile(GameRandom random) {
         // If the condition is met (based on fire rate), create and return a new projectile
-        if (shouldFireProjectile()) {
+        if (shouldFireProjectile(random)) {
             return createProjectile();
         }
         // If the condition is not met, return null (no projectile fired)
@@ -56,17 +57,18 @@ public class EnemyPlane extends FighterPlane {
 
     /**
      * Determines if the enemy plane should fire a projectile based on the fire rate.
-     * This method uses randomization to simulate the firing decision.
+     * This method uses the level's seeded randomness to simulate the firing decision.
      *
+     * @param random the level's source of randomness
      * @return {@code true} if the projectile should be fired, otherwise {@code false}
      */
-    private boolean shouldFireProjectile() {
+    private boolean shouldFireProjectile(GameRandom random) {
         // Randomly decides whether to fire based on the fire rate
-        return Math.random() < FIRE_RATE;
+        return random.chance(FIRE_RATE);
     }
 
     /**
-     * Creates a new projectile for the enemy plane at a calculated position relative to the plane.
+     * Acquires a projectile from the shared pool at a calculated position relative to the enemy plane.
      * 
      * @return a new {@code ActiveActorDestructible} projectile representing the enemy's attack
      */
@@ -74,8 +76,8 @@ public class EnemyPlane extends FighterPlane {
         // Calculate the X and Y positions for the projectile relative to the enemy plane
         double xPosition = getProjectileXPosition(PROJECTILE_X_OFFSET);
         double yPosition = getProjectileYPosition(PROJECTILE_Y_OFFSET);
-        // Return a new EnemyProjectile object with the calculated position
-        return new EnemyProjectile(xPosition, yPosition);
+        // Acquire a pooled EnemyProjectile at the calculated position
+        return ActorPools.ENEMY_PROJECTILES.acquire(xPosition, yPosition);
     }
 
     /**
@@ -8,9 +8,9 @@ package com.example.demo;
 public class EnemyProjectile extends Projectile {
 
     // Constants specific to the EnemyProjectile class
-    private static final String IMAGE_NAME = "enemyFire.png";  // Image used for the enemy projectile
+    private static final String SPRITE_NAME = SpriteAtlas.ENEMY_PROJECTILE;  // Sprite used for the enemy projectile
     private static final int IMAGE_HEIGHT = 50;               // Height of the enemy projectile image
-    private static final int HORIZONTAL_VELOCITY = -10;       // Horizontal speed at which the enemy projectile moves (negative for left movement)
+    private static final double HORIZONTAL_VELOCITY = -200;   // Horizontal speed in pixels per second (negative for left movement)
 
     /**
      * Constructs an {@code EnemyProjectile} object with the specified initial X and Y positions.
@@ -21,16 +21,16 @@ public class EnemyProjectile extends Projectile {
      */
     public EnemyProjectile(double initialXPos, double initialYPos) {
         // Call the superclass (Projectile) constructor with the image, height, and initial position
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        super(SPRITE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
     }
 
     /**
-     * Updates the position of the enemy projectile. The projectile moves horizontally at a predefined velocity.
+     * Updates the movement of the enemy projectile. The projectile moves horizontally at a predefined velocity.
      */
     @Override
     public void updatePosition() {
-        // Move the enemy projectile horizontally by the predefined velocity (to the left)
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        // Move the enemy projectile horizontally at the predefined velocity (to the left)
+        setVelocity(HORIZONTAL_VELOCITY * getSpeedScale(), 0); // Scaled by the level that fired it
     }
 
     /**
@@ -0,0 +1,424 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code EntityStore} class stores the simulation state of every entity in a {@link World}
+ * as parallel primitive arrays (structure of arrays), so that movement and collision passes run as tight loops
+ * over contiguous memory instead of following references to individual objects.
+ * Entities occupy the slots {@code 0..size-1}; removing an entity moves the last entity into its slot,
+ * so slot numbers are not stable. {@link Body} handles bound to the store are kept up to date when that happens.
+ * The arrays are package-private so that the world can read and write them directly in its hot loops.
+ * <p>
+ * Collisions use each entity's hitbox rather than its full box. The hitbox is kept twice: as edges relative to
+ * the entity's position, fixed for the entity's lifetime, and as world coordinates, which are recomputed whenever
+ * the position changes so that collision passes read them as they are.
+ * </p>
+ */
+public class EntityStore {
+
+    /**
+     * Kind of the entities on the player's side.
+     */
+    public static final byte KIND_FRIENDLY = 0;
+
+    /**
+     * Kind of the enemy entities.
+     */
+    public static final byte KIND_ENEMY = 1;
+
+    /**
+     * Kind of the projectiles fired by the player's side.
+     */
+    public static final byte KIND_USER_PROJECTILE = 2;
+
+    /**
+     * Kind of the projectiles fired by the enemy side.
+     */
+    public static final byte KIND_ENEMY_PROJECTILE = 3;
+
+    // Number of entity kinds
+    private static final int KIND_COUNT = 4;
+
+    // Initial number of slots
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Entity state, indexed by slot
+    double[] x;
+    double[] y;
+    double[] previousX;
+    double[] previousY;
+    double[] velocityX;
+    double[] velocityY;
+    double[] width;
+    double[] height;
+    double[] hitboxLeft;
+    double[] hitboxTop;
+    double[] hitboxRight;
+    double[] hitboxBottom;
+    double[] hitboxMinX;
+    double[] hitboxMinY;
+    double[] hitboxMaxX;
+    double[] hitboxMaxY;
+    double[] minYLimit;
+    double[] maxYLimit;
+    int[] health;
+    int[] ageInTicks;
+    byte[] kind;
+    long[] destroyed;
+    long[] invulnerable;
+    Body[] owners;
+
+    // Number of occupied slots, in total and per kind
+    private int size;
+    private final int[] kindCounts;
+
+    /**
+     * Constructs an empty {@code EntityStore}.
+     */
+    public EntityStore() {
+        this.kindCounts = new int[KIND_COUNT];
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds a body to the store and binds it to its new slot.
+     *
+     * @param body the body to add; it must not be bound to a store already
+     * @param entityKind the kind of the entity
+     * @return the slot the body was stored in
+     */
+    public int add(Body body, byte entityKind) {
+        if (body.isBound()) {
+            throw new IllegalStateException("Body is already part of a world.");
+        }
+        ensureCapacity(size + 1);
+        int slot = size++;
+        kind[slot] = entityKind;
+        kindCounts[entityKind]++;
+        owners[slot] = body;
+        body.bind(this, slot);
+        return slot;
+    }
+
+    /**
+     * Removes every destroyed entity, moving the last entity into each freed slot.
+     * Removed bodies are unbound and keep their final state.
+     *
+     * @return the number of removed entities
+     */
+    public int removeDestroyed() {
+        int removed = 0;
+        int slot = 0;
+        while (slot < size) {
+            if (isDestroyed(slot)) {
+                removeAt(slot); // The last entity now occupies this slot, so check it again
+                removed++;
+            } else {
+                slot++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every entity from the store. Removed bodies are unbound and keep their final state.
+     */
+    public void clear() {
+        for (int slot = 0; slot < size; slot++) {
+            owners[slot].unbind();
+            owners[slot] = null;
+        }
+        Arrays.fill(destroyed, 0);
+        Arrays.fill(invulnerable, 0);
+        Arrays.fill(kindCounts, 0);
+        size = 0;
+    }
+
+    /**
+     * Removes the entity in a slot by moving the last entity into it.
+     *
+     * @param slot the slot to free
+     */
+    private void removeAt(int slot) {
+        owners[slot].unbind();
+        kindCounts[kind[slot]]--;
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            velocityX[slot] = velocityX[last];
+            velocityY[slot] = velocityY[last];
+            width[slot] = width[last];
+            height[slot] = height[last];
+            hitboxLeft[slot] = hitboxLeft[last];
+            hitboxTop[slot] = hitboxTop[last];
+            hitboxRight[slot] = hitboxRight[last];
+            hitboxBottom[slot] = hitboxBottom[last];
+            hitboxMinX[slot] = hitboxMinX[last];
+            hitboxMinY[slot] = hitboxMinY[last];
+            hitboxMaxX[slot] = hitboxMaxX[last];
+            hitboxMaxY[slot] = hitboxMaxY[last];
+            minYLimit[slot] = minYLimit[last];
+            maxYLimit[slot] = maxYLimit[last];
+            health[slot] = health[last];
+            ageInTicks[slot] = ageInTicks[last];
+            kind[slot] = kind[last];
+            setDestroyed(slot, isDestroyed(last));
+            setInvulnerable(slot, isInvulnerable(last));
+            owners[slot] = owners[last];
+            owners[slot].moveTo(slot);
+        }
+        setDestroyed(last, false);
+        setInvulnerable(last, false);
+        owners[last] = null;
+    }
+
+    /**
+     * Recomputes the world coordinates of the hitbox of the entity in a slot from its position.
+     * Called whenever the position of the entity changes.
+     *
+     * @param slot the slot of the entity
+     */
+    void updateHitbox(int slot) {
+        hitboxMinX[slot] = x[slot] + hitboxLeft[slot];
+        hitboxMinY[slot] = y[slot] + hitboxTop[slot];
+        hitboxMaxX[slot] = x[slot] + hitboxRight[slot];
+        hitboxMaxY[slot] = y[slot] + hitboxBottom[slot];
+    }
+
+    /**
+     * Checks whether the hitboxes of two entities touched at any time during the latest step, rather than only
+     * at its end. Both hitboxes are taken to move in a straight line from their previous position to their current
+     * one, so the first is swept along its motion relative to the second and tested against it with the slab
+     * method: the hitboxes touched if the times during which they overlap along each axis intersect within the step.
+     * Fast or thin entities therefore cannot pass through each other between two steps, whatever the tick rate.
+     *
+     * @param a the slot of the first entity
+     * @param b the slot of the second entity
+     * @return {@code true} if the hitboxes overlapped during the step, touching edges included
+     */
+    boolean sweptHitboxesOverlap(int a, int b) {
+        double enter = 0;
+        double exit = 1;
+
+        // Motion of the first hitbox relative to the second, both starting from their previous positions
+        double deltaX = (x[a] - previousX[a]) - (x[b] - previousX[b]);
+        double aMin = previousX[a] + hitboxLeft[a];
+        double aMax = previousX[a] + hitboxRight[a];
+        double bMin = previousX[b] + hitboxLeft[b];
+        double bMax = previousX[b] + hitboxRight[b];
+        if (deltaX == 0) {
+            if (aMax < bMin || bMax < aMin) return false; // Apart along X for the whole step
+        } else {
+            double first = (bMin - aMax) / deltaX;
+            double last = (bMax - aMin) / deltaX;
+            enter = Math.max(enter, Math.min(first, last));
+            exit = Math.min(exit, Math.max(first, last));
+            if (enter > exit) return false;
+        }
+
+        double deltaY = (y[a] - previousY[a]) - (y[b] - previousY[b]);
+        aMin = previousY[a] + hitboxTop[a];
+        aMax = previousY[a] + hitboxBottom[a];
+        bMin = previousY[b] + hitboxTop[b];
+        bMax = previousY[b] + hitboxBottom[b];
+        if (deltaY == 0) {
+            return aMax >= bMin && bMax >= aMin;
+        }
+        double first = (bMin - aMax) / deltaY;
+        double last = (bMax - aMin) / deltaY;
+        return Math.max(enter, Math.min(first, last)) <= Math.min(exit, Math.max(first, last));
+    }
+
+    /**
+     * Gets the smallest X coordinate covered by the hitbox of an entity during the latest step.
+     *
+     * @param slot the slot of the entity
+     * @return the minimum X coordinate of the swept hitbox
+     */
+    double sweptMinX(int slot) {
+        return Math.min(hitboxMinX[slot], previousX[slot] + hitboxLeft[slot]);
+    }
+
+    /**
+     * Gets the smallest Y coordinate covered by the hitbox of an entity during the latest step.
+     *
+     * @param slot the slot of the entity
+     * @return the minimum Y coordinate of the swept hitbox
+     */
+    double sweptMinY(int slot) {
+        return Math.min(hitboxMinY[slot], previousY[slot] + hitboxTop[slot]);
+    }
+
+    /**
+     * Gets the largest X coordinate covered by the hitbox of an entity during the latest step.
+     *
+     * @param slot the slot of the entity
+     * @return the maximum X coordinate of the swept hitbox
+     */
+    double sweptMaxX(int slot) {
+        return Math.max(hitboxMaxX[slot], previousX[slot] + hitboxRight[slot]);
+    }
+
+    /**
+     * Gets the largest Y coordinate covered by the hitbox of an entity during the latest step.
+     *
+     * @param slot the slot of the entity
+     * @return the maximum Y coordinate of the swept hitbox
+     */
+    double sweptMaxY(int slot) {
+        return Math.max(hitboxMaxY[slot], previousY[slot] + hitboxBottom[slot]);
+    }
+
+    /**
+     * Checks whether the entity in a slot is destroyed.
+     *
+     * @param slot the slot of the entity
+     * @return {@code true} if the entity is destroyed, otherwise {@code false}
+     */
+    boolean isDestroyed(int slot) {
+        return (destroyed[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Sets the destroyed state of the entity in a slot.
+     *
+     * @param slot the slot of the entity
+     * @param isDestroyed the new destroyed state
+     */
+    void setDestroyed(int slot, boolean isDestroyed) {
+        if (isDestroyed) {
+            destroyed[slot >>> 6] |= 1L << slot;
+        } else {
+            destroyed[slot >>> 6] &= ~(1L << slot);
+        }
+    }
+
+    /**
+     * Checks whether the entity in a slot ignores damage.
+     *
+     * @param slot the slot of the entity
+     * @return {@code true} if the entity is invulnerable, otherwise {@code false}
+     */
+    boolean isInvulnerable(int slot) {
+        return (invulnerable[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Sets whether the entity in a slot ignores damage.
+     *
+     * @param slot the slot of the entity
+     * @param isInvulnerable the new invulnerable state
+     */
+    void setInvulnerable(int slot, boolean isInvulnerable) {
+        if (isInvulnerable) {
+            invulnerable[slot >>> 6] |= 1L << slot;
+        } else {
+            invulnerable[slot >>> 6] &= ~(1L << slot);
+        }
+    }
+
+    /**
+     * Decreases the health of the entity in a slot by one and destroys it once health reaches zero.
+     * An invulnerable entity takes no damage, although whatever hit it still does.
+     *
+     * @param slot the slot of the entity
+     */
+    void takeDamage(int slot) {
+        if (isInvulnerable(slot)) {
+            return; // Shielded, so the hit is absorbed
+        }
+        if (--health[slot] <= 0) {
+            setDestroyed(slot, true);
+        }
+    }
+
+    /**
+     * Gets the number of entities in the store.
+     *
+     * @return the entity count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of entities of a kind in the store.
+     *
+     * @param entityKind the kind of entity
+     * @return the entity count for the kind
+     */
+    public int count(byte entityKind) {
+        return kindCounts[entityKind];
+    }
+
+    /**
+     * Grows the arrays so that they can hold at least the specified number of entities.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > x.length) {
+            int newCapacity = Math.max(capacity, x.length * 2);
+            x = Arrays.copyOf(x, newCapacity);
+            y = Arrays.copyOf(y, newCapacity);
+            previousX = Arrays.copyOf(previousX, newCapacity);
+            previousY = Arrays.copyOf(previousY, newCapacity);
+            velocityX = Arrays.copyOf(velocityX, newCapacity);
+            velocityY = Arrays.copyOf(velocityY, newCapacity);
+            width = Arrays.copyOf(width, newCapacity);
+            height = Arrays.copyOf(height, newCapacity);
+            hitboxLeft = Arrays.copyOf(hitboxLeft, newCapacity);
+            hitboxTop = Arrays.copyOf(hitboxTop, newCapacity);
+            hitboxRight = Arrays.copyOf(hitboxRight, newCapacity);
+            hitboxBottom = Arrays.copyOf(hitboxBottom, newCapacity);
+            hitboxMinX = Arrays.copyOf(hitboxMinX, newCapacity);
+            hitboxMinY = Arrays.copyOf(hitboxMinY, newCapacity);
+            hitboxMaxX = Arrays.copyOf(hitboxMaxX, newCapacity);
+            hitboxMaxY = Arrays.copyOf(hitboxMaxY, newCapacity);
+            minYLimit = Arrays.copyOf(minYLimit, newCapacity);
+            maxYLimit = Arrays.copyOf(maxYLimit, newCapacity);
+            health = Arrays.copyOf(health, newCapacity);
+            ageInTicks = Arrays.copyOf(ageInTicks, newCapacity);
+            kind = Arrays.copyOf(kind, newCapacity);
+            destroyed = Arrays.copyOf(destroyed, (newCapacity + 63) >>> 6);
+            invulnerable = Arrays.copyOf(invulnerable, (newCapacity + 63) >>> 6);
+            owners = Arrays.copyOf(owners, newCapacity);
+        }
+    }
+
+    /**
+     * Allocates empty arrays of the specified capacity.
+     *
+     * @param capacity the number of slots
+     */
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        previousX = new double[capacity];
+        previousY = new double[capacity];
+        velocityX = new double[capacity];
+        velocityY = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+        hitboxLeft = new double[capacity];
+        hitboxTop = new double[capacity];
+        hitboxRight = new double[capacity];
+        hitboxBottom = new double[capacity];
+        hitboxMinX = new double[capacity];
+        hitboxMinY = new double[capacity];
+        hitboxMaxX = new double[capacity];
+        hitboxMaxY = new double[capacity];
+        minYLimit = new double[capacity];
+        maxYLimit = new double[capacity];
+        health = new int[capacity];
+        ageInTicks = new int[capacity];
+        kind = new byte[capacity];
+        destroyed = new long[(capacity + 63) >>> 6];
+        invulnerable = new long[(capacity + 63) >>> 6];
+        owners = new Body[capacity];
+    }
+}
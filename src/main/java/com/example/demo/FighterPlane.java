@@ -1,43 +1,78 @@
 package com.example.demo;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
 /**
  * The {@code FighterPlane} class represents an abstract fighter plane that can take damage, 
  * fire projectiles, and manage its health. It extends the {@code ActiveActorDestructible} class 
  * and provides common functionality for fighter planes in the game, such as health management 
  * and the ability to fire projectiles at a controlled rate.
+ * <p>
+ * The fire rate is a cooldown counted in simulation ticks on the world's {@link TimingWheel}, so it pauses with the
+ * game whatever the speed of the machine. Its length in ticks is derived from the level's tick rate, so that planes
+ * fire once per simulated second at any tick rate.
+ * </p>
+ * <p>
+ * The plane's health is held by its body and changed in bulk by the simulation, so it is also published as an
+ * observable {@link #healthProperty()}: views listen to it and only update when the health actually changes.
+ * </p>
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
     // Instance variables
-    private int health;                 // The health of the fighter plane
-    private long lastFiredTime;         // The time when the plane last fired a projectile
-    private static final long FIRE_RATE = 1000; // Milliseconds between shots (1 second)
+    private final int initialHealth;    // The health of the fighter plane when it is created or reset
+    private static final double FIRE_COOLDOWN_SECONDS = 1.0; // Simulated time between shots
+    private TimingWheel cooldownTimers;  // The timers running the fire cooldown, once the plane has fired
+    private long cooldownHandle = TimingWheel.NO_TIMER; // The pending fire cooldown, if any
+    private static final TimerCallback END_COOLDOWN = () -> { }; // The cooldown only has to run out
+    private final ReadOnlyIntegerWrapper health = new ReadOnlyIntegerWrapper(this, "health"); // Published health
 
     /**
      * Constructs a {@code FighterPlane} object with the specified image, position, and health.
      * This constructor initializes the fighter plane by calling the constructor of the superclass 
-     * and setting the health and last fired time.
+     * and setting the health.
      *
-     * @param imageName the name of the image used for the plane
+     * @param spriteName the name of the sprite used for the plane
      * @param imageHeight the height of the image
      * @param initialXPos the initial X position of the plane
      * @param initialYPos the initial Y position of the plane
      * @param health the initial health of the fighter plane
      */
-    public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
+    public FighterPlane(String spriteName, int imageHeight, double initialXPos, double initialYPos, int health) {
         // Call the constructor of the superclass (ActiveActorDestructible) to set the image and position
-        super(imageName, imageHeight, initialXPos, initialYPos);
-        this.health = health;
-        this.lastFiredTime = System.currentTimeMillis(); // Initialize the firing time
+        super(spriteName, imageHeight, initialXPos, initialYPos);
+        this.initialHealth = health;
+        getBody().setHealth(health); // The health of the fighter plane is held by its body
+        publishHealth();
     }
 
     /**
      * Abstract method that must be implemented by subclasses to fire a projectile.
      * Subclasses must provide the specific implementation of how to fire a projectile.
      *
+     * @param random the level's source of randomness, for planes that fire by chance
      * @return an {@code ActiveActorDestructible} object representing the fired projectile
      */
-    public abstract ActiveActorDestructible fireProjectile();
+    public abstract ActiveActorDestructible fireProjectile(GameRandom random);
+
+    /**
+     * Resets the fighter plane to its initial state, restoring its health and cancelling its fire cooldown,
+     * so that it can be reused.
+     *
+     * @param initialXPos the initial X position of the plane
+     * @param initialYPos the initial Y position of the plane
+     */
+    @Override
+    public void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        getBody().setHealth(initialHealth);
+        publishHealth();
+        if (cooldownTimers != null) {
+            cooldownTimers.cancel(cooldownHandle);
+        }
+        cooldownHandle = TimingWheel.NO_TIMER;
+    }
 
     /**
      * Checks if the health of the plane is zero or less.
@@ -45,16 +80,20 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return {@code true} if health is zero or less, otherwise {@code false}
      */
     private boolean isHealthAtZero() {
-        return health <= 0;
+        return getHealth() <= 0;
     }
 
     /**
      * Decreases the health of the fighter plane by 1 and destroys the plane if health reaches zero.
-     * This method is called when the plane takes damage.
+     * This method is called when the plane takes damage; an invulnerable plane takes none.
      */
     @Override
     public void takeDamage() {
-        health--;  // Decrease the health by 1
+        if (getBody().isInvulnerable()) {
+            return; // Shielded planes ignore the hit
+        }
+        getBody().setHealth(getHealth() - 1);  // Decrease the health by 1
+        publishHealth();
         if (isHealthAtZero()) {
             destroy();  // If health reaches zero, destroy the plane
         }
@@ -68,7 +107,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the calculated X position for the projectile
      */
     protected double getProjectileXPosition(double xPositionOffset) {
-        return getLayoutX() + getTranslateX() + xPositionOffset; // Calculate based on current position + offset
+        return getBody().getX() + xPositionOffset; // Calculate based on current position + offset
     }
 
     /**
@@ -79,7 +118,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the calculated Y position for the projectile
      */
     protected double getProjectileYPosition(double yPositionOffset) {
-        return getLayoutY() + getTranslateY() + yPositionOffset; // Calculate based on current position + offset
+        return getBody().getY() + yPositionOffset; // Calculate based on current position + offset
     }
 
     /**
@@ -88,22 +127,60 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the current health of the fighter plane
      */
     public int getHealth() {
-        return health;
+        return getBody().getHealth();
+    }
+
+    /**
+     * Gets the health of the plane when it is created or reset.
+     *
+     * @return the initial health of the fighter plane
+     */
+    public int getInitialHealth() {
+        return initialHealth;
+    }
+
+    /**
+     * Publishes the health held by the plane's body to the health property. The simulation damages bodies
+     * without going through the plane, so the level publishes the health after each step; listeners are only
+     * notified when the value differs from the one published last.
+     */
+    public void publishHealth() {
+        health.set(getBody().getHealth());
+    }
+
+    /**
+     * Gets the observable health of the plane, as of the latest {@link #publishHealth()}.
+     *
+     * @return the read-only health property
+     */
+    public ReadOnlyIntegerProperty healthProperty() {
+        return health.getReadOnlyProperty();
     }
 
     /**
      * Checks if the plane is allowed to fire a projectile based on the fire rate.
-     * Ensures that enough time has passed since the last shot before firing again.
+     * A plane may fire when no cooldown is running; firing starts a new cooldown on the given timers.
      *
+     * @param timers the timers of the simulation world, advanced once per tick
+     * @param tickRate the number of simulation ticks per second
      * @return {@code true} if the plane can fire, otherwise {@code false}
      */
-    public boolean canFire() {
-        long currentTime = System.currentTimeMillis(); // Get the current system time
-        // Check if enough time has passed since the last shot
-        if (currentTime - lastFiredTime >= FIRE_RATE) {
-            lastFiredTime = currentTime; // Update the last fired time
-            return true; // Allow the plane to fire
+    public boolean canFire(TimingWheel timers, int tickRate) {
+        if (timers.isPending(cooldownHandle)) {
+            return false; // The cooldown of the last shot is still running
         }
-        return false; // Not enough time has passed, so cannot fire
+        cooldownTimers = timers;
+        cooldownHandle = timers.schedule(getFireCooldownTicks(tickRate), END_COOLDOWN); // Allow the next shot once it ends
+        return true;
+    }
+
+    /**
+     * Gets the length of the fire cooldown in ticks at a tick rate, rounded to the nearest tick and at least one.
+     *
+     * @param tickRate the number of simulation ticks per second
+     * @return the number of ticks between shots
+     */
+    static int getFireCooldownTicks(int tickRate) {
+        return (int) Math.max(1, Math.round(FIRE_COOLDOWN_SECONDS * tickRate));
     }
 }
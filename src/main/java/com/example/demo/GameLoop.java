@@ -0,0 +1,233 @@
+package com.example.demo;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * The {@code GameLoop} class drives the game with a fixed-timestep simulation on top of an {@link AnimationTimer}.
+ * Elapsed frame time is accumulated and the simulation is stepped in whole ticks of a fixed length, so game speed
+ * no longer depends on when frames arrive. After the ticks of a frame have run, the renderer is called once with the
+ * fraction of a tick left in the accumulator, which can be used to interpolate between the last two simulation states.
+ * The number of ticks run per frame is capped so that a slow frame cannot trigger an ever-growing backlog of ticks.
+ */
+public class GameLoop extends AnimationTimer {
+
+    // Number of nanoseconds in one second
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // Simulation and rendering callbacks
+    private final Runnable simulation;
+    private final DoubleConsumer renderer;
+
+    // Fixed tick length and the maximum number of ticks run in a single frame
+    private final int tickRate;
+    private final long tickNanos;
+    private final int maxTicksPerFrame;
+
+    // Loop state
+    private boolean running;
+    private long lastFrameTime;
+    private long accumulatedNanos;
+
+    // Timing statistics
+    private long tickCount;
+    private long frameCount;
+    private long droppedTickCount;
+    private long lastTickNanos;
+    private long maxTickNanos;
+    private long totalTickNanos;
+
+    /**
+     * Constructs a {@code GameLoop} that runs the simulation at the specified tick rate.
+     *
+     * @param tickRate the number of simulation ticks per second
+     * @param maxTicksPerFrame the maximum number of ticks run to catch up within a single frame
+     * @param simulation the callback that advances the simulation by one tick
+     * @param renderer the callback that renders a frame, given the interpolation factor between 0 and 1,
+     *                 or {@code null} if nothing needs to be done per frame
+     */
+    public GameLoop(int tickRate, int maxTicksPerFrame, Runnable simulation, DoubleConsumer renderer) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        if (maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Maximum ticks per frame must be positive: " + maxTicksPerFrame);
+        }
+        this.tickRate = tickRate;
+        this.tickNanos = NANOS_PER_SECOND / tickRate;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        this.simulation = simulation;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Starts the loop. Time spent while the loop was stopped is not simulated.
+     */
+    @Override
+    public void start() {
+        running = true;
+        lastFrameTime = -1;
+        accumulatedNanos = 0;
+        super.start();
+    }
+
+    /**
+     * Stops the loop. When called from within a tick, no further ticks of the current frame are run.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    /**
+     * Runs the simulation ticks that are due for this frame and renders the frame.
+     *
+     * @param now the timestamp of the current frame in nanoseconds
+     */
+    @Override
+    public void handle(long now) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = now; // First frame after start only establishes the time base
+            return;
+        }
+        accumulatedNanos += now - lastFrameTime;
+        lastFrameTime = now;
+        frameCount++;
+
+        int ticksThisFrame = 0;
+        while (running && accumulatedNanos >= tickNanos && ticksThisFrame < maxTicksPerFrame) {
+            long tickStart = System.nanoTime();
+            simulation.run();
+            recordTick(System.nanoTime() - tickStart);
+            accumulatedNanos -= tickNanos;
+            ticksThisFrame++;
+        }
+
+        if (accumulatedNanos >= tickNanos) {
+            // Too far behind: drop the backlog instead of spiralling into ever longer frames
+            droppedTickCount += accumulatedNanos / tickNanos;
+            accumulatedNanos %= tickNanos;
+        }
+
+        if (renderer != null) {
+            renderer.accept((double) accumulatedNanos / tickNanos);
+        }
+    }
+
+    /**
+     * Records the duration of a simulation tick.
+     *
+     * @param durationNanos the duration of the tick in nanoseconds
+     */
+    private void recordTick(long durationNanos) {
+        tickCount++;
+        lastTickNanos = durationNanos;
+        totalTickNanos += durationNanos;
+        maxTickNanos = Math.max(maxTickNanos, durationNanos);
+    }
+
+    /**
+     * Checks whether the loop is running.
+     *
+     * @return {@code true} if the loop has been started and not stopped, otherwise {@code false}
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the number of simulation ticks per second.
+     *
+     * @return the tick rate
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Gets the length of a simulation tick, which is the time budget available to each tick.
+     *
+     * @return the tick length in nanoseconds
+     */
+    public long getTickBudgetNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Gets the number of simulation ticks run so far.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the number of frames handled so far.
+     *
+     * @return the frame count
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gets the number of ticks that were skipped because the loop fell too far behind.
+     *
+     * @return the dropped tick count
+     */
+    public long getDroppedTickCount() {
+        return droppedTickCount;
+    }
+
+    /**
+     * Gets the duration of the latest simulation tick.
+     *
+     * @return the latest tick duration in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Gets the longest simulation tick duration observed.
+     *
+     * @return the maximum tick duration in nanoseconds
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * Gets the mean simulation tick duration.
+     *
+     * @return the average tick duration in nanoseconds, or 0 if no tick has run
+     */
+    public double getAverageTickNanos() {
+        return tickCount == 0 ? 0 : (double) totalTickNanos / tickCount;
+    }
+
+    /**
+     * Gets the fraction of the tick budget left unused by an average tick.
+     * A value close to 1 means plenty of headroom; a negative value means ticks take longer than their budget.
+     *
+     * @return the average headroom as a fraction of the tick budget
+     */
+    public double getHeadroom() {
+        return 1.0 - getAverageTickNanos() / tickNanos;
+    }
+
+    /**
+     * Resets the timing statistics.
+     */
+    public void resetStatistics() {
+        tickCount = 0;
+        frameCount = 0;
+        droppedTickCount = 0;
+        lastTickNanos = 0;
+        maxTickNanos = 0;
+        totalTickNanos = 0;
+    }
+}
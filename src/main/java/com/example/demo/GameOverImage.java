@@ -30,7 +30,7 @@ public class GameOverImage extends ImageView {
      * @return an {@code Image} object representing the loaded game over image
      */
     private Image loadImage() { // Added this method
-        return new Image(getClass().getResource(IMAGE_PATH).toExternalForm()); // Load image from resources
+        return SpriteCache.getImage(IMAGE_PATH); // Load image from the shared sprite cache
     }
 }
 
@@ -0,0 +1,162 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code GameRandom} class is the source of all gameplay randomness of a level: spawn chances, spawn positions,
+ * enemy types and enemy fire. It wraps a {@link SplittableRandom} seeded from a single number, so a level replays the
+ * same sequence of random decisions whenever it is started with the same seed, and benchmark runs are reproducible.
+ * <p>
+ * Unlike {@code Math.random()}, which shares one synchronized generator across the process, each level owns its
+ * generator and uses it from one thread without any atomic operations. Work split across threads takes its own
+ * generator from {@link #split()}, so threads never contend for one.
+ * </p>
+ * <p>
+ * Every level seed is derived from the game seed and the level identifier. The game seed is read from the
+ * {@code skybattle.seed} system property, or picked at random on startup; either way it is printed, so that
+ * any run can be repeated.
+ * </p>
+ */
+public final class GameRandom {
+
+    /**
+     * System property holding the game seed, for example {@code -Dskybattle.seed=42}.
+     */
+    public static final String SEED_PROPERTY = "skybattle.seed";
+
+    // Odd constant spreading level identifiers across the seed space
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    // Seed every level seed of this run is derived from
+    private static final long GAME_SEED = loadGameSeed();
+
+    // Seed of the current sequence and the generator producing it
+    private long seed;
+    private SplittableRandom random;
+
+    /**
+     * Constructs a {@code GameRandom} producing the sequence of the specified seed.
+     *
+     * @param seed the seed of the sequence
+     */
+    public GameRandom(long seed) {
+        reseed(seed);
+    }
+
+    /**
+     * Constructs a {@code GameRandom} from an existing generator, used when splitting.
+     *
+     * @param seed the seed reported for the sequence
+     * @param random the generator producing the sequence
+     */
+    private GameRandom(long seed, SplittableRandom random) {
+        this.seed = seed;
+        this.random = random;
+    }
+
+    /**
+     * Derives the seed of a level from the game seed, so that each level of a run has its own sequence.
+     *
+     * @param levelId the identifier of the level
+     * @return the level seed
+     */
+    public static long seedFor(String levelId) {
+        return new SplittableRandom(GAME_SEED + levelId.hashCode() * SEED_MIX).nextLong();
+    }
+
+    /**
+     * Gets the seed every level seed of this run is derived from.
+     *
+     * @return the game seed
+     */
+    public static long getGameSeed() {
+        return GAME_SEED;
+    }
+
+    /**
+     * Restarts the generator on the sequence of the specified seed.
+     *
+     * @param seed the seed of the sequence
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates an independent generator for work done on another thread. The new generator's sequence
+     * is fixed by this generator's state, so splitting at the same point of a run always gives the same sequence.
+     *
+     * @return the new generator
+     */
+    public GameRandom split() {
+        SplittableRandom child = random.split();
+        return new GameRandom(seed, child);
+    }
+
+    /**
+     * Gets the next number of the sequence.
+     *
+     * @return a uniformly distributed number in {@code [0, 1)}
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Gets the next number of the sequence below a bound.
+     *
+     * @param bound the exclusive upper bound, which must be positive
+     * @return a uniformly distributed number in {@code [0, bound)}
+     */
+    public double nextDouble(double bound) {
+        return random.nextDouble(bound);
+    }
+
+    /**
+     * Gets the next integer of the sequence below a bound.
+     *
+     * @param bound the exclusive upper bound, which must be positive
+     * @return a uniformly distributed integer in {@code [0, bound)}
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Rolls a chance.
+     *
+     * @param probability the probability of success, between 0 and 1
+     * @return {@code true} with the specified probability
+     */
+    public boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * Gets the seed the current sequence started from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reads the game seed from its system property, or picks one at random, and prints it.
+     *
+     * @return the game seed
+     */
+    private static long loadGameSeed() {
+        long seed;
+        String property = System.getProperty(SEED_PROPERTY);
+        try {
+            seed = property != null ? Long.parseLong(property.trim()) : new SplittableRandom().nextLong();
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid " + SEED_PROPERTY + ": " + property + ". Using a random seed.");
+            seed = new SplittableRandom().nextLong();
+        }
+        System.out.println("Game seed: " + seed + " (repeat this run with -D" + SEED_PROPERTY + "=" + seed + ")");
+        return seed;
+    }
+}
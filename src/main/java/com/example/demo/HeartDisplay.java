@@ -1,17 +1,17 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
 /**
  * The {@code HeartDisplay} class represents a visual display of hearts, typically used to indicate the player's remaining lives.
  * The hearts are displayed in an {@code HBox} container, and the number of hearts can decrease as the player loses lives.
+ * The display keeps its own count of hearts, so showing an unchanged health costs a single comparison.
  */
 public class HeartDisplay {
 
-    // Path to the heart image
-    private static final String HEART_IMAGE_PATH = "/com/example/demo/images/heart.png";
+    // Name of the heart sprite in the sprite atlas
+    private static final String HEART_SPRITE_NAME = SpriteAtlas.HEART;
     // Height of each heart image
     private static final int HEART_HEIGHT = 50;
     // Index for removing the first heart from the container
@@ -20,6 +20,9 @@ public class HeartDisplay {
     // HBox container to hold the heart images
     private final HBox container;
 
+    // Number of hearts in the container
+    private int heartCount;
+
     /**
      * Constructs a {@code HeartDisplay} object, initializing the container's position and populating it with hearts.
      *
@@ -54,6 +57,7 @@ public class HeartDisplay {
             ImageView heart = createHeartImageView(); // Create a heart ImageView
             container.getChildren().add(heart); // Add the heart ImageView to the container
         }
+        heartCount += Math.max(0, numberOfHearts);
     }
 
     /**
@@ -62,28 +66,46 @@ public class HeartDisplay {
      * @return an {@code ImageView} displaying the heart image
      */
     private ImageView createHeartImageView() {
-        ImageView heart = new ImageView(loadHeartImage()); // Load the heart image
+        SpriteAtlas atlas = SpriteAtlas.getDefault();
+        ImageView heart = new ImageView(atlas.getImage()); // Show the shared sprite atlas
+        heart.setViewport(atlas.getRegion(HEART_SPRITE_NAME).getViewport()); // Crop the atlas to the heart sprite
         heart.setFitHeight(HEART_HEIGHT); // Set the height of the heart
         heart.setPreserveRatio(true); // Preserve the aspect ratio of the image
         return heart;
     }
 
     /**
-     * Loads the heart image from the resources folder.
-     *
-     * @return an {@code Image} object representing the heart image
+     * Removes the first heart from the container. If the container is empty, no action is taken.
      */
-    private Image loadHeartImage() {
-        return new Image(getClass().getResource(HEART_IMAGE_PATH).toExternalForm()); // Load the heart image from resources
+    public void removeHeart() {
+        if (heartCount > 0) { // Check if the container has any hearts
+            container.getChildren().remove(FIRST_HEART_INDEX); // Remove the first heart
+            heartCount--;
+        }
     }
 
     /**
-     * Removes the first heart from the container. If the container is empty, no action is taken.
+     * Shows the specified number of hearts, removing or adding hearts as needed.
+     *
+     * @param numberOfHearts the number of hearts to show, clamped at zero
      */
-    public void removeHeart() {
-        if (!container.getChildren().isEmpty()) { // Check if the container has any hearts
-            container.getChildren().remove(FIRST_HEART_INDEX); // Remove the first heart
+    public void showHearts(int numberOfHearts) {
+        int target = Math.max(0, numberOfHearts);
+        while (heartCount > target) {
+            removeHeart();
         }
+        if (heartCount < target) {
+            initializeHearts(target - heartCount); // Health restored, for example when the level is reset
+        }
+    }
+
+    /**
+     * Returns the number of hearts shown.
+     *
+     * @return the heart count
+     */
+    public int getHeartCount() {
+        return heartCount;
     }
 
     /**
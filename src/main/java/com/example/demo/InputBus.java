@@ -0,0 +1,179 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code InputBus} class decouples player input from the simulation. Key handlers post commands to the bus,
+ * which stamps each one with the simulation tick it will be applied on; at the start of every tick the level
+ * dispatches the commands stamped for that tick. Because commands only take effect at tick boundaries, a session
+ * is fully described by its seed and its stamped commands, and an {@link InputRecorder} attached to the bus
+ * captures exactly what a replay needs.
+ * <p>
+ * Pending commands are kept in primitive arrays that only grow, so posting and dispatching do not allocate.
+ * The bus is used from the JavaFX application thread, or from the thread running a replay, and is not thread-safe.
+ * </p>
+ */
+public class InputBus {
+
+    /**
+     * Command that starts moving the user's plane up.
+     */
+    public static final byte MOVE_UP = 0;
+
+    /**
+     * Command that starts moving the user's plane down.
+     */
+    public static final byte MOVE_DOWN = 1;
+
+    /**
+     * Command that stops the user's plane.
+     */
+    public static final byte STOP = 2;
+
+    /**
+     * Command that fires a projectile from the user's plane.
+     */
+    public static final byte FIRE = 3;
+
+    /**
+     * Number of commands.
+     */
+    public static final int COMMAND_COUNT = 4;
+
+    // Initial capacity of the pending command arrays
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Pending commands and the tick each is stamped with, in posting order
+    private byte[] commands;
+    private long[] ticks;
+    private int pendingCount;
+
+    // Index of the next tick to be dispatched
+    private long tick;
+
+    // Recorder receiving every dispatched command, or null when not recording
+    private InputRecorder recorder;
+
+    /**
+     * Constructs an empty {@code InputBus} starting at tick 0.
+     */
+    public InputBus() {
+        this.commands = new byte[INITIAL_CAPACITY];
+        this.ticks = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Posts a command to be applied at the start of the next tick.
+     *
+     * @param command the command to post
+     */
+    public void post(byte command) {
+        post(command, tick);
+    }
+
+    /**
+     * Posts a command to be applied at the start of a specific tick, as a replay does.
+     *
+     * @param command the command to post
+     * @param tick the tick to apply the command on, no earlier than the next tick
+     * @throws IllegalArgumentException if the command is unknown or the tick has already been dispatched
+     */
+    public void post(byte command, long tick) {
+        if (command < 0 || command >= COMMAND_COUNT) {
+            throw new IllegalArgumentException("Unknown input command: " + command);
+        }
+        if (tick < this.tick) {
+            throw new IllegalArgumentException("Tick " + tick + " has already been dispatched; next tick is " + this.tick);
+        }
+        if (pendingCount == commands.length) {
+            commands = Arrays.copyOf(commands, pendingCount * 2);
+            ticks = Arrays.copyOf(ticks, pendingCount * 2);
+        }
+        commands[pendingCount] = command;
+        ticks[pendingCount] = tick;
+        pendingCount++;
+    }
+
+    /**
+     * Applies the commands stamped for the next tick in posting order, passes them to the recorder,
+     * and advances to the following tick. Commands stamped for later ticks stay pending.
+     *
+     * @param handler applies a command to the game
+     */
+    public void dispatch(IntConsumer handler) {
+        int kept = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            if (ticks[i] == tick) {
+                handler.accept(commands[i]);
+                record(commands[i]);
+            } else {
+                commands[kept] = commands[i]; // Keep a command stamped for a later tick
+                ticks[kept] = ticks[i];
+                kept++;
+            }
+        }
+        pendingCount = kept;
+        tick++;
+    }
+
+    /**
+     * Passes a dispatched command to the recorder. A failing recorder is detached so that the game goes on.
+     *
+     * @param command the dispatched command
+     */
+    private void record(byte command) {
+        if (recorder == null) return; // Not recording
+        try {
+            recorder.record(tick, command);
+        } catch (IOException e) {
+            System.err.println("Input recording failed and was stopped: " + e.getMessage());
+            recorder = null;
+        }
+    }
+
+    /**
+     * Drops every pending command and restarts the tick count at 0, as when a level is restarted.
+     */
+    public void reset() {
+        pendingCount = 0;
+        tick = 0;
+    }
+
+    /**
+     * Gets the index of the next tick to be dispatched, which is also the number of ticks dispatched so far.
+     *
+     * @return the next tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of commands waiting to be dispatched.
+     *
+     * @return the pending command count
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Attaches a recorder receiving every command from the next dispatch on, or detaches it.
+     *
+     * @param recorder the recorder, or {@code null} to stop passing commands on
+     */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Gets the attached recorder.
+     *
+     * @return the recorder, or {@code null} when not recording
+     */
+    public InputRecorder getRecorder() {
+        return recorder;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * The {@code InputLog} class is a recorded session read back from the binary log written by an
+ * {@link InputRecorder}: the level, seed and tick rate of the session, and its commands with their ticks
+ * in primitive arrays. A {@link ReplayRunner} plays it against a fresh level.
+ */
+public final class InputLog {
+
+    // Format of the log: a magic number ("SBRP"), the format version and the end marker
+    static final int MAGIC = 0x53425250;
+    static final byte VERSION = 1;
+    static final byte END = -1;
+
+    // Session header
+    private final String levelId;
+    private final long seed;
+    private final int tickRate;
+
+    // Commands in the order they were applied, the tick of each, and the tick the session ended at
+    private final byte[] commands;
+    private final long[] ticks;
+    private final long endTick;
+
+    /**
+     * Constructs an {@code InputLog}.
+     *
+     * @param levelId the identifier of the recorded level
+     * @param seed the seed the level's randomness started from
+     * @param tickRate the number of simulation ticks per second
+     * @param commands the recorded commands
+     * @param ticks the tick of each command
+     * @param endTick the number of ticks the session ran for
+     */
+    private InputLog(String levelId, long seed, int tickRate, byte[] commands, long[] ticks, long endTick) {
+        this.levelId = levelId;
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.commands = commands;
+        this.ticks = ticks;
+        this.endTick = endTick;
+    }
+
+    /**
+     * Reads a log. A log without an end marker, left by a session that did not finish, ends one tick
+     * after its last command.
+     *
+     * @param input the stream to read the log from, which is read to the end but not closed
+     * @return the recorded session
+     * @throws IOException if the stream cannot be read or does not hold an input log
+     */
+    public static InputLog read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input log.");
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input log version: " + version);
+        }
+        String levelId = data.readUTF();
+        long seed = data.readLong();
+        int tickRate = data.readInt();
+
+        byte[] commands = new byte[64];
+        long[] ticks = new long[64];
+        int count = 0;
+        long tick = 0;
+        while (true) {
+            int first = data.read();
+            if (first < 0) { // Unfinished session
+                return new InputLog(levelId, seed, tickRate, Arrays.copyOf(commands, count), Arrays.copyOf(ticks, count),
+                        count == 0 ? 0 : ticks[count - 1] + 1);
+            }
+            tick += readTickDelta(data, first);
+            byte command = data.readByte();
+            if (command == END) {
+                return new InputLog(levelId, seed, tickRate, Arrays.copyOf(commands, count), Arrays.copyOf(ticks, count), tick);
+            }
+            if (command < 0 || command >= InputBus.COMMAND_COUNT) {
+                throw new IOException("Unknown input command " + command + " at tick " + tick);
+            }
+            if (count == commands.length) {
+                commands = Arrays.copyOf(commands, count * 2);
+                ticks = Arrays.copyOf(ticks, count * 2);
+            }
+            commands[count] = command;
+            ticks[count] = tick;
+            count++;
+        }
+    }
+
+    /**
+     * Reads the rest of a variable-length tick offset whose first byte has been read.
+     *
+     * @param data the stream to read from
+     * @param first the first byte of the offset
+     * @return the tick offset
+     * @throws IOException if the stream ends within the offset or the offset is too long
+     */
+    private static long readTickDelta(DataInputStream data, int first) throws IOException {
+        long delta = first & 0x7F;
+        int shift = 7;
+        int next = first;
+        while ((next & 0x80) != 0) {
+            if (shift > 63) {
+                throw new IOException("Tick offset is too long.");
+            }
+            next = data.read();
+            if (next < 0) {
+                throw new EOFException("Input log ends within a tick offset.");
+            }
+            delta |= (long) (next & 0x7F) << shift;
+            shift += 7;
+        }
+        return delta;
+    }
+
+    /**
+     * Gets the identifier of the recorded level.
+     *
+     * @return the level identifier
+     */
+    public String getLevelId() {
+        return levelId;
+    }
+
+    /**
+     * Gets the seed the level's randomness started from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of simulation ticks per second of the session.
+     *
+     * @return the tick rate
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Gets the number of recorded commands.
+     *
+     * @return the command count
+     */
+    public int getCommandCount() {
+        return commands.length;
+    }
+
+    /**
+     * Gets a recorded command.
+     *
+     * @param index the index of the command, in the order they were applied
+     * @return the command
+     */
+    public byte getCommand(int index) {
+        return commands[index];
+    }
+
+    /**
+     * Gets the tick a recorded command was applied on.
+     *
+     * @param index the index of the command, in the order they were applied
+     * @return the tick of the command
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Gets the number of ticks the session ran for.
+     *
+     * @return the end tick
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The {@code InputRecorder} class writes a session of stamped input commands to a compact binary log that
+ * {@link InputLog} reads back. The header holds what a replay needs besides the input: the level identifier,
+ * the seed of the level's randomness and the tick rate. Each command then takes two bytes in the common case:
+ * the number of ticks since the previous command as a variable-length integer, and the command itself.
+ * The session ends with an end marker holding the tick the session stopped at.
+ */
+public class InputRecorder implements Closeable {
+
+    // Stream the log is written to
+    private final DataOutputStream output;
+
+    // Tick of the previous command, which the next command's tick is written relative to
+    private long previousTick;
+
+    // Number of commands recorded and whether the end marker has been written
+    private int commandCount;
+    private boolean closed;
+
+    /**
+     * Constructs an {@code InputRecorder} and writes the header of the log.
+     *
+     * @param output the stream to write the log to, which the recorder closes
+     * @param levelId the identifier of the recorded level
+     * @param seed the seed the level's randomness started from
+     * @param tickRate the number of simulation ticks per second
+     * @throws IOException if the header cannot be written
+     */
+    public InputRecorder(OutputStream output, String levelId, long seed, int tickRate) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.output.writeInt(InputLog.MAGIC);
+        this.output.writeByte(InputLog.VERSION);
+        this.output.writeUTF(levelId);
+        this.output.writeLong(seed);
+        this.output.writeInt(tickRate);
+    }
+
+    /**
+     * Appends a command to the log.
+     *
+     * @param tick the tick the command was applied on, no earlier than the previous command's tick
+     * @param command the command
+     * @throws IOException if the command cannot be written or the log is closed
+     */
+    public void record(long tick, byte command) throws IOException {
+        if (closed) {
+            throw new IOException("Input log is closed.");
+        }
+        writeTick(tick);
+        output.writeByte(command);
+        commandCount++;
+    }
+
+    /**
+     * Ends the session at the specified tick, writes the end marker and closes the stream.
+     * Later calls do nothing.
+     *
+     * @param endTick the number of ticks the session ran for
+     * @throws IOException if the end marker cannot be written
+     */
+    public void finish(long endTick) throws IOException {
+        if (closed) return; // Already finished
+        closed = true;
+        try {
+            writeTick(endTick);
+            output.writeByte(InputLog.END);
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Closes the stream without an end marker if the session was not finished, leaving a log
+     * that replays up to its last command.
+     *
+     * @throws IOException if the stream cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return; // Already finished
+        closed = true;
+        output.close();
+    }
+
+    /**
+     * Writes a tick as a variable-length, non-negative offset from the previous tick, seven bits per byte.
+     *
+     * @param tick the tick to write
+     * @throws IOException if the tick cannot be written
+     * @throws IllegalArgumentException if the tick is earlier than the previous one
+     */
+    private void writeTick(long tick) throws IOException {
+        long delta = tick - previousTick;
+        if (delta < 0) {
+            throw new IllegalArgumentException("Tick " + tick + " is earlier than the previous tick " + previousTick);
+        }
+        while ((delta & ~0x7FL) != 0) {
+            output.writeByte((int) ((delta & 0x7F) | 0x80)); // Seven bits and a continuation flag
+            delta >>>= 7;
+        }
+        output.writeByte((int) delta);
+        previousTick = tick;
+    }
+
+    /**
+     * Gets the number of commands recorded so far.
+     *
+     * @return the command count
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+}
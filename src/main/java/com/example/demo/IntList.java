@@ -0,0 +1,63 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code IntList} class is a growable list of primitive {@code int} values, used for scratch buffers such as
+ * query results and collision hits that are cleared and refilled every tick. It never boxes its values and keeps its
+ * storage when cleared, so after warm-up it does not allocate.
+ */
+public class IntList {
+
+    // Initial number of values the list can hold
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Values of the list and the number of values used
+    private int[] values;
+    private int size;
+
+    /**
+     * Constructs an empty {@code IntList}.
+     */
+    public IntList() {
+        this.values = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Appends a value, growing the storage if needed.
+     *
+     * @param value the value to append
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Gets a value.
+     *
+     * @param index the index of the value, below {@link #size()}
+     * @return the value
+     */
+    public int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Gets the number of values in the list.
+     *
+     * @return the value count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every value while keeping the storage.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
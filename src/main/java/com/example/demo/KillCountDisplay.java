@@ -0,0 +1,73 @@
+package com.example.demo;
+
+import javafx.scene.control.Label;
+
+/**
+ * The {@code KillCountDisplay} class shows the player's kill count as a score, together with the number of kills
+ * needed to win the level. It is updated by the level view when the user's kill count changes, so its text is only
+ * rebuilt on a kill and never on a tick without one.
+ */
+public class KillCountDisplay {
+
+    // Style of the kill count text
+    private static final String STYLE = "-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: white; "
+            + "-fx-effect: dropshadow(gaussian, black, 4, 0.5, 0, 0);";
+
+    // Number of kills needed to win, or 0 if the level has no target
+    private final int killsToAdvance;
+
+    // Node displaying the kill count
+    private final Label label;
+
+    // Kill count currently shown
+    private int shownKills = -1;
+
+    /**
+     * Constructs a {@code KillCountDisplay} showing no kills.
+     *
+     * @param xPosition the X position where the display will be located
+     * @param yPosition the Y position where the display will be located
+     * @param killsToAdvance the number of kills needed to win, or 0 to show the kill count alone
+     */
+    public KillCountDisplay(double xPosition, double yPosition, int killsToAdvance) {
+        this.killsToAdvance = killsToAdvance;
+        this.label = new Label();
+        label.setLayoutX(xPosition);
+        label.setLayoutY(yPosition);
+        label.setStyle(STYLE);
+        label.setMouseTransparent(true); // Never steal input from the game
+        label.setFocusTraversable(false);
+        showKills(0);
+    }
+
+    /**
+     * Shows the specified kill count. Showing the count already shown does nothing.
+     *
+     * @param kills the kill count to show
+     */
+    public void showKills(int kills) {
+        if (kills == shownKills) {
+            return;
+        }
+        shownKills = kills;
+        label.setText(killsToAdvance > 0 ? "Kills: " + kills + " / " + killsToAdvance : "Kills: " + kills);
+    }
+
+    /**
+     * Gets the kill count currently shown.
+     *
+     * @return the shown kill count
+     */
+    public int getShownKills() {
+        return shownKills;
+    }
+
+    /**
+     * Returns the node displaying the kill count.
+     *
+     * @return the {@code Label} showing the kill count
+     */
+    public Label getNode() {
+        return label;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.demo;
+
+/**
+ * The {@code LevelDefinition} class is the compiled, immutable form of a level description loaded by
+ * {@link LevelDefinitions}. It holds everything that used to be hard-coded in a level class: the background and
+ * music, the player's health, the kills needed to win or the boss to defeat, the renderer, the level that follows, and the spawn waves.
+ * A single {@link DefinedLevel} runs any definition.
+ */
+public final class LevelDefinition {
+
+    // Identifier the level is loaded by, and the name shown to the player
+    private final String id;
+    private final String name;
+
+    // Resources of the level
+    private final String backgroundImageName;
+    private final String musicPath;
+
+    // Rules of the level
+    private final int playerInitialHealth;
+    private final int killsToAdvance;
+    private final boolean canvasRendering;
+    private final double projectileSpeedScale;
+    private final int bossHealth;
+
+    // Identifier of the following level, or null for the last level
+    private final String nextLevelId;
+
+    // Spawn waves, sorted by the kill count from which they are active
+    private final SpawnWave[] waves;
+
+    /**
+     * Constructs a {@code LevelDefinition}.
+     *
+     * @param id the identifier of the level
+     * @param name the name of the level
+     * @param backgroundImageName the resource path of the background image
+     * @param musicPath the resource path of the background music
+     * @param playerInitialHealth the initial health of the player's plane
+     * @param killsToAdvance the number of kills needed to win the level
+     * @param canvasRendering {@code true} to draw actors onto a canvas, {@code false} to show them as nodes
+     * @param projectileSpeedScale the factor applied to the speed of every projectile fired on the level
+     * @param bossHealth the initial health of the level's boss, or 0 if the level has no boss
+     * @param nextLevelId the identifier of the following level, or {@code null} for the last level
+     * @param waves the spawn waves, sorted by starting kill count, the first starting at zero kills
+     */
+    LevelDefinition(String id, String name, String backgroundImageName, String musicPath, int playerInitialHealth,
+                    int killsToAdvance, boolean canvasRendering, double projectileSpeedScale, int bossHealth, String nextLevelId,
+                    SpawnWave[] waves) {
+        this.id = id;
+        this.name = name;
+        this.backgroundImageName = backgroundImageName;
+        this.musicPath = musicPath;
+        this.playerInitialHealth = playerInitialHealth;
+        this.killsToAdvance = killsToAdvance;
+        this.canvasRendering = canvasRendering;
+        this.projectileSpeedScale = projectileSpeedScale;
+        this.bossHealth = bossHealth;
+        this.nextLevelId = nextLevelId;
+        this.waves = waves.clone();
+    }
+
+    /**
+     * Gets the wave active at the specified kill count: the last wave whose starting kill count has been reached.
+     *
+     * @param killCount the player's kill count
+     * @return the active wave
+     */
+    public SpawnWave getWave(int killCount) {
+        SpawnWave active = waves[0];
+        for (int i = 1; i < waves.length && waves[i].getFromKills() <= killCount; i++) {
+            active = waves[i];
+        }
+        return active;
+    }
+
+    /**
+     * Gets the number of waves in the level.
+     *
+     * @return the wave count
+     */
+    public int getWaveCount() {
+        return waves.length;
+    }
+
+    /**
+     * Gets the identifier the level is loaded by.
+     *
+     * @return the level identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the level.
+     *
+     * @return the level name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the resource path of the background image.
+     *
+     * @return the background image path
+     */
+    public String getBackgroundImageName() {
+        return backgroundImageName;
+    }
+
+    /**
+     * Gets the resource path of the background music.
+     *
+     * @return the music path
+     */
+    public String getMusicPath() {
+        return musicPath;
+    }
+
+    /**
+     * Gets the initial health of the player's plane.
+     *
+     * @return the initial health
+     */
+    public int getPlayerInitialHealth() {
+        return playerInitialHealth;
+    }
+
+    /**
+     * Gets the number of kills needed to win the level.
+     *
+     * @return the kills to advance
+     */
+    public int getKillsToAdvance() {
+        return killsToAdvance;
+    }
+
+    /**
+     * Determines whether the level draws its actors onto a single canvas.
+     *
+     * @return {@code true} for canvas rendering, {@code false} for node rendering
+     */
+    public boolean usesCanvasRenderer() {
+        return canvasRendering;
+    }
+
+    /**
+     * Gets the factor applied to the speed of every projectile fired on the level.
+     *
+     * @return the projectile speed scale, 1 for the projectiles' own speeds
+     */
+    public double getProjectileSpeedScale() {
+        return projectileSpeedScale;
+    }
+
+    /**
+     * Determines whether the level is a boss fight, won by destroying the boss instead of by kill count.
+     *
+     * @return {@code true} if the level has a boss, otherwise {@code false}
+     */
+    public boolean hasBoss() {
+        return bossHealth > 0;
+    }
+
+    /**
+     * Gets the initial health of the level's boss.
+     *
+     * @return the boss health, or 0 if the level has no boss
+     */
+    public int getBossHealth() {
+        return bossHealth;
+    }
+
+    /**
+     * Gets the identifier of the following level.
+     *
+     * @return the next level identifier, or {@code null} if this is the last level
+     */
+    public String getNextLevelId() {
+        return nextLevelId;
+    }
+}
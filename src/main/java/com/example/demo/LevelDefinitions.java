@@ -0,0 +1,230 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code LevelDefinitions} class loads level descriptions from the classpath, compiles them into immutable
+ * {@link LevelDefinition} objects and caches them, so each level file is read and checked once per process.
+ * <p>
+ * A level is a properties file named after its identifier in {@code /com/example/demo/levels/}:
+ * </p>
+ * <pre>
+ * name=Level One                                   # Name of the level
+ * background=/com/example/demo/images/background.png
+ * music=/com/example/demo/images/BackgroundMusic.mp3
+ * playerHealth=5                                   # Initial health of the player's plane
+ * killsToAdvance=10                                # Kills needed to win
+ * renderer=nodes                                   # nodes or canvas
+ * projectileSpeed=1.0                              # Factor applied to projectile speeds, 1 if omitted
+ * boss.health=100                                  # Health of the boss; a boss level is won by destroying it
+ * next=level2                                      # Following level, omitted for the last level
+ * wave.0.fromKills=0                               # Waves are numbered from 0, the first starting at 0 kills
+ * wave.0.maxEnemies=5                              # Enemies kept on screen
+ * wave.0.spawnChance=0.20                          # Chance per tick of a spawn in each free slot
+ * wave.0.enemies=enemyplane:1                      # Spawn table of enemy types and weights
+ * </pre>
+ */
+public final class LevelDefinitions {
+
+    /**
+     * Identifier of the level the game starts with.
+     */
+    public static final String FIRST_LEVEL_ID = "level1";
+
+    // Directory holding the level files and their extension
+    private static final String LEVEL_DIRECTORY = "/com/example/demo/levels/";
+    private static final String LEVEL_EXTENSION = ".properties";
+
+    // Values of the renderer key
+    private static final String RENDERER_NODES = "nodes";
+    private static final String RENDERER_CANVAS = "canvas";
+
+    // Compiled definitions keyed by level identifier
+    private static final Map<String, LevelDefinition> DEFINITIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private LevelDefinitions() {
+    }
+
+    /**
+     * Gets the compiled definition of a level, loading and compiling it on the first request.
+     *
+     * @param id the identifier of the level
+     * @return the level definition
+     * @throws IllegalArgumentException if the level file is missing or invalid
+     */
+    public static LevelDefinition get(String id) {
+        LevelDefinition definition = DEFINITIONS.get(id);
+        if (definition != null) {
+            return definition;
+        }
+        return DEFINITIONS.computeIfAbsent(id, LevelDefinitions::load);
+    }
+
+    /**
+     * Reads the file of a level and compiles it.
+     *
+     * @param id the identifier of the level
+     * @return the compiled definition
+     * @throws IllegalArgumentException if the level file is missing or invalid
+     */
+    private static LevelDefinition load(String id) {
+        return compile(id, readProperties(id));
+    }
+
+    /**
+     * Reads the file of a level without compiling it, so that callers such as load tests can
+     * override some of its values before compiling it with {@link #compile(String, Properties)}.
+     *
+     * @param id the identifier of the level
+     * @return a new copy of the level description
+     * @throws IllegalArgumentException if the level file is missing or cannot be read
+     */
+    public static Properties readProperties(String id) {
+        String path = LEVEL_DIRECTORY + id + LEVEL_EXTENSION;
+        InputStream stream = LevelDefinitions.class.getResourceAsStream(path);
+        if (stream == null) {
+            throw new IllegalArgumentException("Level not found: " + path);
+        }
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read level: " + path, e);
+        }
+        return properties;
+    }
+
+    /**
+     * Compiles a level description into a {@link LevelDefinition}, checking every value
+     * and resolving enemy types to their actor pools.
+     *
+     * @param id the identifier of the level
+     * @param properties the level description
+     * @return the compiled definition
+     * @throws IllegalArgumentException if a value is missing or invalid
+     */
+    public static LevelDefinition compile(String id, Properties properties) {
+        try {
+            String renderer = optional(properties, "renderer", RENDERER_NODES);
+            if (!renderer.equals(RENDERER_NODES) && !renderer.equals(RENDERER_CANVAS)) {
+                throw new IllegalArgumentException("renderer must be " + RENDERER_NODES + " or " + RENDERER_CANVAS + ": " + renderer);
+            }
+            int playerHealth = requiredInt(properties, "playerHealth");
+            if (playerHealth <= 0) {
+                throw new IllegalArgumentException("playerHealth must be positive: " + playerHealth);
+            }
+            int killsToAdvance = requiredInt(properties, "killsToAdvance");
+            if (killsToAdvance <= 0) {
+                throw new IllegalArgumentException("killsToAdvance must be positive: " + killsToAdvance);
+            }
+            double projectileSpeed = Double.parseDouble(optional(properties, "projectileSpeed", "1"));
+            if (!(projectileSpeed > 0)) {
+                throw new IllegalArgumentException("projectileSpeed must be positive: " + projectileSpeed);
+            }
+            int bossHealth = Integer.parseInt(optional(properties, "boss.health", "0"));
+            if (bossHealth < 0) {
+                throw new IllegalArgumentException("boss.health must not be negative: " + bossHealth);
+            }
+            return new LevelDefinition(
+                id,
+                optional(properties, "name", id),
+                required(properties, "background"),
+                required(properties, "music"),
+                playerHealth,
+                killsToAdvance,
+                renderer.equals(RENDERER_CANVAS),
+                projectileSpeed,
+                bossHealth,
+                optional(properties, "next", null),
+                compileWaves(properties)
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid level " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compiles the numbered waves of a level description.
+     *
+     * @param properties the level description
+     * @return the waves in order
+     * @throws IllegalArgumentException if there is no wave, a wave is invalid, or the waves are out of order
+     */
+    private static SpawnWave[] compileWaves(Properties properties) {
+        List<SpawnWave> waves = new ArrayList<>();
+        for (int i = 0; properties.containsKey("wave." + i + ".maxEnemies"); i++) {
+            String prefix = "wave." + i + ".";
+            int fromKills = Integer.parseInt(optional(properties, prefix + "fromKills", "0"));
+            if (waves.isEmpty() ? fromKills != 0 : fromKills <= waves.get(waves.size() - 1).getFromKills()) {
+                throw new IllegalArgumentException(prefix + "fromKills must be 0 for the first wave and increase after it: " + fromKills);
+            }
+            String[] entries = required(properties, prefix + "enemies").split(",");
+            ActorPool<? extends ActiveActorDestructible>[] pools = new ActorPool<?>[entries.length];
+            double[] weights = new double[entries.length];
+            for (int j = 0; j < entries.length; j++) {
+                String[] entry = entries[j].trim().split(":");
+                pools[j] = ActorPools.forEnemyType(entry[0].trim());
+                weights[j] = entry.length > 1 ? Double.parseDouble(entry[1].trim()) : 1;
+            }
+            waves.add(new SpawnWave(fromKills, requiredInt(properties, prefix + "maxEnemies"),
+                    Double.parseDouble(required(properties, prefix + "spawnChance")), pools, weights));
+        }
+        if (waves.isEmpty()) {
+            throw new IllegalArgumentException("at least one wave is needed, starting with wave.0.maxEnemies");
+        }
+        return waves.toArray(new SpawnWave[0]);
+    }
+
+    /**
+     * Gets a value that must be present.
+     *
+     * @param properties the level description
+     * @param key the key of the value
+     * @return the trimmed value
+     * @throws IllegalArgumentException if the value is missing or blank
+     */
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("missing " + key);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Gets an integer that must be present.
+     *
+     * @param properties the level description
+     * @param key the key of the value
+     * @return the parsed value
+     * @throws IllegalArgumentException if the value is missing or not an integer
+     */
+    private static int requiredInt(Properties properties, String key) {
+        return Integer.parseInt(required(properties, key));
+    }
+
+    /**
+     * Gets a value that may be absent.
+     *
+     * @param properties the level description
+     * @param key the key of the value
+     * @param defaultValue the value used when the key is absent or blank
+     * @return the trimmed value, or the default
+     */
+    private static String optional(Properties properties, String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
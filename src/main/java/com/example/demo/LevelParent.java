@@ -1,11 +1,15 @@
 package com.example.demo;
 
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.IntConsumer;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
@@ -13,61 +17,93 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
 /**
  * The {@code LevelParent} class serves as an abstract base class for all game levels.
- * It manages the background, units, timeline, and scene transitions between levels.
+ * It manages the background, units, game loop, and scene transitions between levels.
  */
 public abstract class LevelParent {
 
-    private static final String BACKGROUND_MUSIC_PATH = "/com/example/demo/audio/BackgroundMusic.mp3";
     private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-    private static final int MILLISECOND_DELAY = 50;
-    protected static final int KILLS_TO_ADVANCE = 100;
+    private static final int SIMULATION_TICK_RATE = 20;
+    private static final String TICK_RATE_PROPERTY = "skybattle.tickRate";
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final int MAX_PROJECTILE_TICKS_TO_LIVE = 200;
+    private static final KeyCode PROFILER_OVERLAY_KEY = KeyCode.F3;
+    private static final String RECORD_DIRECTORY_PROPERTY = "skybattle.record";
+    private static final String RECORDING_EXTENSION = ".sbr";
 
     private final double screenHeight;
     private final double screenWidth;
     private final double enemyMaximumYPosition;
 
     private final Group root;
-    private final Timeline timeline;
+    private final GameLoop gameLoop;
     private final UserPlane user;
     private final Scene scene;
     private final ImageView background;
     private final Stage stage;
-    private final Audio audio;
+    private final LevelDefinition definition;
+    private final String backgroundImageName;
 
     private final List<ActiveActorDestructible> friendlyUnits;
     private final List<ActiveActorDestructible> enemyUnits;
+    private final List<ActiveActorDestructible> enemyUnitsView;
     private final List<ActiveActorDestructible> userProjectiles;
     private final List<ActiveActorDestructible> enemyProjectiles;
 
+    private final World world;
+    private final ActorCompactor actorCompactor;
+    private final GameRandom random;
+    private final InputBus inputBus;
+    private final IntConsumer commandHandler;
+    private final ShotSink bossShotSink;
+    private final CanvasActorRenderer canvasRenderer;
+    private final TickProfiler profiler;
+    private final ProfilerOverlay profilerOverlay;
+
     private int currentNumberOfEnemies;
     private final LevelView levelView;
     private boolean isTransitioning = false;
+    private boolean isSceneInitialized = false;
+    private boolean hasStarted = false;
+    private boolean isGameOver = false;
+    private boolean isHeadless = false;
+    private LevelPreloader nextLevelPreloader;
+    private double lastTransitionMillis;
 
     /**
-     * Constructs a {@code LevelParent} instance with the specified parameters.
+     * Constructs a {@code LevelParent} instance for the specified level definition.
      *
-     * @param backgroundImageName the file path to the background image
+     * @param definition the compiled description of the level
      * @param screenHeight the height of the game screen
      * @param screenWidth the width of the game screen
-     * @param playerInitialHealth the initial health of the player's character
      * @param stage the JavaFX {@code Stage} for displaying the game level
      */
-    public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, Stage stage) {
+    public LevelParent(LevelDefinition definition, double screenHeight, double screenWidth, Stage stage) {
+        this.definition = definition; // Set first, as the hooks called below may read it
         this.root = new Group();
         this.scene = new Scene(root, screenWidth, screenHeight);
-        this.timeline = new Timeline();
-        this.user = new UserPlane(playerInitialHealth);
+        this.gameLoop = new GameLoop(getSimulationTickRate(), MAX_CATCH_UP_TICKS, this::updateScene, this::renderFrame);
+        this.user = new UserPlane(definition.getPlayerInitialHealth());
         this.friendlyUnits = new ArrayList<>();
         this.enemyUnits = new ArrayList<>();
+        this.enemyUnitsView = Collections.unmodifiableList(enemyUnits);
         this.userProjectiles = new ArrayList<>();
         this.enemyProjectiles = new ArrayList<>();
-        this.audio = new Audio();
-
-        this.background = new ImageView(loadImage(backgroundImageName));
+        this.world = new World(screenWidth, screenHeight, MAX_PROJECTILE_TICKS_TO_LIVE);
+        this.actorCompactor = new ActorCompactor();
+        this.random = new GameRandom(GameRandom.seedFor(definition.getId()));
+        this.inputBus = new InputBus();
+        this.commandHandler = this::applyCommand;
+        this.bossShotSink = this::spawnBossShot;
+        this.canvasRenderer = usesCanvasRenderer() ? new CanvasActorRenderer(screenWidth, screenHeight) : null;
+        this.profiler = world.getProfiler();
+        this.profilerOverlay = new ProfilerOverlay(profiler);
+        this.backgroundImageName = definition.getBackgroundImageName();
+
+        SpriteAtlas.getDefault(); // Pack the sprite atlas before the first actor is created
+        this.background = new ImageView(loadImage(this.backgroundImageName));
         this.screenHeight = screenHeight;
         this.screenWidth = screenWidth;
         this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
@@ -75,8 +111,9 @@ public abstract class LevelParent {
         this.currentNumberOfEnemies = 0;
         this.stage = stage;
 
-        initializeTimeline();
         friendlyUnits.add(user);
+        world.addFriendly(user.getBody());
+        world.setPlayer(user.getBody());
     }
 
     // Abstract methods to be implemented by subclasses
@@ -104,39 +141,90 @@ public abstract class LevelParent {
     protected abstract LevelView instantiateLevelView();
 
     /**
-     * Initializes the scene for the level.
+     * Gets the number of simulation ticks per second for the level: the {@code skybattle.tickRate} system property,
+     * or 20. Constrained hardware can run fewer ticks, as collisions are swept over each tick and fast projectiles
+     * still hit thin targets. Actor movement is expressed in pixels per second and does not depend on the rate,
+     * but spawn chances are rolled once per tick, so changing the rate also changes how often enemies appear.
+     *
+     * @return the simulation tick rate
+     */
+    protected int getSimulationTickRate() {
+        int tickRate = Integer.getInteger(TICK_RATE_PROPERTY, SIMULATION_TICK_RATE);
+        if (tickRate <= 0) {
+            System.err.println("Ignoring invalid " + TICK_RATE_PROPERTY + ": " + tickRate);
+            return SIMULATION_TICK_RATE;
+        }
+        return tickRate;
+    }
+
+    /**
+     * Determines whether the level draws its actors onto a single canvas instead of showing each actor
+     * as an {@code ImageView} node. Canvas rendering keeps the scene graph the same size however many actors
+     * are on screen, which suits levels with many enemies and projectiles. By default the level definition decides.
+     *
+     * @return {@code true} to render actors with a {@link CanvasActorRenderer}, {@code false} to use nodes
+     */
+    protected boolean usesCanvasRenderer() {
+        return definition.usesCanvasRenderer();
+    }
+
+    /**
+     * Initializes the scene for the level. The scene is built only once; later calls return the same scene,
+     * so a level prebuilt by a {@link LevelPreloader} is not initialized again when it is shown.
      * 
      * @return the {@code Scene} for the level
      */
     public Scene initializeScene() {
+        if (isSceneInitialized) {
+            return scene; // Already built, possibly in the background
+        }
+        isSceneInitialized = true;
         initializeBackground();
+        addActorLayer();
         initializeFriendlyUnits();
         levelView.showHeartDisplay();
+        levelView.showKillCountDisplay(screenWidth);
+        levelView.observe(user); // The HUD follows the user's health and kills from now on
+        root.getChildren().add(profilerOverlay.getNode());
         return scene;
     }
 
     /**
-     * Starts the game by playing the timeline and background music.
+     * Starts the game by starting the game loop and background music,
+     * and starts building the next level in the background while this one is played.
+     * On the first start, the session is recorded if the {@code skybattle.record} system property names a directory.
      */
     public void startGame() {
+        if (!hasStarted) {
+            hasStarted = true;
+            startRequestedRecording();
+        }
         background.requestFocus();
-        timeline.play();
-        audio.playBackgroundMusic(BACKGROUND_MUSIC_PATH);
+        gameLoop.start();
+        Audio.preloadEffects();
+        Audio.playMusic(definition.getMusicPath()); // Keeps playing if the previous level had the same music
+        if (nextLevelPreloader == null) {
+            nextLevelPreloader = new LevelPreloader(this::getNextLevel);
+        }
     }
 
     /**
      * Resets the current level by clearing all elements, reinitializing units, and restarting the game.
      */
     public void resetLevel() {
-        friendlyUnits.clear();
-        enemyUnits.clear();
-        userProjectiles.clear();
-        enemyProjectiles.clear();
         currentNumberOfEnemies = 0;
-        timeline.stop();
+        gameLoop.stop();
+        stopRecording(); // A restarted level does not replay from its seed, so the session ends here
+        inputBus.reset();
+        isGameOver = false;
         root.getChildren().clear();
+        releaseAllActors();
         root.getChildren().add(background);
+        addActorLayer();
         initializeFriendlyUnits();
+        levelView.showHeartDisplay();
+        levelView.showKillCountDisplay(screenWidth);
+        root.getChildren().add(profilerOverlay.getNode());
         levelView.resetLevelView();
 
         // Debugging - Check that resetLevel is being invoked
@@ -170,8 +258,8 @@ public abstract class LevelParent {
             try {
                 System.out.println("Transitioning to the next level...");
 
-                timeline.stop();
-                root.getChildren().clear();
+                tearDown();
+                SpriteCache.evict(backgroundImageName); // Release this level's background once it is torn down
 
                 Scene nextScene = nextLevel.initializeScene();
                 if (nextScene == null) {
@@ -194,14 +282,6 @@ public abstract class LevelParent {
     }
 
     /**
-     * Initializes the game's timeline, which controls the game loop.
-     */
-    private void initializeTimeline() {
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-        timeline.getKeyFrames().add(gameLoop);
-    }
-/**
      * Initializes the background of the level, sets up key listeners for user input, 
      * and adds the background image to the scene graph.
      */
@@ -209,53 +289,138 @@ public abstract class LevelParent {
         background.setFocusTraversable(true);
         background.setFitHeight(screenHeight);
         background.setFitWidth(screenWidth);
+        // Gameplay keys post commands that are applied at the start of the next tick
         background.setOnKeyPressed(e -> {
             KeyCode kc = e.getCode();
-            if (kc == KeyCode.UP) user.moveUp();
-            if (kc == KeyCode.DOWN) user.moveDown();
-            if (kc == KeyCode.SPACE) fireProjectile();
+            if (kc == KeyCode.UP) inputBus.post(InputBus.MOVE_UP);
+            if (kc == KeyCode.DOWN) inputBus.post(InputBus.MOVE_DOWN);
+            if (kc == KeyCode.SPACE) inputBus.post(InputBus.FIRE);
+            if (kc == PROFILER_OVERLAY_KEY) profilerOverlay.toggle();
         });
 
         background.setOnKeyReleased(e -> {
             KeyCode kc = e.getCode();
-            if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+            if (kc == KeyCode.UP || kc == KeyCode.DOWN) inputBus.post(InputBus.STOP);
         });
 
         root.getChildren().add(background);
     }
 
+    /**
+     * Applies an input command dispatched by the input bus to the user's plane.
+     *
+     * @param command the command, one of the {@link InputBus} commands
+     */
+    private void applyCommand(int command) {
+        switch (command) {
+            case InputBus.MOVE_UP -> user.moveUp();
+            case InputBus.MOVE_DOWN -> user.moveDown();
+            case InputBus.STOP -> user.stop();
+            case InputBus.FIRE -> fireProjectile();
+            default -> System.err.println("Ignoring unknown input command: " + command);
+        }
+    }
+
     /**
      * Fires a projectile from the user's plane and adds it to the scene and 
      * tracking list of user projectiles.
      */
     private void fireProjectile() {
-        ActiveActorDestructible projectile = user.fireProjectile();
-        root.getChildren().add(projectile);
+        ActiveActorDestructible projectile = user.fireProjectile(random);
+        applyProjectileSpeed(projectile);
+        addActorToScene(projectile);
         userProjectiles.add(projectile);
+        world.addUserProjectile(projectile.getBody());
+        Audio.playEffect(Audio.EFFECT_USER_SHOT);
     }
 
     /**
-     * Updates the game scene, including spawning enemy units, updating actors, 
-     * handling collisions, and checking for game-over conditions.
+     * Updates the game scene, including applying the input commands of the tick, spawning enemy units,
+     * updating actors, stepping the simulation world, and checking for game-over conditions.
+     * Every phase is timed by the level's profiler; input is timed with spawning.
+     * Package-private so that replays and the benchmarks can run ticks without the game loop.
      */
-    private void updateScene() {
+    void updateScene() {
+        profiler.beginTick();
+        inputBus.dispatch(commandHandler);
         spawnEnemyUnits();
+        profiler.endPhase(TickProfiler.PHASE_SPAWN);
         updateActors();
-        handleCollisions(userProjectiles, enemyUnits);
-        handleCollisions(enemyProjectiles, friendlyUnits);
-        handleCollisions(friendlyUnits, enemyUnits);
-        handleEnemyPenetration();
+        profiler.endPhase(TickProfiler.PHASE_UPDATE_ACTORS);
+        world.step(1.0 / gameLoop.getTickRate());
         removeAllDestroyedActors();
+        profiler.endPhase(TickProfiler.PHASE_REMOVE_ACTORS);
         updateKillCount();
+        profiler.endPhase(TickProfiler.PHASE_KILL_COUNT);
         updateLevelView();
+        profiler.endPhase(TickProfiler.PHASE_VIEW_UPDATE);
         checkIfGameOver();
+        profiler.endPhase(TickProfiler.PHASE_GAME_OVER_CHECK);
+        profiler.endTick(world.getStore());
+    }
+
+    /**
+     * Renders a frame, either by drawing every actor onto the canvas or by copying
+     * the position of every actor's body to its view.
+     *
+     * @param alpha the interpolation factor between the previous and the current simulation step
+     */
+    private void renderFrame(double alpha) {
+        if (canvasRenderer != null) {
+            canvasRenderer.beginFrame();
+            canvasRenderer.draw(friendlyUnits, alpha);
+            canvasRenderer.draw(enemyUnits, alpha);
+            canvasRenderer.draw(userProjectiles, alpha);
+            canvasRenderer.draw(enemyProjectiles, alpha);
+        } else {
+            syncViews(friendlyUnits, alpha);
+            syncViews(enemyUnits, alpha);
+            syncViews(userProjectiles, alpha);
+            syncViews(enemyProjectiles, alpha);
+        }
+        profilerOverlay.refresh();
+    }
+
+    /**
+     * Adds the canvas the actors are drawn on to the scene graph, if the level renders actors onto a canvas.
+     * The canvas sits directly above the background, below the heads-up display.
+     */
+    private void addActorLayer() {
+        if (canvasRenderer != null) {
+            root.getChildren().add(canvasRenderer.getCanvas());
+        }
+    }
+
+    /**
+     * Shows an actor in the level. With node rendering the actor is added to the scene graph;
+     * with canvas rendering it is drawn from its actor list every frame and needs no node.
+     *
+     * @param actor the actor to show
+     */
+    protected void addActorToScene(ActiveActorDestructible actor) {
+        if (canvasRenderer == null) {
+            root.getChildren().add(actor);
+        }
+    }
+
+    /**
+     * Copies the interpolated body position of every actor in a list to its view.
+     *
+     * @param actors the list of actors to synchronize
+     * @param alpha the interpolation factor between the previous and the current simulation step
+     */
+    private void syncViews(List<ActiveActorDestructible> actors, double alpha) {
+        for (ActiveActorDestructible actor : actors) {
+            actor.syncView(alpha);
+        }
     }
 
     /**
      * Updates the state of all actors in the level, including friendly units, 
      * enemy units, and projectiles.
+     * Package-private so that the benchmarks can drive this phase directly.
      */
-    private void updateActors() {
+    void updateActors() {
         friendlyUnits.forEach(plane -> plane.updateActor());
         enemyUnits.forEach(enemy -> enemy.updateActor());
         userProjectiles.forEach(projectile -> projectile.updateActor());
@@ -263,69 +428,53 @@ public abstract class LevelParent {
     }
 
     /**
-     * Handles collisions between two lists of actors, applying damage and 
-     * removing destroyed actors from the scene.
-     *
-     * @param projectiles the list of projectiles to check for collisions
-     * @param actors the list of actors to check for collisions
+     * Removes all actors from the scene and their respective tracking lists 
+     * if they are marked as destroyed.
+     * The lists are compacted in place and the scene graph is updated with one batched removal,
+     * after which pooled actors are returned to their pools.
+     * Package-private so that the benchmarks can drive this phase directly.
      */
-    private void handleCollisions(List<ActiveActorDestructible> projectiles, List<ActiveActorDestructible> actors) {
-        List<ActiveActorDestructible> toRemove = new ArrayList<>();
-        for (ActiveActorDestructible projectile : projectiles) {
-            if (projectile.isDestroyed()) continue; // Skip if projectile is destroyed
-            for (ActiveActorDestructible actor : actors) {
-                if (actor.isDestroyed()) continue; // Skip if actor is destroyed
-                if (projectile.getBoundsInParent().intersects(actor.getBoundsInParent())) {
-                    projectile.takeDamage();
-                    actor.takeDamage();
-                    if (projectile.isDestroyed()) toRemove.add(projectile);
-                    if (actor.isDestroyed()) toRemove.add(actor);
-                }
-            }
-        }
-        projectiles.removeAll(toRemove);
-        actors.removeAll(toRemove);
-        root.getChildren().removeAll(toRemove);
+    void removeAllDestroyedActors() {
+        actorCompactor.compact(friendlyUnits);
+        actorCompactor.compact(enemyUnits);
+        actorCompactor.compact(userProjectiles);
+        actorCompactor.compact(enemyProjectiles);
+        actorCompactor.flush(root.getChildren());
     }
 
     /**
-     * Handles the case where enemy units penetrate the player's defenses, 
-     * dealing damage to the user and removing the enemy from the scene.
+     * Stops the level for good: stops the game loop and any recording, empties the scene graph,
+     * and returns the pooled actors to their pools so that the next level can reuse them.
+     * Package-private so that soak runs can discard levels the way a transition does.
      */
-    private void handleEnemyPenetration() {
-        List<ActiveActorDestructible> toDestroy = new ArrayList<>();
-        for (ActiveActorDestructible enemy : enemyUnits) {
-            if (enemyHasPenetratedDefenses(enemy)) {
-                user.takeDamage();
-                enemy.destroy();
-                toDestroy.add(enemy);
-            }
-        }
-        enemyUnits.removeAll(toDestroy); // Remove penetrated enemies
+    void tearDown() {
+        gameLoop.stop();
+        stopRecording();
+        root.getChildren().clear();
+        releaseAllActors();
     }
 
     /**
-     * Removes all actors from the scene and their respective tracking lists 
-     * if they are marked as destroyed.
+     * Clears the simulation world and every tracking list, and returns the pooled actors to their pools.
+     * The actors must already be removed from the scene graph.
+     * Package-private so that the benchmarks can reset a level between measurements.
      */
-    private void removeAllDestroyedActors() {
-        removeDestroyedActors(friendlyUnits);
-        removeDestroyedActors(enemyUnits);
-        removeDestroyedActors(userProjectiles);
-        removeDestroyedActors(enemyProjectiles);
+    void releaseAllActors() {
+        world.clear();
+        releaseActors(friendlyUnits);
+        releaseActors(enemyUnits);
+        releaseActors(userProjectiles);
+        releaseActors(enemyProjectiles);
     }
 
     /**
-     * Removes destroyed actors from a specific list and the scene graph.
+     * Clears a tracking list and returns the pooled actors it held to their pools.
      *
-     * @param actors the list of actors to remove
+     * @param actors the list of actors to release
      */
-    private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-        List<ActiveActorDestructible> destroyedActors = actors.stream()
-            .filter(ActiveActorDestructible::isDestroyed)
-            .collect(Collectors.toList());
-        root.getChildren().removeAll(destroyedActors);
-        actors.removeAll(destroyedActors);
+    private void releaseActors(List<ActiveActorDestructible> actors) {
+        actors.forEach(ActiveActorDestructible::recycle);
+        actors.clear();
     }
 
     /**
@@ -333,39 +482,33 @@ public abstract class LevelParent {
      */
     private void updateKillCount() {
         int killsToAdd = Math.max(0, currentNumberOfEnemies - enemyUnits.size());
-        for (int i = 0; i < killsToAdd; i++) {
-            user.incrementKillCount();
+        user.incrementKillCountBy(killsToAdd); // Notifies the HUD once, and only if there were kills
+        if (killsToAdd > 0) {
+            Audio.playEffect(Audio.EFFECT_EXPLOSION);
         }
         currentNumberOfEnemies = enemyUnits.size();
     }
 
     /**
-     * Updates the level view to reflect the user's current health.
+     * Publishes the user's health after the step has damaged the bodies. The level view listens to the health
+     * and only updates its hearts when it changed, so a tick without damage does no view work.
      */
     private void updateLevelView() {
-        levelView.removeHearts(user.getHealth());
-    }
-
-    /**
-     * Determines if an enemy has penetrated the player's defenses by checking 
-     * if the enemy's position exceeds the screen boundaries.
-     *
-     * @param enemy the enemy actor to check
-     * @return true if the enemy has penetrated defenses, false otherwise
-     */
-    private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-        return Math.abs(enemy.getTranslateX()) > screenWidth;
+        user.publishHealth();
     }
 
     /**
      * Handles the game-over condition when the player wins the level.
      * Displays a win image and provides buttons for restarting or transitioning 
-     * to the next level.
+     * to the next level. A headless level only records that the game is over.
      */
     protected void winGame() {
-        timeline.stop();
+        gameLoop.stop();
+        isGameOver = true;
+        stopRecording();
+        if (isHeadless) return; // The runner reads the outcome and tears the level down itself
         levelView.showWinImage();
-        audio.stopBackgroundMusic();
+        Audio.stopMusic();
 
         // Create "Next Level" button
         javafx.scene.control.Button nextLevelButton = new javafx.scene.control.Button("Next Level");
@@ -374,9 +517,12 @@ public abstract class LevelParent {
         nextLevelButton.setFocusTraversable(true); // Ensure button is focusable
         nextLevelButton.setOnAction(e -> {
             System.out.println("Next Level Button Clicked");
-            LevelParent nextLevel = getNextLevel();
+            long transitionStart = System.nanoTime();
+            LevelParent nextLevel = takeNextLevel();
             if (nextLevel != null) {
                 goToNextLevel(nextLevel);
+                lastTransitionMillis = (System.nanoTime() - transitionStart) / 1_000_000.0;
+                System.out.printf("Level transition took %.1f ms%n", lastTransitionMillis);
             } else {
                 System.out.println("No next level. Game completed!");
                 askForRestart();
@@ -402,6 +548,23 @@ public abstract class LevelParent {
         });
     }
 
+    /**
+     * Takes the next level built in the background, waiting for it if it is still being built.
+     * If no preload was started, the next level is built on the calling thread.
+     *
+     * @return the next {@code LevelParent} with its scene initialized, or null if there are no more levels
+     */
+    private LevelParent takeNextLevel() {
+        if (nextLevelPreloader == null) {
+            return getNextLevel(); // Nothing preloaded, build it now
+        }
+        LevelParent nextLevel = nextLevelPreloader.take();
+        System.out.printf("Next level built in the background in %.1f ms, waited %.1f ms for it%n",
+                nextLevelPreloader.getBuildMillis(), nextLevelPreloader.getWaitMillis());
+        nextLevelPreloader = null;
+        return nextLevel;
+    }
+
     /**
      * Determines the next level based on the current level. 
      * This method should be overridden by subclasses to define level transitions.
@@ -409,15 +572,6 @@ public abstract class LevelParent {
      * @return the next {@code LevelParent}, or null if there are no more levels
      */
     protected LevelParent getNextLevel() {
-        if (this instanceof LevelOne) {
-            return new LevelTwo(
-                "/com/example/demo/images/background2.jpg",
-                getScreenHeight(),
-                getScreenWidth(),
-                5,
-                getStage()
-            );
-        }
         return null;
     }
 
@@ -425,11 +579,16 @@ public abstract class LevelParent {
     /**
      * Handles the game-over condition when the player loses the level.
      * Displays a game-over image and provides a button to restart the level.
+     * A headless level only records that the game is over.
      */
     protected void loseGame() {
-        timeline.stop();
+        gameLoop.stop();
+        isGameOver = true;
+        stopRecording();
+        if (isHeadless) return; // The runner reads the outcome and tears the level down itself
         levelView.showGameOverImage();
-        audio.stopBackgroundMusic();
+        Audio.stopMusic();
+        Audio.playEffect(Audio.EFFECT_GAME_OVER);
 
         // Create a button to restart the game
         javafx.scene.control.Button restartButton = new javafx.scene.control.Button("TRY AGAIN");
@@ -457,20 +616,170 @@ public abstract class LevelParent {
     }
 
     /**
-     * Loads an image from the specified path. If loading fails, a default image is returned.
+     * Starts recording the session to a file in the directory named by the {@code skybattle.record}
+     * system property, if it is set. The file is named after the level and its seed.
+     */
+    private void startRequestedRecording() {
+        String directory = System.getProperty(RECORD_DIRECTORY_PROPERTY);
+        if (directory == null || directory.isBlank()) return; // Recording not requested
+        Path file = Paths.get(directory, definition.getId() + "-" + random.getSeed() + RECORDING_EXTENSION);
+        try {
+            startRecording(new FileOutputStream(file.toFile()));
+            System.out.println("Recording input to " + file);
+        } catch (IOException e) {
+            showError("Failed to start recording input to " + file, e);
+        }
+    }
+
+    /**
+     * Starts recording every input command of the level, with the level's identifier, seed and tick rate,
+     * so that a {@link ReplayRunner} can play the session again. Any previous recording is finished first.
+     * Recording should start before the first tick, as a replay starts from a fresh level.
+     *
+     * @param output the stream to write the recording to, which is closed when the recording stops
+     * @throws IOException if the recording header cannot be written
+     */
+    public void startRecording(OutputStream output) throws IOException {
+        stopRecording();
+        inputBus.setRecorder(new InputRecorder(output, definition.getId(), random.getSeed(), getSimulationTickRate()));
+    }
+
+    /**
+     * Finishes the current recording at the current tick. Does nothing when not recording.
+     */
+    public void stopRecording() {
+        InputRecorder recorder = inputBus.getRecorder();
+        if (recorder == null) return; // Not recording
+        inputBus.setRecorder(null);
+        try {
+            recorder.finish(inputBus.getTick());
+            System.out.println("Recorded " + recorder.getCommandCount() + " input commands over " + inputBus.getTick() + " ticks.");
+        } catch (IOException e) {
+            showError("Failed to finish the input recording", e);
+        }
+    }
+
+    /**
+     * Loads an image from the specified path through the shared {@link SpriteCache}.
+     * If loading fails, a default image is returned.
      *
      * @param path the relative path to the image file
      * @return the loaded {@code Image} object, or a default image if loading fails
      */
     private Image loadImage(String path) {
         try {
-            return new Image(getClass().getResource(path).toExternalForm());
+            return SpriteCache.getImage(path);
         } catch (Exception e) {
             System.err.println("Failed to load image: " + path + ". Using default image.");
             return new Image("/com/example/demo/images/default.png");
         }
     }
 
+    /**
+     * Retrieves the manager that retires off-screen and expired projectiles,
+     * which exposes the live and retired projectile counts.
+     *
+     * @return the {@code ProjectileLifetimeManager} for this level
+     */
+    public ProjectileLifetimeManager getProjectileLifetime() {
+        return world.getProjectileLifetime();
+    }
+
+    /**
+     * Captures the current per-phase tick timings and entity counts of this level.
+     *
+     * @return a snapshot of the level's profiler
+     */
+    public ProfilerSnapshot getProfilerSnapshot() {
+        return profiler.snapshot();
+    }
+
+    /**
+     * Retrieves the profiler timing the phases of each tick of this level.
+     *
+     * @return the {@code TickProfiler} of this level
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Retrieves the time taken by the latest transition from this level to the next one, from the click of
+     * "Next Level" until the next level is shown and started.
+     *
+     * @return the transition latency in milliseconds, or 0 if no transition has happened
+     */
+    public double getLastTransitionMillis() {
+        return lastTransitionMillis;
+    }
+
+    /**
+     * Retrieves the source of all gameplay randomness of this level. Its seed is derived from the game seed
+     * and the level identifier, so a level replays the same random decisions for the same game seed.
+     *
+     * @return the {@code GameRandom} of this level
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Retrieves the bus that stamps input commands with the tick they are applied on.
+     *
+     * @return the {@code InputBus} of this level
+     */
+    public InputBus getInputBus() {
+        return inputBus;
+    }
+
+    /**
+     * Checks whether the level has been won or lost and not restarted since.
+     *
+     * @return {@code true} if the game is over, otherwise {@code false}
+     */
+    public boolean isGameOver() {
+        return isGameOver;
+    }
+
+    /**
+     * Makes the level headless: winning or losing then only stops the level and marks the game as over, without
+     * showing the outcome, playing audio or posting buttons to the JavaFX application thread. Runners that drive
+     * ticks from their own thread use it, so that no UI work races with their tear-downs.
+     * Package-private so that soak, load and replay runs can play levels without the UI.
+     *
+     * @param isHeadless {@code true} to skip the game-over UI, {@code false} to show it
+     */
+    void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Retrieves the compiled description this level runs.
+     *
+     * @return the {@code LevelDefinition} of this level
+     */
+    public LevelDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Retrieves the headless simulation world of this level.
+     *
+     * @return the {@code World} holding the bodies of every actor in the level
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Retrieves the fixed-timestep loop driving this level, which exposes per-tick timing statistics.
+     *
+     * @return the {@code GameLoop} for this level
+     */
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+
     /**
      * Retrieves the user's plane object.
      *
@@ -489,6 +798,15 @@ public abstract class LevelParent {
         return root;
     }
 
+    /**
+     * Retrieves the level view created by {@link #instantiateLevelView()}.
+     *
+     * @return the view of the level
+     */
+    protected LevelView getLevelView() {
+        return levelView;
+    }
+
     /**
      * Retrieves the current number of enemies in the level.
      *
@@ -498,6 +816,15 @@ public abstract class LevelParent {
         return enemyUnits.size();
     }
 
+    /**
+     * Retrieves the enemy units on the level, for players such as the {@link BotPlayer} that aim at them.
+     *
+     * @return a read-only view of the enemy units
+     */
+    List<ActiveActorDestructible> getEnemyUnits() {
+        return enemyUnitsView;
+    }
+
     /**
      * Adds an enemy unit to the level and includes it in the scene graph.
      *
@@ -505,7 +832,8 @@ public abstract class LevelParent {
      */
     protected void addEnemyUnit(ActiveActorDestructible enemy) {
         enemyUnits.add(enemy);
-        root.getChildren().add(enemy);
+        world.addEnemy(enemy.getBody());
+        addActorToScene(enemy);
     }
 
     /**
@@ -515,8 +843,8 @@ public abstract class LevelParent {
     public void generateEnemyFire() {
         for (ActiveActorDestructible enemy : enemyUnits) {
             // Use pattern matching for instanceof
-            if (enemy instanceof FighterPlane plane && plane.canFire()) {
-                ActiveActorDestructible projectile = plane.fireProjectile();
+            if (enemy instanceof FighterPlane plane && plane.canFire(world.getTimers(), gameLoop.getTickRate())) {
+                ActiveActorDestructible projectile = plane.fireProjectile(random);
                 if (projectile != null) {
                     spawnEnemyProjectile(projectile);
                 }
@@ -531,8 +859,47 @@ public abstract class LevelParent {
      */
     private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
         if (projectile != null && !projectile.isDestroyed()) {
-            root.getChildren().add(projectile); // Add projectile to the scene
+            applyProjectileSpeed(projectile); // Pooled projectiles may come from a level with another speed
+            addActorToScene(projectile); // Add projectile to the scene
             enemyProjectiles.add(projectile);   // Track the projectile
+            world.addEnemyProjectile(projectile.getBody()); // Simulate the projectile
+            Audio.playEffect(Audio.EFFECT_ENEMY_SHOT); // Voice limiting keeps bursts of boss fire to a few sounds
+        }
+    }
+
+    /**
+     * Spawns one shot of a boss's bullet pattern as a pooled boss projectile.
+     *
+     * @param x the X position of the top-left corner of the shot
+     * @param y the Y position of the top-left corner of the shot
+     * @param directionX the X component of the unit direction of the shot
+     * @param directionY the Y component of the unit direction of the shot
+     * @param speed the speed of the shot in pixels per second
+     */
+    private void spawnBossShot(double x, double y, double directionX, double directionY, double speed) {
+        BossProjectile projectile = ActorPools.BOSS_PROJECTILES.acquire(x, y);
+        projectile.aim(directionX, directionY, speed);
+        spawnEnemyProjectile(projectile);
+    }
+
+    /**
+     * Retrieves the sink that turns the shots of a boss's bullet patterns into enemy projectiles on this level.
+     * The sink is created once, so firing patterns through it does not allocate.
+     *
+     * @return the boss shot sink
+     */
+    protected ShotSink getBossShotSink() {
+        return bossShotSink;
+    }
+
+    /**
+     * Applies the level's projectile speed scale to a projectile fired on the level.
+     *
+     * @param projectile the fired projectile
+     */
+    private void applyProjectileSpeed(ActiveActorDestructible projectile) {
+        if (projectile instanceof Projectile shot) {
+            shot.setSpeedScale(definition.getProjectileSpeedScale());
         }
     }
 
@@ -0,0 +1,109 @@
+package com.example.demo;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * The {@code LevelPreloader} class builds the next level on a background thread while the current level is played.
+ * Building a level decodes its background image and creates its scene, heads-up display and user plane, which
+ * stalls the JavaFX thread for a visible moment when done on the click of "Next Level". The preloader does all of it
+ * ahead of time, so the transition only has to swap in a scene that is already built.
+ * <p>
+ * JavaFX allows nodes and scenes to be created off the JavaFX thread as long as they are not yet attached to a
+ * showing window, which is the case until the prebuilt scene is set on the stage.
+ * </p>
+ */
+public class LevelPreloader {
+
+    // Number of nanoseconds in one millisecond
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    // Single background thread shared by every preloader, so at most one level is built at a time
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "level-preloader");
+        thread.setDaemon(true); // Never keep the application alive
+        return thread;
+    });
+
+    // Builds the level, and the pending or completed result of building it in the background
+    private final Supplier<LevelParent> factory;
+    private final CompletableFuture<LevelParent> future;
+
+    // Time spent building the level in the background, and time the JavaFX thread waited for it
+    private volatile long buildNanos;
+    private long waitNanos;
+
+    /**
+     * Constructs a {@code LevelPreloader} and starts building the level in the background.
+     *
+     * @param factory creates the level, or returns {@code null} if there is no level to build
+     */
+    public LevelPreloader(Supplier<LevelParent> factory) {
+        this.factory = factory;
+        this.future = CompletableFuture.supplyAsync(this::build, EXECUTOR);
+    }
+
+    /**
+     * Creates the level and its scene, timing the work.
+     *
+     * @return the built level, or {@code null} if there is no level to build
+     */
+    private LevelParent build() {
+        long start = System.nanoTime();
+        LevelParent level = factory.get();
+        if (level != null) {
+            level.initializeScene(); // Build the scene graph now rather than during the transition
+        }
+        buildNanos = System.nanoTime() - start;
+        return level;
+    }
+
+    /**
+     * Checks whether the level has finished building.
+     *
+     * @return {@code true} if {@link #take()} will return without waiting, otherwise {@code false}
+     */
+    public boolean isReady() {
+        return future.isDone();
+    }
+
+    /**
+     * Gets the prebuilt level, waiting for the background build to finish if it is still running.
+     * If the background build failed, the level is built on the calling thread instead.
+     *
+     * @return the level with its scene initialized, or {@code null} if there is no level to build
+     */
+    public LevelParent take() {
+        long start = System.nanoTime();
+        LevelParent level;
+        try {
+            level = future.join();
+        } catch (Exception e) {
+            System.err.println("Background level build failed, building on the calling thread: " + e.getMessage());
+            e.printStackTrace();
+            level = build();
+        }
+        waitNanos = System.nanoTime() - start;
+        return level;
+    }
+
+    /**
+     * Gets the time spent building the level, in milliseconds.
+     *
+     * @return the build time, or 0 if the build has not finished
+     */
+    public double getBuildMillis() {
+        return buildNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the time the latest {@link #take()} spent waiting for the level, in milliseconds.
+     *
+     * @return the wait time, or 0 if the level has not been taken
+     */
+    public double getWaitMillis() {
+        return waitNanos / NANOS_PER_MILLI;
+    }
+}
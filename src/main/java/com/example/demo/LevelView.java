@@ -18,6 +18,16 @@ public class LevelView {
      */
     private static final double HEART_DISPLAY_Y_POSITION = 25;
 
+    /**
+     * X position of the kill count display, measured from the right edge of the screen.
+     */
+    private static final double KILL_COUNT_DISPLAY_RIGHT_MARGIN = 220;
+
+    /**
+     * Y position of the kill count display.
+     */
+    private static final double KILL_COUNT_DISPLAY_Y_POSITION = 25;
+
     /**
      * X position of the win image.
      */
@@ -58,6 +68,11 @@ public class LevelView {
      */
     private final HeartDisplay heartDisplay;
 
+    /**
+     * Kill count display to show the player's progress towards winning the level.
+     */
+    private final KillCountDisplay killCountDisplay;
+
     /**
      * Constructor to initialize the {@code LevelView} with the root container and initial heart count.
      *
@@ -65,8 +80,21 @@ public class LevelView {
      * @param heartsToDisplay the initial number of hearts to display
      */
     public LevelView(Group root, int heartsToDisplay) {
+        this(root, heartsToDisplay, 0);
+    }
+
+    /**
+     * Constructor to initialize the {@code LevelView} with the root container, initial heart count
+     * and the number of kills needed to win.
+     *
+     * @param root the root container for adding visual elements
+     * @param heartsToDisplay the initial number of hearts to display
+     * @param killsToAdvance the number of kills needed to win, or 0 to show the kill count alone
+     */
+    public LevelView(Group root, int heartsToDisplay, int killsToAdvance) {
         this.root = root; // Set the root container
         this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay); // Create the heart display
+        this.killCountDisplay = new KillCountDisplay(0, KILL_COUNT_DISPLAY_Y_POSITION, killsToAdvance); // Create the kill count display, aligned when shown
         this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION); // Create the win image
         this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSISITION); // Create the game over image
     }
@@ -85,6 +113,29 @@ public class LevelView {
         root.getChildren().add(heartDisplay.getContainer()); // Add the heart display container to the root
     }
 
+    /**
+     * Displays the kill count display at the top right of the screen.
+     *
+     * @param screenWidth the width of the screen
+     */
+    public void showKillCountDisplay(double screenWidth) {
+        killCountDisplay.getNode().setLayoutX(screenWidth - KILL_COUNT_DISPLAY_RIGHT_MARGIN); // Align with the right edge
+        root.getChildren().add(killCountDisplay.getNode()); // Add the kill count display to the root
+    }
+
+    /**
+     * Makes the heart and kill count displays follow the user's plane. The displays are only updated when
+     * the plane's health or kill count changes, instead of being refreshed on every tick.
+     *
+     * @param user the user's plane
+     */
+    public void observe(UserPlane user) {
+        heartDisplay.showHearts(user.getHealth());
+        killCountDisplay.showKills(user.getKillCount());
+        user.healthProperty().addListener((observable, oldHealth, newHealth) -> heartDisplay.showHearts(newHealth.intValue()));
+        user.killCountProperty().addListener((observable, oldKills, newKills) -> killCountDisplay.showKills(newKills.intValue()));
+    }
+
     /**
      * Displays the win image on the screen.
      */
@@ -102,14 +153,31 @@ public class LevelView {
 
     /**
      * Updates the heart display by removing hearts based on the remaining health.
+     * Hearts are never added back by this method.
      *
      * @param heartsRemaining the number of hearts to remain displayed
      */
     public void removeHearts(int heartsRemaining) {
-        int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size(); // Get the current number of hearts
-        heartsRemaining = Math.max(0, Math.min(heartsRemaining, currentNumberOfHearts)); // Ensure hearts remaining is within valid range
-        for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
-            heartDisplay.removeHeart(); // Remove hearts from the display
+        if (heartsRemaining < heartDisplay.getHeartCount()) {
+            heartDisplay.showHearts(heartsRemaining); // Remove hearts from the display
         }
     }
+
+    /**
+     * Returns the heart display showing the player's health.
+     *
+     * @return the heart display
+     */
+    public HeartDisplay getHeartDisplay() {
+        return heartDisplay;
+    }
+
+    /**
+     * Returns the kill count display showing the player's progress.
+     *
+     * @return the kill count display
+     */
+    public KillCountDisplay getKillCountDisplay() {
+        return killCountDisplay;
+    }
 }
@@ -24,7 +24,18 @@ public class LevelViewLevelTwo extends LevelView {
      * @param heartsToDisplay The number of hearts to display for the player.
      */
     public LevelViewLevelTwo(Group root, int heartsToDisplay) {
-        super(root, heartsToDisplay);  // Call the superclass constructor to initialize hearts and other elements
+        this(root, heartsToDisplay, 0);
+    }
+
+    /**
+     * Constructor to initialize LevelViewLevelTwo with the number of kills needed to win.
+     * 
+     * @param root The root container where the UI elements will be added.
+     * @param heartsToDisplay The number of hearts to display for the player.
+     * @param killsToAdvance The number of kills needed to win, or 0 to show the kill count alone.
+     */
+    public LevelViewLevelTwo(Group root, int heartsToDisplay, int killsToAdvance) {
+        super(root, heartsToDisplay, killsToAdvance);  // Call the superclass constructor to initialize hearts and other elements
         this.root = root;  // Set the root container
         this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);  // Create the shield image
         addImagesToRoot();  // Add shield image to the root container
@@ -40,12 +51,28 @@ public class LevelViewLevelTwo extends LevelView {
 
     /**
      * Method to show the shield on the screen.
-     * The shield image is made visible in the Level Two view.
+     * The shield image is made visible in the Level Two view and brought in front of the level,
+     * being added back first if the scene graph was rebuilt since it was created.
      */
     public void showShield() {
+        if (!root.getChildren().contains(shieldImage)) {
+            root.getChildren().add(shieldImage);  // Restore the shield after the root was cleared
+        }
+        shieldImage.toFront();  // Keep the shield above the background and the actors
         shieldImage.showShield();  // Display the shield image
     }
 
+    /**
+     * Method to center the shield on a point, so that it follows the plane it protects.
+     * 
+     * @param centerX The x position of the center of the shield.
+     * @param centerY The y position of the center of the shield.
+     */
+    public void centerShieldOn(double centerX, double centerY) {
+        shieldImage.setLayoutX(centerX - shieldImage.getFitWidth() / 2);  // Move the shield horizontally
+        shieldImage.setLayoutY(centerY - shieldImage.getFitHeight() / 2);  // Move the shield vertically
+    }
+
     /**
      * Method to hide the shield from the screen.
      * The shield image is made invisible in the Level Two view.
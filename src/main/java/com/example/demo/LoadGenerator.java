@@ -0,0 +1,222 @@
+package com.example.demo;
+
+import java.io.PrintStream;
+import java.util.Properties;
+
+/**
+ * The {@code LoadGenerator} class finds the scaling limit of a level's update logic. It plays the level headlessly
+ * with a {@link BotPlayer}, running ticks back to back through {@code updateScene} without the game loop or
+ * rendering, and ramps up the entity pressure in steps: each step raises the enemy limit of every wave and plays a
+ * fresh level until the bodies on screen settle, then times a window of ticks. The ramp stops at the first step
+ * whose 99th percentile tick time exceeds the tick budget of the level's {@link TickProfiler}, which is reported
+ * as the breaking point together with the last step that stayed within budget.
+ * <p>
+ * The load knobs are level file values overriding the level's own: {@code wave.N.spawnChance} for the spawn chance,
+ * {@code projectileSpeed} to scale projectile velocities and {@code playerHealth} to keep the bot alive under fire,
+ * for example. The enemy limits are set by the ramp, and {@code killsToAdvance} is raised so that the level is never
+ * won. A level that is lost is restarted; the restarts are reported, as a fresh level starts without enemies.
+ * The JavaFX toolkit must be running, as levels create images and nodes.
+ * </p>
+ */
+public class LoadGenerator {
+
+    // Number of nanoseconds in one millisecond
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    // Level loaded, its description with the overrides applied, and the size of the screen
+    private final String levelId;
+    private final Properties description;
+    private final double screenHeight;
+    private final double screenWidth;
+
+    // Seed of every level's randomness, and the bot's ticks between shots
+    private final long seed;
+    private final int fireIntervalTicks;
+
+    // Results of the latest run
+    private int breakingEnemyLimit;
+    private double breakingBodyCount;
+    private int sustainedEnemyLimit;
+    private double sustainedBodyCount;
+    private int restartCount;
+
+    /**
+     * Constructs a {@code LoadGenerator}.
+     *
+     * @param levelId the identifier of the level to load
+     * @param overrides level file values replacing the level's own, such as {@code wave.0.spawnChance=1}
+     *                  or {@code projectileSpeed=4}
+     * @param screenHeight the height of the game screen
+     * @param screenWidth the width of the game screen
+     * @param seed the seed of every level's randomness
+     * @param fireIntervalTicks the number of ticks between the bot's shots
+     * @throws IllegalArgumentException if the level file is missing, or invalid with the overrides applied
+     */
+    public LoadGenerator(String levelId, Properties overrides, double screenHeight, double screenWidth, long seed,
+                         int fireIntervalTicks) {
+        this.levelId = levelId;
+        this.description = LevelDefinitions.readProperties(levelId);
+        this.description.putAll(overrides);
+        this.description.setProperty("killsToAdvance", Integer.toString(Integer.MAX_VALUE)); // Never win
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.seed = seed;
+        this.fireIntervalTicks = fireIntervalTicks;
+        LevelDefinitions.compile(levelId, description); // Report invalid overrides before the first step
+    }
+
+    /**
+     * Ramps up the enemy limit until the tick budget is exceeded or the limit reaches its maximum, printing
+     * a line per step and the breaking point at the end.
+     *
+     * @param startEnemies the enemy limit of the first step
+     * @param growthFactor the factor the enemy limit grows by at each step, greater than 1
+     * @param maxEnemies the enemy limit at which the ramp gives up
+     * @param settleTicks the ticks played at each step before measuring, to let the bodies on screen settle
+     * @param measureTicks the ticks measured at each step
+     * @param out the stream the steps and the result are printed to
+     * @return {@code true} if a breaking point was found, {@code false} if the maximum limit stayed within budget
+     * @throws IllegalArgumentException if a limit or tick count is not positive or the growth factor is not above 1
+     */
+    public boolean run(int startEnemies, double growthFactor, int maxEnemies, int settleTicks, int measureTicks,
+                       PrintStream out) {
+        if (startEnemies <= 0 || maxEnemies < startEnemies || settleTicks < 0 || measureTicks <= 0 || !(growthFactor > 1)) {
+            throw new IllegalArgumentException("Invalid ramp: start " + startEnemies + ", growth " + growthFactor
+                    + ", max " + maxEnemies + ", settle " + settleTicks + ", measure " + measureTicks);
+        }
+        breakingEnemyLimit = 0;
+        breakingBodyCount = 0;
+        sustainedEnemyLimit = 0;
+        sustainedBodyCount = 0;
+        restartCount = 0;
+        RingBufferHistogram tickTimes = new RingBufferHistogram(measureTicks); // Holds one step, across restarts
+        out.printf("Load ramp of %s, seed %d, bot firing every %d ticks%n", levelId, seed, fireIntervalTicks);
+        out.printf("%8s %9s %9s %9s %9s %9s %9s%n", "enemies", "bodies", "p50 ms", "p99 ms", "max ms", "overruns", "restarts");
+
+        for (int enemyLimit = startEnemies; ; enemyLimit = Math.max(enemyLimit + 1, (int) Math.ceil(enemyLimit * growthFactor))) {
+            enemyLimit = Math.min(enemyLimit, maxEnemies);
+            LevelDefinition definition = compileWithEnemyLimit(enemyLimit);
+            LevelParent level = startLevel(definition);
+            BotPlayer bot = new BotPlayer(fireIntervalTicks);
+            long budgetNanos = level.getProfiler().getBudgetNanos();
+            int restarts = 0;
+            int overruns = 0;
+            long bodyTotal = 0;
+            for (int tick = 0; tick < settleTicks + measureTicks; tick++) {
+                bot.act(level);
+                long start = System.nanoTime();
+                level.updateScene();
+                long tickNanos = System.nanoTime() - start;
+                if (tick >= settleTicks) { // Measure only the settled ticks
+                    tickTimes.record(tickNanos);
+                    overruns += tickNanos > budgetNanos ? 1 : 0;
+                    bodyTotal += level.getWorld().getBodyCount();
+                }
+                if (level.isGameOver()) {
+                    level.tearDown();
+                    level = startLevel(definition);
+                    bot = new BotPlayer(fireIntervalTicks);
+                    restarts++;
+                    restartCount++;
+                }
+            }
+            level.tearDown();
+            double bodyCount = (double) bodyTotal / measureTicks;
+            long p99Nanos = tickTimes.getPercentile(99);
+            out.printf("%8d %9.0f %9.2f %9.2f %9.2f %9d %9d%n", enemyLimit, bodyCount,
+                    tickTimes.getPercentile(50) / NANOS_PER_MILLI, p99Nanos / NANOS_PER_MILLI,
+                    tickTimes.getWindowMax() / NANOS_PER_MILLI, overruns, restarts);
+
+            if (p99Nanos > budgetNanos) {
+                breakingEnemyLimit = enemyLimit;
+                breakingBodyCount = bodyCount;
+                out.printf("Breaking point: %d enemies (%.0f bodies), p99 tick %.2f ms over the %.2f ms budget%n",
+                        enemyLimit, bodyCount, p99Nanos / NANOS_PER_MILLI, budgetNanos / NANOS_PER_MILLI);
+                if (sustainedEnemyLimit > 0) {
+                    out.printf("Last step within budget: %d enemies (%.0f bodies)%n", sustainedEnemyLimit, sustainedBodyCount);
+                }
+                return true;
+            }
+            sustainedEnemyLimit = enemyLimit;
+            sustainedBodyCount = bodyCount;
+            if (enemyLimit == maxEnemies) {
+                out.printf("No breaking point up to %d enemies (%.0f bodies)%n", enemyLimit, bodyCount);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Compiles the level description with the enemy limit of every wave set to the specified value.
+     *
+     * @param enemyLimit the enemy limit
+     * @return the compiled definition
+     */
+    private LevelDefinition compileWithEnemyLimit(int enemyLimit) {
+        Properties step = new Properties();
+        step.putAll(description);
+        for (int i = 0; step.containsKey("wave." + i + ".maxEnemies"); i++) {
+            step.setProperty("wave." + i + ".maxEnemies", Integer.toString(enemyLimit));
+        }
+        return LevelDefinitions.compile(levelId, step);
+    }
+
+    /**
+     * Creates a fresh level with its scene built and its randomness seeded.
+     *
+     * @param definition the definition of the level
+     * @return the new level
+     */
+    private LevelParent startLevel(LevelDefinition definition) {
+        LevelParent level = new DefinedLevel(definition, screenHeight, screenWidth, null);
+        level.setHeadless(true); // Lost steps restart the level from this thread, so no UI work may be posted
+        level.initializeScene();
+        level.getRandom().reseed(seed);
+        return level;
+    }
+
+    /**
+     * Gets the number of times a lost level was restarted during the latest run, over every step.
+     *
+     * @return the restart count
+     */
+    public int getRestartCount() {
+        return restartCount;
+    }
+
+    /**
+     * Gets the enemy limit at which the latest run exceeded the tick budget.
+     *
+     * @return the breaking enemy limit, or 0 if no breaking point was found
+     */
+    public int getBreakingEnemyLimit() {
+        return breakingEnemyLimit;
+    }
+
+    /**
+     * Gets the average number of bodies on the level at the breaking point of the latest run.
+     *
+     * @return the body count, or 0 if no breaking point was found
+     */
+    public double getBreakingBodyCount() {
+        return breakingBodyCount;
+    }
+
+    /**
+     * Gets the highest enemy limit of the latest run that stayed within the tick budget.
+     *
+     * @return the sustained enemy limit, or 0 if the first step exceeded the budget
+     */
+    public int getSustainedEnemyLimit() {
+        return sustainedEnemyLimit;
+    }
+
+    /**
+     * Gets the average number of bodies on the level at the highest enemy limit that stayed within the tick budget.
+     *
+     * @return the body count, or 0 if the first step exceeded the budget
+     */
+    public double getSustainedBodyCount() {
+        return sustainedBodyCount;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo;
+
+import javafx.scene.control.Label;
+
+/**
+ * The {@code ProfilerOverlay} class shows the statistics of a {@link TickProfiler} on screen:
+ * the p50, p99 and maximum time of every tick phase, the total tick time against the budget,
+ * the number of budget overruns and the entity counts. The overlay is hidden until toggled and
+ * refreshes its text a few times per second, so it does not allocate on every frame.
+ */
+public class ProfilerOverlay {
+
+    // Minimum time between two refreshes of the text
+    private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+    // Number of nanoseconds in one microsecond
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    // Position of the overlay on screen
+    private static final double X_POSITION = 5;
+    private static final double Y_POSITION = 80;
+
+    // Style of the overlay text
+    private static final String STYLE = "-fx-font-family: monospace; -fx-font-size: 12px; -fx-text-fill: white; "
+            + "-fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 6px;";
+
+    // Profiler shown by the overlay
+    private final TickProfiler profiler;
+
+    // Node displaying the statistics
+    private final Label label;
+
+    // Reused buffer the text is built in
+    private final StringBuilder text;
+
+    // Time of the latest refresh
+    private long lastRefreshNanos;
+
+    /**
+     * Constructs a hidden {@code ProfilerOverlay} for the specified profiler.
+     *
+     * @param profiler the profiler whose statistics are shown
+     */
+    public ProfilerOverlay(TickProfiler profiler) {
+        this.profiler = profiler;
+        this.text = new StringBuilder();
+        this.label = new Label();
+        label.setLayoutX(X_POSITION);
+        label.setLayoutY(Y_POSITION);
+        label.setStyle(STYLE);
+        label.setMouseTransparent(true); // Never steal input from the game
+        label.setFocusTraversable(false);
+        label.setVisible(false);
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        label.setVisible(!label.isVisible());
+        if (label.isVisible()) {
+            lastRefreshNanos = 0; // Refresh on the next frame
+            label.toFront();
+        }
+    }
+
+    /**
+     * Refreshes the text if the overlay is visible and the refresh interval has passed.
+     * Meant to be called once per rendered frame.
+     */
+    public void refresh() {
+        if (!label.isVisible()) return; // Nothing to show
+        long now = System.nanoTime();
+        if (now - lastRefreshNanos < REFRESH_INTERVAL_NANOS) return; // Refreshed recently
+        lastRefreshNanos = now;
+
+        ProfilerSnapshot snapshot = profiler.snapshot();
+        text.setLength(0);
+        text.append(String.format("%-31s %8s %8s %8s%n", "phase (us)", "p50", "p99", "max"));
+        for (int phase = 0; phase < TickProfiler.PHASE_COUNT; phase++) {
+            appendRow(TickProfiler.getPhaseName(phase), snapshot.getPhaseP50Nanos(phase),
+                    snapshot.getPhaseP99Nanos(phase), snapshot.getPhaseMaxNanos(phase));
+        }
+        appendRow("tick", snapshot.getTickP50Nanos(), snapshot.getTickP99Nanos(), snapshot.getTickMaxNanos());
+        text.append(String.format("budget %.0f us, overruns %d of %d ticks, worst %.1f us%n",
+                snapshot.getBudgetNanos() / NANOS_PER_MICRO, snapshot.getOverrunCount(), snapshot.getTickCount(),
+                snapshot.getWorstTickNanos() / NANOS_PER_MICRO));
+        text.append(String.format("entities: friendly %d, enemy %d, user shots %d, enemy shots %d",
+                snapshot.getLatestEntityCount(EntityStore.KIND_FRIENDLY),
+                snapshot.getLatestEntityCount(EntityStore.KIND_ENEMY),
+                snapshot.getLatestEntityCount(EntityStore.KIND_USER_PROJECTILE),
+                snapshot.getLatestEntityCount(EntityStore.KIND_ENEMY_PROJECTILE)));
+        label.setText(text.toString());
+    }
+
+    /**
+     * Appends a row of timings, converted to microseconds.
+     *
+     * @param name the name of the row
+     * @param p50Nanos the median in nanoseconds
+     * @param p99Nanos the 99th percentile in nanoseconds
+     * @param maxNanos the maximum in nanoseconds
+     */
+    private void appendRow(String name, long p50Nanos, long p99Nanos, long maxNanos) {
+        text.append(String.format("%-31s %8.1f %8.1f %8.1f%n", name,
+                p50Nanos / NANOS_PER_MICRO, p99Nanos / NANOS_PER_MICRO, maxNanos / NANOS_PER_MICRO));
+    }
+
+    /**
+     * Checks whether the overlay is shown.
+     *
+     * @return {@code true} if the overlay is visible, otherwise {@code false}
+     */
+    public boolean isVisible() {
+        return label.isVisible();
+    }
+
+    /**
+     * Gets the node displaying the overlay, to be added to the scene graph.
+     *
+     * @return the overlay node
+     */
+    public Label getNode() {
+        return label;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo;
+
+/**
+ * The {@code ProfilerSnapshot} class is an immutable copy of the statistics of a {@link TickProfiler}
+ * at the time it was taken. Percentiles and maxima cover the profiler's window of recent ticks.
+ */
+public class ProfilerSnapshot {
+
+    // Number of entity kinds tracked per tick
+    private static final int KIND_COUNT = 4;
+
+    // Phase durations in nanoseconds, indexed by phase
+    private final long[] phaseP50Nanos;
+    private final long[] phaseP99Nanos;
+    private final long[] phaseMaxNanos;
+
+    // Total tick durations in nanoseconds
+    private final long tickP50Nanos;
+    private final long tickP99Nanos;
+    private final long tickMaxNanos;
+    private final long worstTickNanos;
+
+    // Entity counts, indexed by entity kind
+    private final int[] latestEntityCounts;
+    private final int[] maxEntityCounts;
+
+    // Tick statistics
+    private final long budgetNanos;
+    private final long tickCount;
+    private final long overrunCount;
+
+    /**
+     * Constructs a {@code ProfilerSnapshot} from the current statistics of a profiler.
+     *
+     * @param profiler the profiler to copy
+     */
+    ProfilerSnapshot(TickProfiler profiler) {
+        this.phaseP50Nanos = new long[TickProfiler.PHASE_COUNT];
+        this.phaseP99Nanos = new long[TickProfiler.PHASE_COUNT];
+        this.phaseMaxNanos = new long[TickProfiler.PHASE_COUNT];
+        for (int phase = 0; phase < TickProfiler.PHASE_COUNT; phase++) {
+            RingBufferHistogram histogram = profiler.getPhaseHistogram(phase);
+            phaseP50Nanos[phase] = histogram.getPercentile(50);
+            phaseP99Nanos[phase] = histogram.getPercentile(99);
+            phaseMaxNanos[phase] = histogram.getWindowMax();
+        }
+
+        RingBufferHistogram ticks = profiler.getTickHistogram();
+        this.tickP50Nanos = ticks.getPercentile(50);
+        this.tickP99Nanos = ticks.getPercentile(99);
+        this.tickMaxNanos = ticks.getWindowMax();
+        this.worstTickNanos = ticks.getMaxEver();
+
+        this.latestEntityCounts = new int[KIND_COUNT];
+        this.maxEntityCounts = new int[KIND_COUNT];
+        for (int kind = 0; kind < KIND_COUNT; kind++) {
+            RingBufferHistogram counts = profiler.getEntityHistogram((byte) kind);
+            latestEntityCounts[kind] = (int) counts.getLatest();
+            maxEntityCounts[kind] = (int) counts.getWindowMax();
+        }
+
+        this.budgetNanos = profiler.getBudgetNanos();
+        this.tickCount = profiler.getTickCount();
+        this.overrunCount = profiler.getOverrunCount();
+    }
+
+    /**
+     * Gets the median duration of a phase.
+     *
+     * @param phase the phase, one of the {@link TickProfiler} phases
+     * @return the 50th percentile duration in nanoseconds
+     */
+    public long getPhaseP50Nanos(int phase) {
+        return phaseP50Nanos[phase];
+    }
+
+    /**
+     * Gets the 99th percentile duration of a phase.
+     *
+     * @param phase the phase, one of the {@link TickProfiler} phases
+     * @return the 99th percentile duration in nanoseconds
+     */
+    public long getPhaseP99Nanos(int phase) {
+        return phaseP99Nanos[phase];
+    }
+
+    /**
+     * Gets the longest recent duration of a phase.
+     *
+     * @param phase the phase, one of the {@link TickProfiler} phases
+     * @return the maximum duration in nanoseconds
+     */
+    public long getPhaseMaxNanos(int phase) {
+        return phaseMaxNanos[phase];
+    }
+
+    /**
+     * Gets the median total tick duration.
+     *
+     * @return the 50th percentile tick duration in nanoseconds
+     */
+    public long getTickP50Nanos() {
+        return tickP50Nanos;
+    }
+
+    /**
+     * Gets the 99th percentile total tick duration.
+     *
+     * @return the 99th percentile tick duration in nanoseconds
+     */
+    public long getTickP99Nanos() {
+        return tickP99Nanos;
+    }
+
+    /**
+     * Gets the longest recent total tick duration.
+     *
+     * @return the maximum tick duration in nanoseconds
+     */
+    public long getTickMaxNanos() {
+        return tickMaxNanos;
+    }
+
+    /**
+     * Gets the longest tick duration since the profiler was created or reset.
+     *
+     * @return the worst tick duration in nanoseconds
+     */
+    public long getWorstTickNanos() {
+        return worstTickNanos;
+    }
+
+    /**
+     * Gets the number of entities of a kind at the end of the latest tick.
+     *
+     * @param entityKind the kind of entity, one of the {@link EntityStore} kinds
+     * @return the latest entity count
+     */
+    public int getLatestEntityCount(byte entityKind) {
+        return latestEntityCounts[entityKind];
+    }
+
+    /**
+     * Gets the largest recent number of entities of a kind.
+     *
+     * @param entityKind the kind of entity, one of the {@link EntityStore} kinds
+     * @return the maximum entity count
+     */
+    public int getMaxEntityCount(byte entityKind) {
+        return maxEntityCounts[entityKind];
+    }
+
+    /**
+     * Gets the time a tick may take before it is counted as an overrun.
+     *
+     * @return the tick budget in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Gets the number of ticks timed.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the number of ticks that took longer than the budget.
+     *
+     * @return the overrun count
+     */
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+}
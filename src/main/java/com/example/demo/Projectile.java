@@ -7,17 +7,37 @@ package com.example.demo;
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+    // Health of a projectile when it is fired, so that a single hit destroys it
+    private static final int INITIAL_HEALTH = 1;
+
+    // Factor applied to the projectile's own speed, set by the level that fires it
+    private double speedScale = 1;
+
     /**
      * Constructor to initialize a projectile with its image name, height, and initial position.
      * It calls the parent constructor to initialize common properties for the projectile.
      * 
-     * @param imageName The name of the image associated with the projectile.
+     * @param spriteName The name of the sprite associated with the projectile.
      * @param imageHeight The height of the projectile's image.
      * @param initialXPos The initial X position of the projectile.
      * @param initialYPos The initial Y position of the projectile.
      */
-    public Projectile(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        super(imageName, imageHeight, initialXPos, initialYPos);  // Call the parent constructor with image details and position
+    public Projectile(String spriteName, int imageHeight, double initialXPos, double initialYPos) {
+        super(spriteName, imageHeight, initialXPos, initialYPos);  // Call the parent constructor with sprite details and position
+    }
+
+    /**
+     * Resets the projectile to a fresh shot at the specified position, restoring the health a hit took from it.
+     * The simulation damages the body directly, so a pooled projectile would otherwise be fired again with
+     * no health left.
+     *
+     * @param initialXPos the initial X position of the projectile
+     * @param initialYPos the initial Y position of the projectile
+     */
+    @Override
+    public void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        getBody().setHealth(INITIAL_HEALTH);
     }
 
     /**
@@ -29,6 +49,34 @@ public abstract class Projectile extends ActiveActorDestructible {
         destroy();  // Destroy the projectile when it takes damage
     }
 
+    /**
+     * Method to retrieve the number of game ticks the projectile has been alive for.
+     *
+     * @return The age of the projectile in ticks.
+     */
+    public int getAgeInTicks() {
+        return getBody().getAgeInTicks();
+    }
+
+    /**
+     * Method to set the factor applied to the projectile's own speed. Projectiles are pooled and shared
+     * between levels, so the level sets it each time it fires one.
+     *
+     * @param speedScale The speed factor, 1 for the projectile's own speed.
+     */
+    public void setSpeedScale(double speedScale) {
+        this.speedScale = speedScale;
+    }
+
+    /**
+     * Method to retrieve the factor applied to the projectile's own speed.
+     *
+     * @return The speed factor.
+     */
+    public double getSpeedScale() {
+        return speedScale;
+    }
+
     /**
      * Abstract method to update the position of the projectile.
      * The specific implementation will define how the projectile moves.
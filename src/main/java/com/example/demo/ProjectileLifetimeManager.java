@@ -0,0 +1,126 @@
+package com.example.demo;
+
+/**
+ * The {@code ProjectileLifetimeManager} class retires projectiles that are no longer relevant to the game.
+ * A projectile is retired once it has left the screen completely or has lived longer than the maximum
+ * number of ticks, so the projectile lists and the scene graph stay bounded over long sessions.
+ * Retired projectiles are only marked as destroyed; they are removed with the other destroyed bodies.
+ */
+public class ProjectileLifetimeManager {
+
+    // Area outside of which projectiles are retired
+    private final double screenWidth;
+    private final double screenHeight;
+
+    // Maximum number of ticks a projectile may live before it is retired
+    private final int maxTicksToLive;
+
+    // Number of projectiles still alive after the current tick's checks
+    private int liveCount;
+
+    // Total number of projectiles retired by this manager
+    private long retiredCount;
+    private long retiredOffScreenCount;
+    private long retiredExpiredCount;
+
+    /**
+     * Constructs a {@code ProjectileLifetimeManager} for a screen of the specified size.
+     *
+     * @param screenWidth the width of the game screen
+     * @param screenHeight the height of the game screen
+     * @param maxTicksToLive the maximum number of ticks a projectile may live
+     */
+    public ProjectileLifetimeManager(double screenWidth, double screenHeight, int maxTicksToLive) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.maxTicksToLive = maxTicksToLive;
+    }
+
+    /**
+     * Starts a new tick by resetting the live projectile count.
+     * Must be called before the projectiles of the tick are checked with {@link #retireExpired(EntityStore, byte)}.
+     */
+    public void beginTick() {
+        liveCount = 0;
+    }
+
+    /**
+     * Retires the projectiles of a kind that are off-screen or older than the maximum time to live.
+     *
+     * @param store the store holding the projectiles
+     * @param projectileKind the kind of projectile to check
+     */
+    public void retireExpired(EntityStore store, byte projectileKind) {
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.kind[i] != projectileKind || store.isDestroyed(i)) continue; // Already removed by a collision
+            if (store.ageInTicks[i] > maxTicksToLive) {
+                retire(store, i);
+                retiredExpiredCount++;
+            } else if (isOffScreen(store, i)) {
+                retire(store, i);
+                retiredOffScreenCount++;
+            } else {
+                liveCount++;
+            }
+        }
+    }
+
+    /**
+     * Checks whether an entity is completely outside the screen.
+     *
+     * @param store the store holding the entity
+     * @param slot the slot of the entity
+     * @return {@code true} if no part of the entity is on screen, otherwise {@code false}
+     */
+    private boolean isOffScreen(EntityStore store, int slot) {
+        return store.x[slot] + store.width[slot] < 0 || store.x[slot] > screenWidth
+                || store.y[slot] + store.height[slot] < 0 || store.y[slot] > screenHeight;
+    }
+
+    /**
+     * Retires a projectile by marking it as destroyed.
+     *
+     * @param store the store holding the projectile
+     * @param slot the slot of the projectile
+     */
+    private void retire(EntityStore store, int slot) {
+        store.setDestroyed(slot, true);
+        retiredCount++;
+    }
+
+    /**
+     * Gets the number of projectiles that were alive after the latest checks.
+     *
+     * @return the live projectile count
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Gets the total number of projectiles retired by this manager.
+     *
+     * @return the retired projectile count
+     */
+    public long getRetiredCount() {
+        return retiredCount;
+    }
+
+    /**
+     * Gets the number of projectiles retired because they left the screen.
+     *
+     * @return the off-screen retired projectile count
+     */
+    public long getRetiredOffScreenCount() {
+        return retiredOffScreenCount;
+    }
+
+    /**
+     * Gets the number of projectiles retired because they exceeded the maximum time to live.
+     *
+     * @return the expired projectile count
+     */
+    public long getRetiredExpiredCount() {
+        return retiredExpiredCount;
+    }
+}
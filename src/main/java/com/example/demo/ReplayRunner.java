@@ -0,0 +1,120 @@
+package com.example.demo;
+
+/**
+ * The {@code ReplayRunner} class plays a recorded {@link InputLog} against a fresh level, as fast as the simulation
+ * runs. The level is built from the recorded level identifier, its randomness is reseeded with the recorded seed,
+ * and ticks are run back to back without the game loop and without rendering, each recorded command being posted
+ * to the level's input bus for the tick it was applied on. As gameplay depends only on the seed and the input,
+ * the replay reproduces the recorded session, which makes recorded sessions repeatable load profiles for
+ * measuring {@code updateScene}.
+ * <p>
+ * The JavaFX toolkit must be running, as the level creates images and nodes, but the level's scene is never shown,
+ * so the replay may run on any single thread.
+ * </p>
+ */
+public class ReplayRunner {
+
+    // Number of nanoseconds in one second
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    // Session being replayed and the level it is replayed against
+    private final InputLog log;
+    private final LevelParent level;
+
+    // Results of the latest run
+    private long ticksRun;
+    private long elapsedNanos;
+
+    /**
+     * Constructs a {@code ReplayRunner} and builds the level the session was recorded on.
+     *
+     * @param log the recorded session
+     * @param screenHeight the height of the game screen the session was recorded on
+     * @param screenWidth the width of the game screen the session was recorded on
+     * @throws IllegalArgumentException if the recorded level cannot be loaded
+     */
+    public ReplayRunner(InputLog log, double screenHeight, double screenWidth) {
+        this.log = log;
+        this.level = new DefinedLevel(LevelDefinitions.get(log.getLevelId()), screenHeight, screenWidth, null);
+        level.setHeadless(true); // The replay reads the outcome itself, so no UI work is posted
+        level.initializeScene();
+        level.getRandom().reseed(log.getSeed()); // Replay the recorded random decisions
+        if (level.getGameLoop().getTickRate() != log.getTickRate()) {
+            System.err.println("Replaying a session recorded at " + log.getTickRate() + " ticks per second at "
+                    + level.getGameLoop().getTickRate() + "; the replay will differ from the recording.");
+        }
+    }
+
+    /**
+     * Runs the session to its end tick, or until the level is won or lost.
+     * A runner replays its session once; the level keeps its final state for inspection.
+     *
+     * @return the number of ticks run
+     * @throws IllegalStateException if the session has already been replayed
+     */
+    public long run() {
+        InputBus inputBus = level.getInputBus();
+        if (inputBus.getTick() != 0) {
+            throw new IllegalStateException("The session has already been replayed.");
+        }
+        int next = 0;
+        int commandCount = log.getCommandCount();
+        long start = System.nanoTime();
+        while (inputBus.getTick() < log.getEndTick() && !level.isGameOver()) {
+            long tick = inputBus.getTick();
+            while (next < commandCount && log.getTick(next) == tick) {
+                inputBus.post(log.getCommand(next), tick); // Post the commands recorded for this tick
+                next++;
+            }
+            level.updateScene();
+        }
+        elapsedNanos = System.nanoTime() - start;
+        ticksRun = inputBus.getTick();
+        return ticksRun;
+    }
+
+    /**
+     * Gets the number of ticks run by the latest run.
+     *
+     * @return the tick count
+     */
+    public long getTicksRun() {
+        return ticksRun;
+    }
+
+    /**
+     * Gets the wall-clock time taken by the latest run, in nanoseconds.
+     *
+     * @return the elapsed time
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the simulation speed of the latest run.
+     *
+     * @return the ticks run per second of wall-clock time
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticksRun * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Gets how much faster than real time the latest run was, given the session's tick rate.
+     *
+     * @return the speed-up over real time
+     */
+    public double getSpeedUp() {
+        return getTicksPerSecond() / log.getTickRate();
+    }
+
+    /**
+     * Gets the level the session is replayed against, to inspect its state or profiler after a run.
+     *
+     * @return the replayed level
+     */
+    public LevelParent getLevel() {
+        return level;
+    }
+}
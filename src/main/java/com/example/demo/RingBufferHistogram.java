@@ -0,0 +1,141 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code RingBufferHistogram} class keeps the most recent samples of a measurement in a fixed-size ring buffer
+ * and reports percentiles over them. Recording a sample never allocates, so it can be done on every tick;
+ * percentiles are computed on demand by sorting a copy of the window into a scratch buffer owned by the histogram.
+ * The largest sample ever recorded is tracked separately, so a single spike is not lost once it leaves the window.
+ */
+public class RingBufferHistogram {
+
+    // Most recent samples, written round-robin
+    private final long[] samples;
+
+    // Scratch buffer the window is sorted in when percentiles are requested
+    private final long[] sorted;
+
+    // Index of the next sample to overwrite and the number of samples held
+    private int next;
+    private int count;
+
+    // Statistics over every sample ever recorded
+    private long totalCount;
+    private long maxEver;
+
+    /**
+     * Constructs a {@code RingBufferHistogram} holding the specified number of recent samples.
+     *
+     * @param capacity the number of samples kept in the window
+     */
+    public RingBufferHistogram(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.samples = new long[capacity];
+        this.sorted = new long[capacity];
+    }
+
+    /**
+     * Records a sample, overwriting the oldest sample once the window is full.
+     *
+     * @param value the sample to record
+     */
+    public void record(long value) {
+        samples[next] = value;
+        next = next + 1 == samples.length ? 0 : next + 1;
+        if (count < samples.length) {
+            count++;
+        }
+        totalCount++;
+        if (value > maxEver) {
+            maxEver = value;
+        }
+    }
+
+    /**
+     * Gets a percentile of the samples in the window, using the nearest-rank method.
+     *
+     * @param percentile the percentile to compute, between 0 and 100
+     * @return the sample at the percentile, or 0 if no samples have been recorded
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) return 0;
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, Math.min(rank, count) - 1)];
+    }
+
+    /**
+     * Gets the largest sample in the window.
+     *
+     * @return the largest recent sample, or 0 if no samples have been recorded
+     */
+    public long getWindowMax() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            if (samples[i] > max) {
+                max = samples[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the most recently recorded sample.
+     *
+     * @return the latest sample, or 0 if no samples have been recorded
+     */
+    public long getLatest() {
+        if (count == 0) return 0;
+        return samples[next == 0 ? samples.length - 1 : next - 1];
+    }
+
+    /**
+     * Gets the largest sample recorded since the histogram was created or last cleared.
+     *
+     * @return the largest sample ever recorded
+     */
+    public long getMaxEver() {
+        return maxEver;
+    }
+
+    /**
+     * Gets the number of samples currently in the window.
+     *
+     * @return the window sample count
+     */
+    public int getWindowCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of samples recorded since the histogram was created or last cleared.
+     *
+     * @return the total sample count
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the number of samples the window holds.
+     *
+     * @return the window capacity
+     */
+    public int getCapacity() {
+        return samples.length;
+    }
+
+    /**
+     * Discards every sample and resets the statistics.
+     */
+    public void clear() {
+        next = 0;
+        count = 0;
+        totalCount = 0;
+        maxEver = 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo;
+
+/**
+ * The {@code ScriptedPlayer} class plays a level without a keyboard by posting commands to its {@link InputBus}
+ * before each tick: it fires at a steady rate, and every so often starts moving up or down and stops again.
+ * The choices come from the player's own seeded generator, so a scripted session is the same on every run.
+ * Soak runs and benchmarks use it to drive levels headlessly.
+ */
+public class ScriptedPlayer {
+
+    // Ticks between shots, between changes of direction, and how long each move lasts
+    private static final int FIRE_INTERVAL_TICKS = 4;
+    private static final int MOVE_INTERVAL_TICKS = 30;
+    private static final int MOVE_DURATION_TICKS = 20;
+
+    // Generator choosing the direction of each move
+    private final GameRandom random;
+
+    /**
+     * Constructs a {@code ScriptedPlayer} whose moves follow the specified seed.
+     *
+     * @param seed the seed of the player's choices
+     */
+    public ScriptedPlayer(long seed) {
+        this.random = new GameRandom(seed);
+    }
+
+    /**
+     * Posts the player's commands for the next tick of a level.
+     *
+     * @param inputBus the input bus of the level
+     */
+    public void act(InputBus inputBus) {
+        long tick = inputBus.getTick();
+        if (tick % FIRE_INTERVAL_TICKS == 0) {
+            inputBus.post(InputBus.FIRE);
+        }
+        if (tick % MOVE_INTERVAL_TICKS == 0) {
+            inputBus.post(random.chance(0.5) ? InputBus.MOVE_UP : InputBus.MOVE_DOWN);
+        } else if (tick % MOVE_INTERVAL_TICKS == MOVE_DURATION_TICKS) {
+            inputBus.post(InputBus.STOP);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.demo; 
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -9,15 +8,15 @@ import javafx.scene.image.ImageView;
  */
 public class ShieldImage extends ImageView {
 
-    // Path to the shield image file
-    private static final String IMAGE_PATH = "/com/example/demo/images/shield.jpg";
+    // Name of the shield sprite in the sprite atlas
+    private static final String SPRITE_NAME = SpriteAtlas.SHIELD;
     
     // The size of the shield image
     private static final int SHIELD_SIZE = 200;
 
     /**
      * Constructor to initialize the shield image with position.
-     * The shield image is loaded from the specified path, positioned at the given coordinates,
+     * The shield sprite is taken from the shared sprite atlas, positioned at the given coordinates,
      * and initially hidden.
      * 
      * @param xPosition The x position where the shield should be placed.
@@ -26,7 +25,9 @@ public class ShieldImage extends ImageView {
     public ShieldImage(double xPosition, double yPosition) {
         setLayoutX(xPosition);  // Set the x position of the shield
         setLayoutY(yPosition);  // Set the y position of the shield
-        setImage(new Image(getClass().getResource(IMAGE_PATH).toExternalForm()));  // Load the image from the specified path
+        SpriteAtlas atlas = SpriteAtlas.getDefault();
+        setImage(atlas.getImage());  // Show the shared sprite atlas
+        setViewport(atlas.getRegion(SPRITE_NAME).getViewport());  // Crop the atlas to the shield sprite
         setVisible(false);  // Initially hide the shield
         setFitHeight(SHIELD_SIZE);  // Set the height of the shield
         setFitWidth(SHIELD_SIZE);  // Set the width of the shield
@@ -0,0 +1,21 @@
+package com.example.demo;
+
+/**
+ * The {@code ShotSink} interface receives the shots emitted by a {@link BulletPatternEngine}. A shot is passed as
+ * primitive values rather than as an object, so that emitting it allocates nothing; the level implements the sink
+ * by acquiring a pooled projectile, and benchmarks implement it by counting.
+ */
+@FunctionalInterface
+public interface ShotSink {
+
+    /**
+     * Fires one shot.
+     *
+     * @param x the X position of the top-left corner of the shot
+     * @param y the Y position of the top-left corner of the shot
+     * @param directionX the X component of the unit direction of the shot
+     * @param directionY the Y component of the unit direction of the shot
+     * @param speed the speed of the shot in pixels per second
+     */
+    void fire(double x, double y, double directionX, double directionY, double speed);
+}
@@ -0,0 +1,197 @@
+package com.example.demo;
+
+import java.io.PrintStream;
+
+/**
+ * The {@code SoakRunner} class runs the game's update logic in turbo mode to soak-test the entity lifecycle:
+ * a {@link ScriptedPlayer} plays a level whose ticks are run back to back through {@code updateScene}, with no
+ * game loop and no rendering. Whenever the level is won or lost, it is torn down the way a level transition does
+ * it, and a fresh copy of the level is started, so a soak can run for millions of ticks and covers the state
+ * shared between levels, such as the actor pools and the sprite cache.
+ * <p>
+ * At a fixed interval the runner prints the tick rate, the heap in use and the number of bodies of each kind,
+ * actors in the pools and nodes in the scene graph, so that leaks show as numbers that keep growing and slowdowns
+ * as a falling tick rate. The JavaFX toolkit must be running, as levels create images and nodes.
+ * </p>
+ */
+public class SoakRunner {
+
+    // Number of nanoseconds in one second and bytes in one mebibyte
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double BYTES_PER_MEBIBYTE = 1024.0 * 1024.0;
+
+    // Level played, the size of the screen, and the seed of the levels and the player
+    private final String levelId;
+    private final double screenHeight;
+    private final double screenWidth;
+    private final long seed;
+
+    // Whether to collect garbage before each heap sample, so samples show retained memory
+    private final boolean collectBeforeSample;
+
+    // Results of the latest run
+    private long ticksRun;
+    private int levelsPlayed;
+    private long elapsedNanos;
+    private long startHeapBytes;
+    private long endHeapBytes;
+    private double firstIntervalTicksPerSecond;
+    private double lastIntervalTicksPerSecond;
+
+    /**
+     * Constructs a {@code SoakRunner}.
+     *
+     * @param levelId the identifier of the level to play
+     * @param screenHeight the height of the game screen
+     * @param screenWidth the width of the game screen
+     * @param seed the seed of every level's randomness and of the scripted player
+     * @param collectBeforeSample {@code true} to collect garbage before each heap sample, which shows retained
+     *                            memory at the cost of the tick rate, {@code false} to sample the heap as it is
+     */
+    public SoakRunner(String levelId, double screenHeight, double screenWidth, long seed, boolean collectBeforeSample) {
+        this.levelId = levelId;
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.seed = seed;
+        this.collectBeforeSample = collectBeforeSample;
+    }
+
+    /**
+     * Runs the specified number of ticks, printing a report line at every interval and a summary at the end.
+     *
+     * @param totalTicks the number of ticks to run
+     * @param reportIntervalTicks the number of ticks between report lines
+     * @param out the stream the reports are printed to
+     * @throws IllegalArgumentException if a tick count is not positive
+     */
+    public void run(long totalTicks, long reportIntervalTicks, PrintStream out) {
+        if (totalTicks <= 0 || reportIntervalTicks <= 0) {
+            throw new IllegalArgumentException("Tick counts must be positive: " + totalTicks + ", " + reportIntervalTicks);
+        }
+        ScriptedPlayer player = new ScriptedPlayer(seed);
+        LevelParent level = startLevel();
+        levelsPlayed = 1;
+        ticksRun = 0;
+
+        System.gc(); // Start from a clean heap so that growth is measured against retained memory
+        startHeapBytes = heapUsed();
+        out.printf("Soak of %s for %,d ticks, seed %d%n", levelId, totalTicks, seed);
+        out.printf("%12s %12s %10s %10s %9s %9s %11s %11s %9s %7s%n", "tick", "ticks/s", "heap MB", "growth MB",
+                "friendly", "enemies", "user shots", "enemy shots", "pooled", "nodes");
+
+        long start = System.nanoTime();
+        long intervalStart = start;
+        while (ticksRun < totalTicks) {
+            player.act(level.getInputBus());
+            level.updateScene();
+            ticksRun++;
+            if (level.isGameOver()) {
+                level.tearDown(); // Discard the level as a transition would
+                level = startLevel();
+                levelsPlayed++;
+            }
+            if (ticksRun % reportIntervalTicks == 0 || ticksRun == totalTicks) {
+                long now = System.nanoTime();
+                long intervalTicks = ticksRun % reportIntervalTicks == 0 ? reportIntervalTicks : ticksRun % reportIntervalTicks;
+                double ticksPerSecond = intervalTicks * NANOS_PER_SECOND / Math.max(1, now - intervalStart);
+                if (ticksRun <= reportIntervalTicks) {
+                    firstIntervalTicksPerSecond = ticksPerSecond;
+                }
+                lastIntervalTicksPerSecond = ticksPerSecond;
+                report(out, level, ticksPerSecond);
+                intervalStart = System.nanoTime(); // Leave the sampling out of the next interval
+            }
+        }
+        elapsedNanos = System.nanoTime() - start;
+        level.tearDown();
+
+        System.gc();
+        endHeapBytes = heapUsed();
+        out.printf("Ran %,d ticks over %,d levels in %.1f s: %,.0f ticks/s, %.0fx real time%n", ticksRun, levelsPlayed,
+                elapsedNanos / NANOS_PER_SECOND, getTicksPerSecond(), getTicksPerSecond() / level.getGameLoop().getTickRate());
+        out.printf("Retained heap %.1f MB -> %.1f MB (%+.1f MB); tick rate first interval %,.0f/s, last %,.0f/s%n",
+                startHeapBytes / BYTES_PER_MEBIBYTE, endHeapBytes / BYTES_PER_MEBIBYTE, getHeapGrowthBytes() / BYTES_PER_MEBIBYTE,
+                firstIntervalTicksPerSecond, lastIntervalTicksPerSecond);
+    }
+
+    /**
+     * Creates a fresh copy of the level with its scene built and its randomness seeded.
+     *
+     * @return the new level
+     */
+    private LevelParent startLevel() {
+        LevelParent level = new DefinedLevel(LevelDefinitions.get(levelId), screenHeight, screenWidth, null);
+        level.setHeadless(true); // The soak restarts the level from this thread, so no UI work may be posted
+        level.initializeScene();
+        level.getRandom().reseed(seed + levelsPlayed); // A different but repeatable game each time
+        return level;
+    }
+
+    /**
+     * Prints one report line.
+     *
+     * @param out the stream to print to
+     * @param level the level being played
+     * @param ticksPerSecond the tick rate over the latest interval
+     */
+    private void report(PrintStream out, LevelParent level, double ticksPerSecond) {
+        if (collectBeforeSample) {
+            System.gc();
+        }
+        long heap = heapUsed();
+        EntityStore store = level.getWorld().getStore();
+        int pooled = ActorPools.ENEMY_PLANES.getInUseCount() + ActorPools.USER_PROJECTILES.getInUseCount()
+                + ActorPools.ENEMY_PROJECTILES.getInUseCount() + ActorPools.BOSS_PROJECTILES.getInUseCount();
+        out.printf("%,12d %,12.0f %10.1f %+10.1f %9d %9d %11d %11d %9d %7d%n", ticksRun, ticksPerSecond,
+                heap / BYTES_PER_MEBIBYTE, (heap - startHeapBytes) / BYTES_PER_MEBIBYTE,
+                store.count(EntityStore.KIND_FRIENDLY), store.count(EntityStore.KIND_ENEMY),
+                store.count(EntityStore.KIND_USER_PROJECTILE), store.count(EntityStore.KIND_ENEMY_PROJECTILE),
+                pooled, level.getRoot().getChildren().size());
+    }
+
+    /**
+     * Gets the heap memory in use.
+     *
+     * @return the used heap in bytes
+     */
+    private long heapUsed() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Gets the number of ticks run by the latest run.
+     *
+     * @return the tick count
+     */
+    public long getTicksRun() {
+        return ticksRun;
+    }
+
+    /**
+     * Gets the number of levels played by the latest run, counting restarts after a win or a loss.
+     *
+     * @return the level count
+     */
+    public int getLevelsPlayed() {
+        return levelsPlayed;
+    }
+
+    /**
+     * Gets the average simulation speed of the latest run.
+     *
+     * @return the ticks run per second of wall-clock time
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticksRun * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Gets the growth of the retained heap over the latest run, measured after collecting garbage at both ends.
+     *
+     * @return the heap growth in bytes, negative if the heap shrank
+     */
+    public long getHeapGrowthBytes() {
+        return endHeapBytes - startHeapBytes;
+    }
+}
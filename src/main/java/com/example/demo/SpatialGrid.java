@@ -0,0 +1,228 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SpatialGrid} class is a uniform-grid broad phase for collision detection.
+ * Items are identified by an integer id, such as an {@link EntityStore} slot, and are inserted with their
+ * axis-aligned bounding boxes into every cell they overlap. Queries return only the items that share a cell
+ * with the query box, so a collision pass no longer compares every pair of entities.
+ * Boxes outside the grid area are clamped to the border cells, which keeps queries correct for off-screen entities.
+ * The grid is meant to be cleared and rebuilt every tick; after warm-up it does not allocate.
+ * Once built, the grid may be queried from several threads at once, each collecting into its own {@link IntList}.
+ */
+public class SpatialGrid {
+
+    // Initial capacity of the item arrays and of each cell's index array
+    private static final int INITIAL_ITEM_CAPACITY = 64;
+    private static final int INITIAL_CELL_CAPACITY = 8;
+
+    // Grid dimensions
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    // Per-cell lists of item indices and the number of indices used in each cell
+    private final int[][] cells;
+    private final int[] cellCounts;
+
+    // Inserted item ids and their bounding boxes, stored in parallel arrays
+    private int[] items;
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int itemCount;
+
+    // Ids found by the latest query without a result list of its own
+    private final IntList results;
+
+    /**
+     * Constructs a {@code SpatialGrid} covering the specified area.
+     *
+     * @param width the width of the area covered by the grid
+     * @param height the height of the area covered by the grid
+     * @param cellSize the width and height of each grid cell
+     */
+    public SpatialGrid(double width, double height, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new int[columns * rows][INITIAL_CELL_CAPACITY];
+        this.cellCounts = new int[columns * rows];
+        this.items = new int[INITIAL_ITEM_CAPACITY];
+        this.results = new IntList();
+        this.minX = new double[INITIAL_ITEM_CAPACITY];
+        this.minY = new double[INITIAL_ITEM_CAPACITY];
+        this.maxX = new double[INITIAL_ITEM_CAPACITY];
+        this.maxY = new double[INITIAL_ITEM_CAPACITY];
+    }
+
+    /**
+     * Removes all items from the grid while keeping its storage for the next rebuild.
+     */
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+        itemCount = 0;
+    }
+
+    /**
+     * Inserts an item with the specified bounding box into every cell the box overlaps.
+     *
+     * @param item the id of the item to insert
+     * @param itemMinX the minimum X coordinate of the item's bounding box
+     * @param itemMinY the minimum Y coordinate of the item's bounding box
+     * @param itemMaxX the maximum X coordinate of the item's bounding box
+     * @param itemMaxY the maximum Y coordinate of the item's bounding box
+     */
+    public void insert(int item, double itemMinX, double itemMinY, double itemMaxX, double itemMaxY) {
+        ensureItemCapacity(itemCount + 1);
+        int index = itemCount++;
+        items[index] = item;
+        minX[index] = itemMinX;
+        minY[index] = itemMinY;
+        maxX[index] = itemMaxX;
+        maxY[index] = itemMaxY;
+
+        int firstColumn = column(itemMinX);
+        int lastColumn = column(itemMaxX);
+        int firstRow = row(itemMinY);
+        int lastRow = row(itemMaxY);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                addToCell(r * columns + c, index);
+            }
+        }
+    }
+
+    /**
+     * Collects every item whose cells overlap the specified query box.
+     * Each candidate is reported once even when it spans several cells, and only items whose bounding boxes
+     * overlap the query box are returned. The caller is still responsible for any exact narrow-phase test.
+     * The candidates are read with {@link #getResult(int)} and stay valid until the next query.
+     *
+     * @param queryMinX the minimum X coordinate of the query box
+     * @param queryMinY the minimum Y coordinate of the query box
+     * @param queryMaxX the maximum X coordinate of the query box
+     * @param queryMaxY the maximum Y coordinate of the query box
+     * @return the number of candidates found
+     */
+    public int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY) {
+        results.clear();
+        return query(queryMinX, queryMinY, queryMaxX, queryMaxY, results);
+    }
+
+    /**
+     * Collects every item whose cells overlap the specified query box into a caller-owned list, as
+     * {@link #query(double, double, double, double)} does. The grid is only read, so threads may query it
+     * concurrently as long as each uses its own list and nothing is inserted meanwhile.
+     *
+     * @param queryMinX the minimum X coordinate of the query box
+     * @param queryMinY the minimum Y coordinate of the query box
+     * @param queryMaxX the maximum X coordinate of the query box
+     * @param queryMaxY the maximum Y coordinate of the query box
+     * @param found the list the ids of the candidates are appended to
+     * @return the number of candidates found
+     */
+    public int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY, IntList found) {
+        int start = found.size();
+        int firstColumn = column(queryMinX);
+        int lastColumn = column(queryMaxX);
+        int firstRow = row(queryMinY);
+        int lastRow = row(queryMaxY);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                int cell = r * columns + c;
+                int[] indices = cells[cell];
+                for (int i = 0, n = cellCounts[cell]; i < n; i++) {
+                    int index = indices[i];
+                    if (maxX[index] < queryMinX || minX[index] > queryMaxX
+                            || maxY[index] < queryMinY || minY[index] > queryMaxY) {
+                        continue; // Boxes do not overlap
+                    }
+                    // Report the pair only from the cell holding the top-left corner of the overlap,
+                    // so an item spanning several cells is not returned twice
+                    if (column(Math.max(queryMinX, minX[index])) == c && row(Math.max(queryMinY, minY[index])) == r) {
+                        found.add(items[index]);
+                    }
+                }
+            }
+        }
+        return found.size() - start;
+    }
+
+    /**
+     * Gets a candidate found by the latest query.
+     *
+     * @param index the index of the candidate, below the count returned by the query
+     * @return the id of the candidate
+     */
+    public int getResult(int index) {
+        return results.get(index);
+    }
+
+    /**
+     * Gets the number of items currently in the grid.
+     *
+     * @return the number of inserted items
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * Converts an X coordinate to a column index, clamped to the grid.
+     *
+     * @param x the X coordinate
+     * @return the column index containing the coordinate
+     */
+    private int column(double x) {
+        int c = (int) Math.floor(x / cellSize);
+        return c < 0 ? 0 : Math.min(c, columns - 1);
+    }
+
+    /**
+     * Converts a Y coordinate to a row index, clamped to the grid.
+     *
+     * @param y the Y coordinate
+     * @return the row index containing the coordinate
+     */
+    private int row(double y) {
+        int r = (int) Math.floor(y / cellSize);
+        return r < 0 ? 0 : Math.min(r, rows - 1);
+    }
+
+    /**
+     * Appends an item index to a cell, growing the cell's index array if needed.
+     *
+     * @param cell the cell index
+     * @param index the item index
+     */
+    private void addToCell(int cell, int index) {
+        int count = cellCounts[cell];
+        if (count == cells[cell].length) {
+            cells[cell] = Arrays.copyOf(cells[cell], count * 2);
+        }
+        cells[cell][count] = index;
+        cellCounts[cell] = count + 1;
+    }
+
+    /**
+     * Grows the item arrays so that they can hold at least the specified number of items.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureItemCapacity(int capacity) {
+        if (capacity > items.length) {
+            int newCapacity = Math.max(capacity, items.length * 2);
+            items = Arrays.copyOf(items, newCapacity);
+            minX = Arrays.copyOf(minX, newCapacity);
+            minY = Arrays.copyOf(minY, newCapacity);
+            maxX = Arrays.copyOf(maxX, newCapacity);
+            maxY = Arrays.copyOf(maxY, newCapacity);
+        }
+    }
+}
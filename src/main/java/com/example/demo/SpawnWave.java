@@ -0,0 +1,110 @@
+package com.example.demo;
+
+/**
+ * The {@code SpawnWave} class is the compiled form of one wave of a {@link LevelDefinition}: from which kill count
+ * the wave is active, how many enemies it keeps on screen, how likely an enemy is to spawn in a free slot each tick,
+ * and a weighted table of the enemy types it spawns. The table is resolved to actor pools and cumulative weights
+ * when the level is compiled, so picking an enemy during play is a short scan over a primitive array.
+ */
+public final class SpawnWave {
+
+    // Kill count from which the wave is active, and its spawning limits
+    private final int fromKills;
+    private final int maxEnemies;
+    private final double spawnChance;
+
+    // Spawn table: the pool of each enemy type and the running total of the weights up to and including it
+    private final ActorPool<? extends ActiveActorDestructible>[] enemyPools;
+    private final double[] cumulativeWeights;
+
+    /**
+     * Constructs a {@code SpawnWave}.
+     *
+     * @param fromKills the kill count from which the wave is active
+     * @param maxEnemies the maximum number of enemies on screen during the wave
+     * @param spawnChance the chance per tick that an enemy spawns in each free slot
+     * @param enemyPools the pool of each enemy type in the spawn table
+     * @param weights the relative weight of each enemy type in the spawn table
+     * @throws IllegalArgumentException if a value is out of range or the table is empty
+     */
+    SpawnWave(int fromKills, int maxEnemies, double spawnChance,
+              ActorPool<? extends ActiveActorDestructible>[] enemyPools, double[] weights) {
+        if (fromKills < 0) {
+            throw new IllegalArgumentException("Wave start must not be negative: " + fromKills);
+        }
+        if (maxEnemies < 0) {
+            throw new IllegalArgumentException("Maximum enemies must not be negative: " + maxEnemies);
+        }
+        if (spawnChance < 0 || spawnChance > 1) {
+            throw new IllegalArgumentException("Spawn chance must be between 0 and 1: " + spawnChance);
+        }
+        if (enemyPools.length == 0 || enemyPools.length != weights.length) {
+            throw new IllegalArgumentException("Spawn table needs at least one enemy type with one weight each.");
+        }
+        this.fromKills = fromKills;
+        this.maxEnemies = maxEnemies;
+        this.spawnChance = spawnChance;
+        this.enemyPools = enemyPools.clone();
+        this.cumulativeWeights = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (!(weights[i] > 0)) {
+                throw new IllegalArgumentException("Spawn weight must be positive: " + weights[i]);
+            }
+            total += weights[i];
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Picks an enemy type from the spawn table according to the weights.
+     *
+     * @param roll a uniformly distributed number in {@code [0, 1)}
+     * @return the pool of the picked enemy type
+     */
+    public ActorPool<? extends ActiveActorDestructible> pickEnemy(double roll) {
+        double target = roll * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length - 1; i++) {
+            if (target < cumulativeWeights[i]) {
+                return enemyPools[i];
+            }
+        }
+        return enemyPools[enemyPools.length - 1]; // The last type takes the remainder
+    }
+
+    /**
+     * Gets the kill count from which the wave is active.
+     *
+     * @return the wave's starting kill count
+     */
+    public int getFromKills() {
+        return fromKills;
+    }
+
+    /**
+     * Gets the maximum number of enemies on screen during the wave.
+     *
+     * @return the enemy limit
+     */
+    public int getMaxEnemies() {
+        return maxEnemies;
+    }
+
+    /**
+     * Gets the chance per tick that an enemy spawns in each free slot.
+     *
+     * @return the spawn chance, between 0 and 1
+     */
+    public double getSpawnChance() {
+        return spawnChance;
+    }
+
+    /**
+     * Gets the number of enemy types in the spawn table.
+     *
+     * @return the enemy type count
+     */
+    public int getEnemyTypeCount() {
+        return enemyPools.length;
+    }
+}
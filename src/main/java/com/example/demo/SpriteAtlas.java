@@ -0,0 +1,259 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
+
+/**
+ * The {@code SpriteAtlas} class packs several sprite images into a single texture and keeps a lookup table
+ * of the region each sprite occupies. Drawing every actor from the same texture avoids texture switches on the
+ * Prism pipeline, and the source images are decoded only once, when the atlas is packed.
+ * <p>
+ * Sprites are packed at startup with a shelf packer: sorted by height, then placed left to right in rows
+ * that are as tall as their tallest sprite. A transparent gap is left between sprites so that smoothing
+ * never samples a neighbouring sprite.
+ * </p>
+ */
+public final class SpriteAtlas {
+
+    /**
+     * Sprite of the player's plane.
+     */
+    public static final String USER_PLANE = "userplane";
+
+    /**
+     * Sprite of the enemy planes.
+     */
+    public static final String ENEMY_PLANE = "enemyplane";
+
+    /**
+     * Sprite of the boss plane.
+     */
+    public static final String BOSS_PLANE = "bossplane";
+
+    /**
+     * Sprite of the player's projectiles.
+     */
+    public static final String USER_PROJECTILE = "userfire";
+
+    /**
+     * Sprite of the enemy projectiles.
+     */
+    public static final String ENEMY_PROJECTILE = "enemyFire";
+
+    /**
+     * Sprite of the boss projectiles.
+     */
+    public static final String BOSS_PROJECTILE = "fireball";
+
+    /**
+     * Sprite of a heart in the health display.
+     */
+    public static final String HEART = "heart";
+
+    /**
+     * Sprite of the boss shield.
+     */
+    public static final String SHIELD = "shield";
+
+    // Directory holding the sprite images, and the sprite names and files packed into the default atlas
+    private static final String IMAGE_DIRECTORY = "/com/example/demo/images/";
+    private static final String[][] DEFAULT_SPRITES = {
+        {USER_PLANE, "userplane.png"},
+        {ENEMY_PLANE, "enemyplane.png"},
+        {BOSS_PLANE, "bossplane.png"},
+        {USER_PROJECTILE, "userfire.png"},
+        {ENEMY_PROJECTILE, "enemyFire.png"},
+        {BOSS_PROJECTILE, "fireball.png"},
+        {HEART, "heart.png"},
+        {SHIELD, "shield.png"}
+    };
+
+    // Width of the default atlas and the gap left between sprites, in pixels
+    private static final int DEFAULT_ATLAS_WIDTH = 2048;
+    private static final int PADDING = 2;
+
+    // Smallest alpha of a pixel counted in the opaque bounds of a sprite, half opaque
+    private static final int OPAQUE_ALPHA = 128;
+
+    // Atlas shared by every actor and view, packed on first use
+    private static SpriteAtlas defaultAtlas;
+
+    // Packed texture and the region of each sprite inside it
+    private final Image image;
+    private final Map<String, SpriteRegion> regions;
+
+    /**
+     * Constructs a {@code SpriteAtlas} from a packed texture and its regions.
+     *
+     * @param image the packed texture
+     * @param regions the regions keyed by sprite name
+     */
+    private SpriteAtlas(Image image, Map<String, SpriteRegion> regions) {
+        this.image = image;
+        this.regions = Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     * Gets the atlas holding every game sprite, packing it on the first call.
+     *
+     * @return the default atlas
+     * @throws IllegalArgumentException if a sprite image cannot be found on the classpath
+     */
+    public static synchronized SpriteAtlas getDefault() {
+        if (defaultAtlas == null) {
+            String[] names = new String[DEFAULT_SPRITES.length];
+            String[] resourcePaths = new String[DEFAULT_SPRITES.length];
+            for (int i = 0; i < DEFAULT_SPRITES.length; i++) {
+                names[i] = DEFAULT_SPRITES[i][0];
+                resourcePaths[i] = IMAGE_DIRECTORY + DEFAULT_SPRITES[i][1];
+            }
+            defaultAtlas = pack(DEFAULT_ATLAS_WIDTH, names, resourcePaths);
+        }
+        return defaultAtlas;
+    }
+
+    /**
+     * Packs the specified images into a new atlas. Each image is decoded through the {@link SpriteCache}
+     * and evicted from it once its pixels have been copied, so only the atlas stays in memory.
+     *
+     * @param atlasWidth the width of the atlas texture
+     * @param names the sprite names, one per image
+     * @param resourcePaths the absolute classpath resource paths of the images
+     * @return the packed atlas
+     * @throws IllegalArgumentException if an image cannot be found or is wider than the atlas
+     */
+    public static SpriteAtlas pack(int atlasWidth, String[] names, String[] resourcePaths) {
+        if (names.length != resourcePaths.length) {
+            throw new IllegalArgumentException("Every sprite needs exactly one image.");
+        }
+
+        // Decode the images, tallest first
+        List<Integer> order = new ArrayList<>();
+        Image[] images = new Image[names.length];
+        for (int i = 0; i < names.length; i++) {
+            images[i] = SpriteCache.getImage(resourcePaths[i]);
+            if (images[i].getWidth() > atlasWidth) {
+                throw new IllegalArgumentException("Sprite " + names[i] + " is wider than the atlas: " + images[i].getWidth());
+            }
+            order.add(i);
+        }
+        order.sort((a, b) -> Double.compare(images[b].getHeight(), images[a].getHeight()));
+
+        // Place the images on shelves
+        int[] xs = new int[names.length];
+        int[] ys = new int[names.length];
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (int i : order) {
+            int width = (int) images[i].getWidth();
+            int height = (int) images[i].getHeight();
+            if (shelfX + width > atlasWidth) { // Start a new shelf below the current one
+                shelfY += shelfHeight + PADDING;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            xs[i] = shelfX;
+            ys[i] = shelfY;
+            shelfX += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+        int atlasHeight = Math.max(1, shelfY + shelfHeight);
+
+        // Copy the pixels and record the regions
+        WritableImage atlas = new WritableImage(atlasWidth, atlasHeight);
+        PixelWriter writer = atlas.getPixelWriter();
+        Map<String, SpriteRegion> regions = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            int width = (int) images[i].getWidth();
+            int height = (int) images[i].getHeight();
+            PixelReader reader = images[i].getPixelReader();
+            if (reader != null) {
+                writer.setPixels(xs[i], ys[i], width, height, reader, 0, 0);
+                regions.put(names[i], trim(names[i], xs[i], ys[i], width, height, reader));
+            } else {
+                System.err.println("Sprite " + names[i] + " has no readable pixels and is left blank in the atlas.");
+                regions.put(names[i], new SpriteRegion(names[i], xs[i], ys[i], width, height));
+            }
+            SpriteCache.evict(resourcePaths[i]); // The atlas now holds the pixels
+        }
+        return new SpriteAtlas(atlas, regions);
+    }
+
+    /**
+     * Creates the region of a sprite with its opaque bounds, the smallest rectangle holding every pixel
+     * with an alpha of at least {@code OPAQUE_ALPHA}. A sprite without such pixels keeps its whole area.
+     *
+     * @param name the name of the sprite
+     * @param x the X position of the sprite inside the atlas
+     * @param y the Y position of the sprite inside the atlas
+     * @param width the width of the sprite
+     * @param height the height of the sprite
+     * @param reader the reader of the sprite's own image
+     * @return the region of the sprite
+     */
+    private static SpriteRegion trim(String name, int x, int y, int width, int height, PixelReader reader) {
+        int[] pixels = new int[width * height];
+        reader.getPixels(0, 0, width, height, WritablePixelFormat.getIntArgbInstance(), pixels, 0, width);
+        int minX = width;
+        int minY = height;
+        int maxX = -1;
+        int maxY = -1;
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                if (pixels[row * width + column] >>> 24 >= OPAQUE_ALPHA) {
+                    minX = Math.min(minX, column);
+                    maxX = Math.max(maxX, column);
+                    minY = Math.min(minY, row);
+                    maxY = Math.max(maxY, row);
+                }
+            }
+        }
+        if (maxX < 0) {
+            return new SpriteRegion(name, x, y, width, height); // Nothing opaque, so keep the whole area
+        }
+        return new SpriteRegion(name, x, y, width, height, minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    /**
+     * Gets the region of a sprite.
+     *
+     * @param name the name of the sprite
+     * @return the region the sprite occupies in the atlas
+     * @throws IllegalArgumentException if the atlas holds no sprite with the name
+     */
+    public SpriteRegion getRegion(String name) {
+        SpriteRegion region = regions.get(name);
+        if (region == null) {
+            throw new IllegalArgumentException("Sprite not found in atlas: " + name);
+        }
+        return region;
+    }
+
+    /**
+     * Gets the packed texture.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the number of sprites in the atlas.
+     *
+     * @return the sprite count
+     */
+    public int getRegionCount() {
+        return regions.size();
+    }
+}
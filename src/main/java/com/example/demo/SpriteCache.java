@@ -0,0 +1,140 @@
+package com.example.demo;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.scene.image.Image;
+
+/**
+ * The {@code SpriteCache} class is a process-wide cache of decoded {@link Image} objects keyed by resource path.
+ * Each image is decoded once and the same {@code Image} instance is shared by every actor and view that uses it,
+ * so spawning planes and projectiles no longer decodes a PNG on the JavaFX thread.
+ */
+public final class SpriteCache {
+
+    // Decoded images keyed by their absolute resource path
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    // Counters for cache lookups that were served from the cache or required a decode
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SpriteCache() {
+    }
+
+    /**
+     * Returns the decoded image for the specified resource path, decoding and caching it on the first request.
+     *
+     * @param resourcePath the absolute classpath resource path of the image (e.g. {@code /com/example/demo/images/heart.png})
+     * @return the shared {@code Image} for the resource
+     * @throws IllegalArgumentException if the resource cannot be found on the classpath
+     */
+    public static Image getImage(String resourcePath) {
+        Image image = IMAGES.get(resourcePath);
+        if (image != null) {
+            HITS.incrementAndGet();
+            return image;
+        }
+        return IMAGES.computeIfAbsent(resourcePath, path -> {
+            MISSES.incrementAndGet();
+            return decode(path);
+        });
+    }
+
+    /**
+     * Decodes the specified images ahead of time so that later lookups are served from the cache.
+     *
+     * @param resourcePaths the absolute classpath resource paths of the images to preload
+     */
+    public static void preload(String... resourcePaths) {
+        for (String resourcePath : resourcePaths) {
+            try {
+                IMAGES.computeIfAbsent(resourcePath, SpriteCache::decode);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Failed to preload image: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes the specified image from the cache so that its memory can be reclaimed.
+     *
+     * @param resourcePath the absolute classpath resource path of the image to evict
+     * @return {@code true} if an image was evicted, otherwise {@code false}
+     */
+    public static boolean evict(String resourcePath) {
+        return IMAGES.remove(resourcePath) != null;
+    }
+
+    /**
+     * Removes every image from the cache.
+     */
+    public static void evictAll() {
+        IMAGES.clear();
+    }
+
+    /**
+     * Checks whether the specified image is currently cached.
+     *
+     * @param resourcePath the absolute classpath resource path of the image
+     * @return {@code true} if the image is cached, otherwise {@code false}
+     */
+    public static boolean isCached(String resourcePath) {
+        return IMAGES.containsKey(resourcePath);
+    }
+
+    /**
+     * Gets the number of images currently held by the cache.
+     *
+     * @return the number of cached images
+     */
+    public static int size() {
+        return IMAGES.size();
+    }
+
+    /**
+     * Gets the number of lookups that were served from the cache.
+     *
+     * @return the cache hit count
+     */
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of lookups that required the image to be decoded.
+     *
+     * @return the cache miss count
+     */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    /**
+     * Resets the hit and miss counters to zero.
+     */
+    public static void resetStatistics() {
+        HITS.set(0);
+        MISSES.set(0);
+    }
+
+    /**
+     * Decodes the image found at the specified resource path.
+     *
+     * @param resourcePath the absolute classpath resource path of the image
+     * @return the decoded {@code Image}
+     * @throws IllegalArgumentException if the resource cannot be found on the classpath
+     */
+    private static Image decode(String resourcePath) {
+        URL url = SpriteCache.class.getResource(resourcePath);
+        if (url == null) {
+            throw new IllegalArgumentException("Image not found: " + resourcePath);
+        }
+        return new Image(url.toExternalForm());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo;
+
+import javafx.geometry.Rectangle2D;
+
+/**
+ * The {@code SpriteRegion} class describes where a single sprite lies inside a {@link SpriteAtlas} texture.
+ * Views show the region by using the atlas image with the region as their viewport, and the canvas renderer
+ * copies the region directly with {@code drawImage}.
+ * <p>
+ * The region also records the opaque bounds of the sprite: the smallest rectangle holding every pixel that is
+ * at least half opaque, found once when the atlas is packed. Actors use it as their hitbox, so the transparent
+ * padding around the art does not count as a hit.
+ * </p>
+ */
+public final class SpriteRegion {
+
+    // Name of the sprite
+    private final String name;
+
+    // Position and size of the sprite inside the atlas, in pixels
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    // Opaque bounds of the sprite, relative to its top-left corner, in pixels
+    private final int opaqueX;
+    private final int opaqueY;
+    private final int opaqueWidth;
+    private final int opaqueHeight;
+
+    // The same rectangle as a viewport, created once and shared
+    private final Rectangle2D viewport;
+
+    /**
+     * Constructs a {@code SpriteRegion} whose whole area is opaque.
+     *
+     * @param name the name of the sprite
+     * @param x the X position of the sprite inside the atlas
+     * @param y the Y position of the sprite inside the atlas
+     * @param width the width of the sprite
+     * @param height the height of the sprite
+     */
+    SpriteRegion(String name, int x, int y, int width, int height) {
+        this(name, x, y, width, height, 0, 0, width, height);
+    }
+
+    /**
+     * Constructs a {@code SpriteRegion}.
+     *
+     * @param name the name of the sprite
+     * @param x the X position of the sprite inside the atlas
+     * @param y the Y position of the sprite inside the atlas
+     * @param width the width of the sprite
+     * @param height the height of the sprite
+     * @param opaqueX the X position of the opaque bounds, relative to the sprite
+     * @param opaqueY the Y position of the opaque bounds, relative to the sprite
+     * @param opaqueWidth the width of the opaque bounds
+     * @param opaqueHeight the height of the opaque bounds
+     */
+    SpriteRegion(String name, int x, int y, int width, int height,
+                 int opaqueX, int opaqueY, int opaqueWidth, int opaqueHeight) {
+        this.name = name;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.opaqueX = opaqueX;
+        this.opaqueY = opaqueY;
+        this.opaqueWidth = opaqueWidth;
+        this.opaqueHeight = opaqueHeight;
+        this.viewport = new Rectangle2D(x, y, width, height);
+    }
+
+    /**
+     * Gets the name of the sprite.
+     *
+     * @return the sprite name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the X position of the sprite inside the atlas.
+     *
+     * @return the X position in pixels
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y position of the sprite inside the atlas.
+     *
+     * @return the Y position in pixels
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the width of the sprite.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the sprite.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the X position of the opaque bounds of the sprite.
+     *
+     * @return the X position relative to the sprite's left edge, in pixels
+     */
+    public int getOpaqueX() {
+        return opaqueX;
+    }
+
+    /**
+     * Gets the Y position of the opaque bounds of the sprite.
+     *
+     * @return the Y position relative to the sprite's top edge, in pixels
+     */
+    public int getOpaqueY() {
+        return opaqueY;
+    }
+
+    /**
+     * Gets the width of the opaque bounds of the sprite.
+     *
+     * @return the width in pixels
+     */
+    public int getOpaqueWidth() {
+        return opaqueWidth;
+    }
+
+    /**
+     * Gets the height of the opaque bounds of the sprite.
+     *
+     * @return the height in pixels
+     */
+    public int getOpaqueHeight() {
+        return opaqueHeight;
+    }
+
+    /**
+     * Gets the region as a viewport for an {@code ImageView} showing the atlas.
+     *
+     * @return the viewport rectangle
+     */
+    public Rectangle2D getViewport() {
+        return viewport;
+    }
+}
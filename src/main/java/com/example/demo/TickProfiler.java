@@ -0,0 +1,298 @@
+package com.example.demo;
+
+/**
+ * The {@code TickProfiler} class records how long each phase of a simulation tick takes, together with the number
+ * of entities of each kind at the end of the tick. Timings are kept in {@link RingBufferHistogram}s covering the most
+ * recent ticks, so recording never allocates and the profiler can stay enabled in production builds.
+ * <p>
+ * Phases are timed as laps: {@link #beginTick()} starts the clock and every {@link #endPhase(int)} records the time
+ * since the previous lap, so each phase costs a single {@link System#nanoTime()} call.
+ * Ticks whose total time exceeds the budget are counted as overruns.
+ * </p>
+ */
+public class TickProfiler {
+
+    /**
+     * Phase spawning new enemies.
+     */
+    public static final int PHASE_SPAWN = 0;
+
+    /**
+     * Phase updating every actor.
+     */
+    public static final int PHASE_UPDATE_ACTORS = 1;
+
+    /**
+     * Phase moving every body by its velocity.
+     */
+    public static final int PHASE_INTEGRATE = 2;
+
+    /**
+     * Phase handling collisions between user projectiles and enemies.
+     */
+    public static final int PHASE_USER_PROJECTILE_COLLISIONS = 3;
+
+    /**
+     * Phase handling collisions between enemy projectiles and friendly units.
+     */
+    public static final int PHASE_ENEMY_PROJECTILE_COLLISIONS = 4;
+
+    /**
+     * Phase handling collisions between friendly units and enemies.
+     */
+    public static final int PHASE_PLANE_COLLISIONS = 5;
+
+    /**
+     * Phase handling enemies that got past the player's defenses.
+     */
+    public static final int PHASE_ENEMY_PENETRATION = 6;
+
+    /**
+     * Phase retiring off-screen and expired projectiles.
+     */
+    public static final int PHASE_RETIRE_PROJECTILES = 7;
+
+    /**
+     * Phase removing destroyed bodies from the world.
+     */
+    public static final int PHASE_REMOVE_BODIES = 8;
+
+    /**
+     * Phase removing destroyed actors from the actor lists and the scene graph.
+     */
+    public static final int PHASE_REMOVE_ACTORS = 9;
+
+    /**
+     * Phase updating the kill count.
+     */
+    public static final int PHASE_KILL_COUNT = 10;
+
+    /**
+     * Phase updating the level view.
+     */
+    public static final int PHASE_VIEW_UPDATE = 11;
+
+    /**
+     * Phase checking whether the game is over.
+     */
+    public static final int PHASE_GAME_OVER_CHECK = 12;
+
+    /**
+     * Phase running the timers due this tick.
+     */
+    public static final int PHASE_TIMERS = 13;
+
+    /**
+     * Number of phases.
+     */
+    public static final int PHASE_COUNT = 14;
+
+    // Display names of the phases, indexed by phase
+    private static final String[] PHASE_NAMES = {
+        "spawn", "updateActors", "integrate", "collisions (user projectiles)", "collisions (enemy projectiles)",
+        "collisions (planes)", "enemyPenetration", "retireProjectiles", "removeBodies", "removeActors",
+        "killCount", "viewUpdate", "gameOverCheck", "timers"
+    };
+
+    // Number of entity kinds tracked per tick
+    private static final int KIND_COUNT = 4;
+
+    // Timing and entity count histograms
+    private final RingBufferHistogram[] phaseHistograms;
+    private final RingBufferHistogram tickHistogram;
+    private final RingBufferHistogram[] entityHistograms;
+
+    // Total time a tick may take before it is counted as an overrun
+    private final long budgetNanos;
+
+    // Recording state
+    private boolean enabled = true;
+    private boolean inTick;
+    private long tickStartNanos;
+    private long lapStartNanos;
+
+    // Tick statistics
+    private long tickCount;
+    private long overrunCount;
+
+    /**
+     * Constructs a {@code TickProfiler}.
+     *
+     * @param windowSize the number of recent ticks kept in each histogram
+     * @param budgetNanos the time a tick may take before it is counted as an overrun, in nanoseconds
+     */
+    public TickProfiler(int windowSize, long budgetNanos) {
+        this.phaseHistograms = new RingBufferHistogram[PHASE_COUNT];
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseHistograms[i] = new RingBufferHistogram(windowSize);
+        }
+        this.tickHistogram = new RingBufferHistogram(windowSize);
+        this.entityHistograms = new RingBufferHistogram[KIND_COUNT];
+        for (int i = 0; i < KIND_COUNT; i++) {
+            entityHistograms[i] = new RingBufferHistogram(windowSize);
+        }
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Starts timing a tick.
+     */
+    public void beginTick() {
+        if (!enabled) return;
+        inTick = true;
+        tickStartNanos = System.nanoTime();
+        lapStartNanos = tickStartNanos;
+    }
+
+    /**
+     * Records the time since the previous lap as the duration of a phase.
+     *
+     * @param phase the phase that just finished
+     */
+    public void endPhase(int phase) {
+        if (!inTick) return; // Not timing a tick
+        long now = System.nanoTime();
+        phaseHistograms[phase].record(now - lapStartNanos);
+        lapStartNanos = now;
+    }
+
+    /**
+     * Finishes timing a tick, recording its total time and the number of entities of each kind in a store.
+     *
+     * @param store the store whose entities are counted
+     */
+    public void endTick(EntityStore store) {
+        if (!inTick) return; // Not timing a tick
+        long tickNanos = System.nanoTime() - tickStartNanos;
+        tickHistogram.record(tickNanos);
+        for (int i = 0; i < KIND_COUNT; i++) {
+            entityHistograms[i].record(store.count((byte) i));
+        }
+        tickCount++;
+        if (tickNanos > budgetNanos) {
+            overrunCount++;
+        }
+        inTick = false;
+    }
+
+    /**
+     * Checks whether a tick is being timed.
+     *
+     * @return {@code true} between {@link #beginTick()} and {@link #endTick(EntityStore)}, otherwise {@code false}
+     */
+    public boolean isInTick() {
+        return inTick;
+    }
+
+    /**
+     * Enables or disables recording. While disabled, ticks and phases are not timed.
+     *
+     * @param enabled {@code true} to record timings, {@code false} to stop recording
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            inTick = false;
+        }
+    }
+
+    /**
+     * Checks whether recording is enabled.
+     *
+     * @return {@code true} if timings are recorded, otherwise {@code false}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Captures the current statistics.
+     *
+     * @return an immutable snapshot of the profiler's statistics
+     */
+    public ProfilerSnapshot snapshot() {
+        return new ProfilerSnapshot(this);
+    }
+
+    /**
+     * Discards every recorded timing and count.
+     */
+    public void reset() {
+        for (RingBufferHistogram histogram : phaseHistograms) {
+            histogram.clear();
+        }
+        tickHistogram.clear();
+        for (RingBufferHistogram histogram : entityHistograms) {
+            histogram.clear();
+        }
+        tickCount = 0;
+        overrunCount = 0;
+        inTick = false;
+    }
+
+    /**
+     * Gets the histogram of a phase's durations.
+     *
+     * @param phase the phase
+     * @return the histogram of the phase's durations in nanoseconds
+     */
+    public RingBufferHistogram getPhaseHistogram(int phase) {
+        return phaseHistograms[phase];
+    }
+
+    /**
+     * Gets the histogram of total tick durations.
+     *
+     * @return the histogram of tick durations in nanoseconds
+     */
+    public RingBufferHistogram getTickHistogram() {
+        return tickHistogram;
+    }
+
+    /**
+     * Gets the histogram of the number of entities of a kind at the end of each tick.
+     *
+     * @param entityKind the kind of entity, one of the {@link EntityStore} kinds
+     * @return the histogram of entity counts
+     */
+    public RingBufferHistogram getEntityHistogram(byte entityKind) {
+        return entityHistograms[entityKind];
+    }
+
+    /**
+     * Gets the time a tick may take before it is counted as an overrun.
+     *
+     * @return the tick budget in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Gets the number of ticks timed so far.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the number of ticks that took longer than the budget.
+     *
+     * @return the overrun count
+     */
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+
+    /**
+     * Gets the display name of a phase.
+     *
+     * @param phase the phase
+     * @return the name of the phase
+     */
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo;
+
+/**
+ * The {@code TimerCallback} interface is the action run by a {@link TimingWheel} when a timer expires.
+ * Owners create their callbacks once, typically as method references held in fields, and schedule the same
+ * callback again whenever they need it, so that scheduling a timer does not allocate.
+ */
+@FunctionalInterface
+public interface TimerCallback {
+
+    /**
+     * Runs the action of the expired timer, on the simulation thread during the tick the timer expired on.
+     */
+    void onTimer();
+}
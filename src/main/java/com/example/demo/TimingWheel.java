@@ -0,0 +1,306 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code TimingWheel} class schedules callbacks a number of simulation ticks ahead, so that cooldowns and timed
+ * events follow the simulation rather than the wall clock: they pause with the game, and stretch or shrink with slow
+ * motion, fast-forward and headless runs.
+ * <p>
+ * Timers are kept in a hierarchical timing wheel. The first wheel has one slot per tick for the next
+ * {@value #SLOTS_PER_TICK_WHEEL} ticks; each of the three coarser wheels has {@value #SLOTS_PER_WHEEL} slots, each
+ * covering a whole turn of the wheel below it. A timer goes into the finest wheel that reaches its expiry, and is
+ * moved down a wheel each time the wheel below completes a turn and reaches its slot. Scheduling and cancelling are
+ * therefore O(1), and a tick only visits the timers that expire on it plus, once per turn of a wheel, the timers
+ * moving down from the wheel above; the number of pending timers does not matter.
+ * </p>
+ * <p>
+ * Timers live in primitive arrays linked into per-slot lists and are reused once expired or cancelled, so scheduling
+ * does not allocate once the arrays have grown. A timer is identified by a handle that includes a generation number,
+ * so a handle kept after its timer expired never cancels a newer timer reusing the same entry.
+ * </p>
+ */
+public class TimingWheel {
+
+    /**
+     * Handle that never identifies a pending timer, for owners to mark that they have none.
+     */
+    public static final long NO_TIMER = -1;
+
+    /**
+     * Longest delay a timer can be scheduled with, in ticks.
+     */
+    public static final int MAX_DELAY_TICKS = (1 << 26) - 1;
+
+    // Number of slots of the finest wheel, one per tick, and of each coarser wheel
+    private static final int SLOTS_PER_TICK_WHEEL = 256;
+    private static final int SLOTS_PER_WHEEL = 64;
+
+    // Bits of the tick number covered by each wheel
+    private static final int TICK_WHEEL_BITS = 8;
+    private static final int WHEEL_BITS = 6;
+    private static final int COARSE_WHEEL_COUNT = 3;
+
+    // Index of the first slot of each coarse wheel in the slot heads, and of the list of timers being fired
+    private static final int COARSE_WHEELS_START = SLOTS_PER_TICK_WHEEL;
+    private static final int DUE_LIST = SLOTS_PER_TICK_WHEEL + COARSE_WHEEL_COUNT * SLOTS_PER_WHEEL;
+
+    // Marks the end of a list
+    private static final int NONE = -1;
+
+    // Initial number of timer entries
+    private static final int INITIAL_CAPACITY = 64;
+
+    // First entry of each slot's list, followed by the list of timers being fired
+    private final int[] heads;
+
+    // Timer entries: expiry tick, callback, list links, list the entry is in, and generation
+    private long[] expiry;
+    private TimerCallback[] callbacks;
+    private int[] next;
+    private int[] previous;
+    private int[] list;
+    private int[] generation;
+
+    // First entry of the list of free entries, and number of entries in use
+    private int free;
+    private int pendingCount;
+
+    // Number of ticks run so far
+    private long tick;
+
+    /**
+     * Constructs an empty {@code TimingWheel} at tick zero.
+     */
+    public TimingWheel() {
+        this.heads = new int[DUE_LIST + 1];
+        Arrays.fill(heads, NONE);
+        this.expiry = new long[0];
+        this.callbacks = new TimerCallback[0];
+        this.next = new int[0];
+        this.previous = new int[0];
+        this.list = new int[0];
+        this.generation = new int[0];
+        this.free = NONE;
+        grow(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Schedules a callback to run a number of ticks from now. A delay of one runs it during the next tick.
+     *
+     * @param delayTicks the number of ticks to wait, from 1 to {@link #MAX_DELAY_TICKS}
+     * @param callback the callback to run
+     * @return the handle of the timer, for {@link #cancel(long)}
+     * @throws IllegalArgumentException if the delay is out of range
+     */
+    public long schedule(int delayTicks, TimerCallback callback) {
+        if (delayTicks < 1 || delayTicks > MAX_DELAY_TICKS) {
+            throw new IllegalArgumentException("Timer delay must be between 1 and " + MAX_DELAY_TICKS + " ticks: " + delayTicks);
+        }
+        if (free == NONE) {
+            grow(expiry.length * 2);
+        }
+        int entry = free;
+        free = next[entry];
+        expiry[entry] = tick + delayTicks;
+        callbacks[entry] = callback;
+        pendingCount++;
+        insert(entry);
+        return ((long) generation[entry] << 32) | entry;
+    }
+
+    /**
+     * Cancels a pending timer. Cancelling a timer that has already run or been cancelled does nothing.
+     *
+     * @param handle the handle returned when the timer was scheduled
+     * @return {@code true} if the timer was pending and is now cancelled, otherwise {@code false}
+     */
+    public boolean cancel(long handle) {
+        if (!isPending(handle)) {
+            return false;
+        }
+        int entry = (int) handle;
+        unlink(entry);
+        release(entry);
+        return true;
+    }
+
+    /**
+     * Checks whether a timer is still waiting to run.
+     *
+     * @param handle the handle returned when the timer was scheduled
+     * @return {@code true} if the timer is pending, otherwise {@code false}
+     */
+    public boolean isPending(long handle) {
+        int entry = (int) handle;
+        return handle != NO_TIMER && entry >= 0 && entry < generation.length
+                && generation[entry] == (int) (handle >>> 32) && list[entry] != NONE;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs the callbacks of the timers expiring on it, in no particular order.
+     * Callbacks may schedule and cancel timers, including the other timers expiring on the same tick.
+     */
+    public void advance() {
+        tick++;
+        int slot = (int) (tick & (SLOTS_PER_TICK_WHEEL - 1));
+        if (slot == 0) { // The finest wheel starts a new turn, so bring down the timers of the next turn
+            for (int wheel = 0; wheel < COARSE_WHEEL_COUNT; wheel++) {
+                int coarseSlot = (int) ((tick >>> (TICK_WHEEL_BITS + wheel * WHEEL_BITS)) & (SLOTS_PER_WHEEL - 1));
+                cascade(COARSE_WHEELS_START + wheel * SLOTS_PER_WHEEL + coarseSlot);
+                if (coarseSlot != 0) {
+                    break; // This wheel has not completed a turn, so the wheels above it stay put
+                }
+            }
+        }
+
+        // Move the expiring timers aside, so that callbacks can change the slot while they are fired
+        heads[DUE_LIST] = heads[slot];
+        heads[slot] = NONE;
+        for (int entry = heads[DUE_LIST]; entry != NONE; entry = next[entry]) {
+            list[entry] = DUE_LIST;
+        }
+        while (heads[DUE_LIST] != NONE) {
+            int entry = heads[DUE_LIST];
+            TimerCallback callback = callbacks[entry];
+            unlink(entry);
+            release(entry);
+            callback.onTimer();
+        }
+    }
+
+    /**
+     * Cancels every pending timer, keeping the tick count.
+     */
+    public void clear() {
+        for (int entry = 0; entry < list.length; entry++) {
+            if (list[entry] != NONE) {
+                unlink(entry);
+                release(entry);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     *
+     * @return the current tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of timers waiting to run.
+     *
+     * @return the pending timer count
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Puts a timer into the slot of the finest wheel that reaches its expiry.
+     *
+     * @param entry the timer entry
+     */
+    private void insert(int entry) {
+        long when = expiry[entry];
+        long delta = when - tick;
+        int slot;
+        if (delta < SLOTS_PER_TICK_WHEEL) {
+            slot = (int) (when & (SLOTS_PER_TICK_WHEEL - 1));
+        } else {
+            int wheel = 0;
+            int shift = TICK_WHEEL_BITS;
+            while (wheel < COARSE_WHEEL_COUNT - 1 && delta >= 1L << (shift + WHEEL_BITS)) {
+                wheel++;
+                shift += WHEEL_BITS;
+            }
+            slot = COARSE_WHEELS_START + wheel * SLOTS_PER_WHEEL + (int) ((when >>> shift) & (SLOTS_PER_WHEEL - 1));
+        }
+        link(entry, slot);
+    }
+
+    /**
+     * Moves every timer of a coarse slot down to the wheels below.
+     *
+     * @param slot the index of the slot in the slot heads
+     */
+    private void cascade(int slot) {
+        int entry = heads[slot];
+        heads[slot] = NONE;
+        while (entry != NONE) {
+            int following = next[entry];
+            insert(entry);
+            entry = following;
+        }
+    }
+
+    /**
+     * Adds an entry at the head of a list.
+     *
+     * @param entry the entry
+     * @param slot the list to add it to
+     */
+    private void link(int entry, int slot) {
+        int head = heads[slot];
+        next[entry] = head;
+        previous[entry] = NONE;
+        if (head != NONE) {
+            previous[head] = entry;
+        }
+        heads[slot] = entry;
+        list[entry] = slot;
+    }
+
+    /**
+     * Removes an entry from its list.
+     *
+     * @param entry the entry
+     */
+    private void unlink(int entry) {
+        if (previous[entry] != NONE) {
+            next[previous[entry]] = next[entry];
+        } else {
+            heads[list[entry]] = next[entry];
+        }
+        if (next[entry] != NONE) {
+            previous[next[entry]] = previous[entry];
+        }
+    }
+
+    /**
+     * Returns an unlinked entry to the free list, invalidating its handles.
+     *
+     * @param entry the entry
+     */
+    private void release(int entry) {
+        list[entry] = NONE;
+        callbacks[entry] = null;
+        generation[entry]++;
+        next[entry] = free;
+        free = entry;
+        pendingCount--;
+    }
+
+    /**
+     * Grows the entry arrays, adding the new entries to the free list.
+     *
+     * @param capacity the new number of entries
+     */
+    private void grow(int capacity) {
+        int oldCapacity = expiry.length;
+        expiry = Arrays.copyOf(expiry, capacity);
+        callbacks = Arrays.copyOf(callbacks, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        list = Arrays.copyOf(list, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+        for (int entry = capacity - 1; entry >= oldCapacity; entry--) {
+            list[entry] = NONE;
+            next[entry] = free;
+            free = entry;
+        }
+    }
+}
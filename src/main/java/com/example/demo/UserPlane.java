@@ -1,9 +1,12 @@
 package com.example.demo;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
 public class UserPlane extends FighterPlane {
 
     // Image name for the user plane
-    private static final String IMAGE_NAME = "userplane.png";
+    private static final String SPRITE_NAME = SpriteAtlas.USER_PLANE;
     
     // Upper and lower bounds for the Y position of the user plane
     private static final double Y_UPPER_BOUND = -40;
@@ -13,9 +16,9 @@ public class UserPlane extends FighterPlane {
     private static final double INITIAL_X_POSITION = 5.0;
     private static final double INITIAL_Y_POSITION = 300.0;
     
-    // Image height and velocity for the user plane
+    // Image height and vertical velocity (in pixels per second) for the user plane
     private static final int IMAGE_HEIGHT = 150;
-    private static final int VERTICAL_VELOCITY = 8;
+    private static final double VERTICAL_VELOCITY = 160;
     
     // X and Y position offsets for the projectile fired by the user plane
     private static final int PROJECTILE_X_POSITION = 110;
@@ -24,14 +27,14 @@ public class UserPlane extends FighterPlane {
     // Instance variables for the user's velocity multiplier, kill count, and number of kills
     private int velocityMultiplier;
     private int numberOfKills;
-    private int killCount = 0;
+    private final ReadOnlyIntegerWrapper killCount = new ReadOnlyIntegerWrapper(this, "killCount", 0);
 
     /**
      * Method to increment the kill count by one.
      * This method increases the user's kill count each time it is called.
      */
     public void incrementKillCount() {
-        killCount++;
+        killCount.set(killCount.get() + 1);
     }
 
     /**
@@ -40,7 +43,16 @@ public class UserPlane extends FighterPlane {
      * @return The current kill count.
      */
     public int getKillCount() {
-        return killCount;
+        return killCount.get();
+    }
+
+    /**
+     * Method to retrieve the observable kill count, which views listen to instead of polling it.
+     * 
+     * @return The read-only kill count property.
+     */
+    public ReadOnlyIntegerProperty killCountProperty() {
+        return killCount.getReadOnlyProperty();
     }
 
     /**
@@ -50,28 +62,20 @@ public class UserPlane extends FighterPlane {
      * @param initialHealth The initial health of the user plane.
      */
     public UserPlane(int initialHealth) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+        super(SPRITE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
         velocityMultiplier = 0;  // Initially, the user plane is not moving
+        getBody().setVerticalLimits(Y_UPPER_BOUND, Y_LOWER_BOUND); // Keep the plane within the screen
         numberOfKills = 0;       // Initialize the number of kills to 0
     }
 
     /**
-     * Method to update the position of the user plane based on movement.
-     * If the plane is moving, it adjusts its Y position based on the vertical velocity.
-     * If the plane goes out of bounds, it reverts to its previous position.
+     * Method to update the movement of the user plane.
+     * If the plane is moving, its vertical velocity is set based on the velocity multiplier.
+     * Movement that would take the plane out of bounds is discarded by the plane's body.
      */
     @Override
     public void updatePosition() {
-        if (isMoving()) {
-            double initialTranslateY = getTranslateY();
-            moveVertically(VERTICAL_VELOCITY * velocityMultiplier);  // Move vertically based on velocity multiplier
-            double newPosition = getLayoutY() + getTranslateY();
-            
-            // If the new position is out of bounds, revert the position
-            if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
-                setTranslateY(initialTranslateY);
-            }
-        }
+        setVelocity(0, isMoving() ? VERTICAL_VELOCITY * velocityMultiplier : 0);  // Move vertically based on velocity multiplier
     }
 
     /**
@@ -85,14 +89,15 @@ public class UserPlane extends FighterPlane {
 
     /**
      * Method to fire a projectile from the user plane.
-     * This method creates and returns a new projectile based on the user's current position.
+     * This method acquires a projectile from the shared pool and places it based on the user's current position.
      * 
+     * @param random The level's source of randomness, unused as the user fires on command.
      * @return A new instance of a projectile fired by the user plane.
      */
     @Override
-    public ActiveActorDestructible fireProjectile() {
-        // Create and return a new projectile based on the user's position
-        return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+    public ActiveActorDestructible fireProjectile(GameRandom random) {
+        // Acquire a pooled projectile positioned relative to the user's plane
+        return ActorPools.USER_PROJECTILES.acquire(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
     }
 
     /**
@@ -139,12 +144,13 @@ public class UserPlane extends FighterPlane {
 
     /**
      * Method to increment the kill count by a specified number of kills.
+     * Listeners are notified once for all the kills.
      * 
      * @param kills The number of kills to add to the kill count.
      */
     public void incrementKillCountBy(int kills) {
-        for (int i = 0; i < kills; i++) {
-            incrementKillCount();  // Increment the kill count for each kill
+        if (kills > 0) {
+            killCount.set(killCount.get() + kills);  // One change event for every kill of the tick
         }
     }
 }
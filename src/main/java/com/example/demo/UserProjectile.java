@@ -3,13 +3,13 @@ package com.example.demo;
 public class UserProjectile extends Projectile {
 
     // Image name for the user projectile
-    private static final String IMAGE_NAME = "userfire.png";
+    private static final String SPRITE_NAME = SpriteAtlas.USER_PROJECTILE;
     
     // Image height for the user projectile
     private static final int IMAGE_HEIGHT = 125;
     
-    // Horizontal velocity for the user projectile
-    private static final int HORIZONTAL_VELOCITY = 15;
+    // Horizontal velocity for the user projectile in pixels per second
+    private static final double HORIZONTAL_VELOCITY = 300;
 
     /**
      * Constructor to initialize the user projectile with specified positions.
@@ -19,16 +19,16 @@ public class UserProjectile extends Projectile {
      * @param initialYPos The initial Y position of the user projectile.
      */
     public UserProjectile(double initialXPos, double initialYPos) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        super(SPRITE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
     }
 
     /**
-     * Method to update the position of the projectile horizontally.
-     * This method moves the projectile horizontally based on the defined velocity.
+     * Method to update the movement of the projectile.
+     * This method makes the projectile move horizontally at the defined velocity.
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);  // Move horizontally with the defined velocity
+        setVelocity(HORIZONTAL_VELOCITY * getSpeedScale(), 0);  // Move horizontally with the defined velocity, scaled by the level
     }
 
     /**
@@ -0,0 +1,177 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code VoiceTable} class decides which sound effects get a voice, independently of how they are played.
+ * <p>
+ * It holds a fixed number of voices, each playing one effect until the nominal length of the effect has passed.
+ * Each effect may hold a limited number of voices at once. A new effect takes a free voice if there is one;
+ * when every voice is busy it takes over the voice of the lowest-priority effect playing, the oldest first among
+ * equals, provided that effect has a lower priority than its own; otherwise it is dropped. Taking over a voice
+ * releases every voice of the effect holding it, since the player cannot stop a single play of an effect.
+ * </p>
+ * <p>
+ * Times are passed in by the caller, so the table can be driven by {@code System.nanoTime()} or by a test's clock.
+ * </p>
+ */
+final class VoiceTable {
+
+    /**
+     * Returned by {@link #allocate(int, long)} when the effect is dropped.
+     */
+    static final int NO_VOICE = -1;
+
+    /**
+     * Marks a voice that is not playing, and an allocation that took over no voices.
+     */
+    static final int NO_EFFECT = -1;
+
+    // Priority of each effect, higher effects taking over the voices of lower ones
+    private final int[] priorities;
+
+    // Maximum number of voices each effect may hold at once
+    private final int[] maxVoices;
+
+    // Nominal length of each effect, for which its voice is held
+    private final long[] lengthNanos;
+
+    // Effect playing on each voice and the time at which the voice is released
+    private final int[] voiceEffects;
+    private final long[] voiceEndNanos;
+
+    // Effect whose voices the latest allocation took over
+    private int stolenEffect = NO_EFFECT;
+
+    // Allocation statistics
+    private long played;
+    private long dropped;
+    private long stolen;
+
+    /**
+     * Constructs a {@code VoiceTable} with every voice free.
+     *
+     * @param voiceCount the number of voices
+     * @param priorities the priority of each effect
+     * @param maxVoices the maximum number of voices each effect may hold at once
+     * @param lengthNanos the nominal length of each effect, in nanoseconds
+     */
+    VoiceTable(int voiceCount, int[] priorities, int[] maxVoices, long[] lengthNanos) {
+        this.priorities = priorities;
+        this.maxVoices = maxVoices;
+        this.lengthNanos = lengthNanos;
+        this.voiceEffects = new int[voiceCount];
+        this.voiceEndNanos = new long[voiceCount];
+        Arrays.fill(voiceEffects, NO_EFFECT);
+    }
+
+    /**
+     * Gives a voice to an effect starting now. If the voice was taken over from another effect, every voice of
+     * that effect is released and the effect is reported by {@link #getStolenEffect()}, for the caller to stop it.
+     *
+     * @param effect the effect to play
+     * @param nowNanos the current time, in nanoseconds
+     * @return the voice given to the effect, or {@link #NO_VOICE} if it is dropped
+     */
+    int allocate(int effect, long nowNanos) {
+        stolenEffect = NO_EFFECT;
+        int priority = priorities[effect];
+        int sameEffectVoices = 0;
+        int freeVoice = NO_VOICE;
+        int victim = NO_VOICE;
+        for (int voice = 0; voice < voiceEffects.length; voice++) {
+            int playing = voiceEffects[voice];
+            if (playing == NO_EFFECT || voiceEndNanos[voice] - nowNanos <= 0) {
+                voiceEffects[voice] = NO_EFFECT; // The play has ended
+                if (freeVoice < 0) freeVoice = voice;
+            } else if (playing == effect) {
+                sameEffectVoices++;
+            } else if (priorities[playing] < priority && (victim < 0
+                    || priorities[playing] < priorities[voiceEffects[victim]]
+                    || (priorities[playing] == priorities[voiceEffects[victim]]
+                        && voiceEndNanos[voice] < voiceEndNanos[victim]))) {
+                victim = voice; // Lowest priority so far, oldest first among equals
+            }
+        }
+        if (sameEffectVoices >= maxVoices[effect] || (freeVoice < 0 && victim < 0)) {
+            dropped++;
+            return NO_VOICE;
+        }
+        if (freeVoice < 0) {
+            freeVoice = victim;
+            stolenEffect = voiceEffects[victim];
+            release(stolenEffect);
+            stolen++;
+        }
+        voiceEffects[freeVoice] = effect;
+        voiceEndNanos[freeVoice] = nowNanos + lengthNanos[effect];
+        played++;
+        return freeVoice;
+    }
+
+    /**
+     * Gets the effect whose voices the latest {@link #allocate(int, long)} took over.
+     *
+     * @return the effect to stop, or {@link #NO_EFFECT} if no voice was taken over
+     */
+    int getStolenEffect() {
+        return stolenEffect;
+    }
+
+    /**
+     * Gets the effect playing on a voice, as of the latest allocation.
+     *
+     * @param voice the voice
+     * @return the effect, or {@link #NO_EFFECT} if the voice is free
+     */
+    int getVoiceEffect(int voice) {
+        return voiceEffects[voice];
+    }
+
+    /**
+     * Releases every voice of an effect.
+     *
+     * @param effect the effect
+     */
+    void release(int effect) {
+        for (int voice = 0; voice < voiceEffects.length; voice++) {
+            if (voiceEffects[voice] == effect) {
+                voiceEffects[voice] = NO_EFFECT;
+            }
+        }
+    }
+
+    /**
+     * Releases every voice.
+     */
+    void clear() {
+        Arrays.fill(voiceEffects, NO_EFFECT);
+    }
+
+    /**
+     * Gets the number of effects given a voice.
+     *
+     * @return the played effect count
+     */
+    long getPlayedCount() {
+        return played;
+    }
+
+    /**
+     * Gets the number of effects dropped because no voice could be given to them.
+     *
+     * @return the dropped effect count
+     */
+    long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Gets the number of times an effect took over the voices of a lower-priority one.
+     *
+     * @return the stolen voice count
+     */
+    long getStolenCount() {
+        return stolen;
+    }
+}
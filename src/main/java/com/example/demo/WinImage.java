@@ -36,7 +36,7 @@ public class WinImage extends ImageView {
      * @return An Image object representing the win image.
      */
 	private Image loadWinImage() {
-		return new Image(getClass().getResource(WIN_IMAGE_PATH).toExternalForm());
+		return SpriteCache.getImage(WIN_IMAGE_PATH);
 	}
 
     /**
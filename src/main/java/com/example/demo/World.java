@@ -0,0 +1,400 @@
+package com.example.demo;
+
+/**
+ * The {@code World} class is the headless simulation core of a level.
+ * It keeps the state of every entity in an {@link EntityStore}, tagged by side, and advances it with
+ * {@link #step(double)}: bodies are moved by their velocities, collisions between opposing sides apply damage,
+ * enemies that get past the player hurt the player, stale projectiles are retired and destroyed bodies are removed.
+ * Collisions are continuous by default: hitboxes are tested over their motion during the step rather than only at
+ * its end, so a lower tick rate or faster projectiles do not let projectiles pass through thin targets.
+ * The world has no dependency on the JavaFX toolkit, so it can be stepped thousands of times per second
+ * in tests and bots without a display.
+ * <p>
+ * Collision passes with at least {@link #getParallelCollisionThreshold()} entities involved run across cores with
+ * {@link ParallelCollisions}, with the same outcome as the serial pass. The threshold defaults to the
+ * {@code skybattle.parallelCollisionThreshold} system property, or {@value #DEFAULT_PARALLEL_COLLISION_THRESHOLD}.
+ * </p>
+ */
+public class World {
+
+    // Size of the cells used by the collision broad phase
+    private static final double COLLISION_CELL_SIZE = 100;
+
+    /**
+     * Default number of projectiles and targets in a collision pass from which the pass runs in parallel.
+     * The value is an untuned estimate: the crossover has only been measured on a single-core machine, which always
+     * runs passes serially. Measure it on the target hardware with {@code CollisionCrossoverBenchmark} and set the
+     * {@code skybattle.parallelCollisionThreshold} system property.
+     */
+    public static final int DEFAULT_PARALLEL_COLLISION_THRESHOLD = 4000;
+
+    // System property overriding the default parallel collision threshold
+    private static final String PARALLEL_COLLISION_THRESHOLD_PROPERTY = "skybattle.parallelCollisionThreshold";
+
+    // Number of recent ticks kept by the profiler and the time a tick may take, one 60 Hz frame
+    private static final int PROFILER_WINDOW_TICKS = 512;
+    private static final long TICK_BUDGET_NANOS = 1_000_000_000L / 60;
+
+    // State of every entity in the world, stored as parallel arrays
+    private final EntityStore store;
+
+    // Collision broad phase, indexed by entity slot
+    private final SpatialGrid collisionGrid;
+
+    // Runs the large collision passes across cores, created on first use
+    private ParallelCollisions parallelCollisions;
+
+    // Number of projectiles and targets in a collision pass from which it runs in parallel
+    private int parallelCollisionThreshold;
+
+    // Whether collisions are tested over the motion of the step or only at its end
+    private boolean sweptCollisions = true;
+
+    // Retires projectiles that have left the world or lived too long
+    private final ProjectileLifetimeManager projectileLifetime;
+
+    // Records the time taken by each phase of a tick
+    private final TickProfiler profiler;
+
+    // Cooldowns and timed events, counted in steps
+    private final TimingWheel timers;
+
+    // The body damaged when enemies get past the player's defenses
+    private Body player;
+
+    // Number of steps run so far
+    private long tickCount;
+
+    /**
+     * Constructs a {@code World} of the specified size.
+     *
+     * @param width the width of the world
+     * @param height the height of the world
+     * @param maxProjectileTicksToLive the maximum number of ticks a projectile may live
+     */
+    public World(double width, double height, int maxProjectileTicksToLive) {
+        this.store = new EntityStore();
+        this.collisionGrid = new SpatialGrid(width, height, COLLISION_CELL_SIZE);
+        this.projectileLifetime = new ProjectileLifetimeManager(width, height, maxProjectileTicksToLive);
+        this.profiler = new TickProfiler(PROFILER_WINDOW_TICKS, TICK_BUDGET_NANOS);
+        this.timers = new TimingWheel();
+        this.parallelCollisionThreshold = ParallelCollisions.isUseful()
+                ? Integer.getInteger(PARALLEL_COLLISION_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_COLLISION_THRESHOLD)
+                : Integer.MAX_VALUE; // A single core gains nothing from splitting the work
+    }
+
+    /**
+     * Advances the world by one step, first running the timers due on it.
+     * Each phase is timed by the world's profiler; when the caller has not begun a profiled tick of its own,
+     * the step is recorded as a complete tick.
+     *
+     * @param dt the elapsed time in seconds
+     */
+    public void step(double dt) {
+        boolean ownsTick = !profiler.isInTick();
+        if (ownsTick) {
+            profiler.beginTick();
+        }
+        timers.advance();
+        profiler.endPhase(TickProfiler.PHASE_TIMERS);
+        integrate(dt);
+        profiler.endPhase(TickProfiler.PHASE_INTEGRATE);
+        handleCollisions(EntityStore.KIND_USER_PROJECTILE, EntityStore.KIND_ENEMY);
+        profiler.endPhase(TickProfiler.PHASE_USER_PROJECTILE_COLLISIONS);
+        handleCollisions(EntityStore.KIND_ENEMY_PROJECTILE, EntityStore.KIND_FRIENDLY);
+        profiler.endPhase(TickProfiler.PHASE_ENEMY_PROJECTILE_COLLISIONS);
+        handleCollisions(EntityStore.KIND_FRIENDLY, EntityStore.KIND_ENEMY);
+        profiler.endPhase(TickProfiler.PHASE_PLANE_COLLISIONS);
+        handleEnemyPenetration();
+        profiler.endPhase(TickProfiler.PHASE_ENEMY_PENETRATION);
+        retireExpiredProjectiles();
+        profiler.endPhase(TickProfiler.PHASE_RETIRE_PROJECTILES);
+        store.removeDestroyed();
+        profiler.endPhase(TickProfiler.PHASE_REMOVE_BODIES);
+        tickCount++;
+        if (ownsTick) {
+            profiler.endTick(store);
+        }
+    }
+
+    /**
+     * Moves every live entity by its velocity and ages it by one tick.
+     * A vertical move that would leave the entity's vertical limits is skipped.
+     *
+     * @param dt the elapsed time in seconds
+     */
+    private void integrate(double dt) {
+        double[] x = store.x;
+        double[] y = store.y;
+        double[] previousX = store.previousX;
+        double[] previousY = store.previousY;
+        double[] velocityX = store.velocityX;
+        double[] velocityY = store.velocityY;
+        double[] minYLimit = store.minYLimit;
+        double[] maxYLimit = store.maxYLimit;
+        double[] hitboxLeft = store.hitboxLeft;
+        double[] hitboxTop = store.hitboxTop;
+        double[] hitboxRight = store.hitboxRight;
+        double[] hitboxBottom = store.hitboxBottom;
+        double[] hitboxMinX = store.hitboxMinX;
+        double[] hitboxMinY = store.hitboxMinY;
+        double[] hitboxMaxX = store.hitboxMaxX;
+        double[] hitboxMaxY = store.hitboxMaxY;
+        int[] ageInTicks = store.ageInTicks;
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.isDestroyed(i)) continue; // Destroyed entities no longer move
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i] * dt;
+            double newY = y[i] + velocityY[i] * dt;
+            if (newY >= minYLimit[i] && newY <= maxYLimit[i]) {
+                y[i] = newY;
+            }
+            hitboxMinX[i] = x[i] + hitboxLeft[i]; // The hitbox follows the new position
+            hitboxMinY[i] = y[i] + hitboxTop[i];
+            hitboxMaxX[i] = x[i] + hitboxRight[i];
+            hitboxMaxY[i] = y[i] + hitboxBottom[i];
+            ageInTicks[i]++;
+        }
+    }
+
+    /**
+     * Handles collisions between projectiles and targets, applying damage to both sides of each pair whose
+     * hitboxes overlap, or overlapped at any time during the step with swept collisions. The targets are indexed in a {@link SpatialGrid} so that each projectile is only tested against
+     * the targets sharing a grid cell with it. Large passes are run in parallel by {@link ParallelCollisions}.
+     *
+     * @param projectileKind the kind of the entities that hit
+     * @param targetKind the kind of the entities that can be hit
+     */
+    private void handleCollisions(byte projectileKind, byte targetKind) {
+        if (store.count(projectileKind) == 0 || store.count(targetKind) == 0) return; // Nothing can collide
+        buildCollisionGrid(targetKind);
+        if (store.count(projectileKind) + store.count(targetKind) >= parallelCollisionThreshold) {
+            if (parallelCollisions == null) {
+                parallelCollisions = new ParallelCollisions();
+            }
+            parallelCollisions.handleCollisions(store, collisionGrid, projectileKind, sweptCollisions);
+            return;
+        }
+        double[] hitboxMinX = store.hitboxMinX;
+        double[] hitboxMinY = store.hitboxMinY;
+        double[] hitboxMaxX = store.hitboxMaxX;
+        double[] hitboxMaxY = store.hitboxMaxY;
+        byte[] kind = store.kind;
+        for (int p = 0, n = store.size(); p < n; p++) {
+            if (kind[p] != projectileKind || store.isDestroyed(p)) continue; // Skip if not a live projectile
+            double minX = hitboxMinX[p];
+            double minY = hitboxMinY[p];
+            double maxX = hitboxMaxX[p];
+            double maxY = hitboxMaxY[p];
+            int candidates = sweptCollisions
+                    ? collisionGrid.query(store.sweptMinX(p), store.sweptMinY(p), store.sweptMaxX(p), store.sweptMaxY(p))
+                    : collisionGrid.query(minX, minY, maxX, maxY);
+            for (int c = 0; c < candidates; c++) {
+                int t = collisionGrid.getResult(c);
+                if (store.isDestroyed(t)) continue; // Skip if target is destroyed
+                if (sweptCollisions ? store.sweptHitboxesOverlap(p, t)
+                        : minX <= hitboxMaxX[t] && hitboxMinX[t] <= maxX && minY <= hitboxMaxY[t] && hitboxMinY[t] <= maxY) {
+                    store.takeDamage(p);
+                    store.takeDamage(t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the collision grid from the live entities of a kind, indexing each by the area its hitbox
+     * covered during the step when collisions are swept.
+     *
+     * @param entityKind the kind of entity to index
+     */
+    private void buildCollisionGrid(byte entityKind) {
+        collisionGrid.clear();
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.kind[i] != entityKind || store.isDestroyed(i)) continue; // Destroyed entities can no longer collide
+            if (sweptCollisions) {
+                collisionGrid.insert(i, store.sweptMinX(i), store.sweptMinY(i), store.sweptMaxX(i), store.sweptMaxY(i));
+            } else {
+                collisionGrid.insert(i, store.hitboxMinX[i], store.hitboxMinY[i], store.hitboxMaxX[i], store.hitboxMaxY[i]);
+            }
+        }
+    }
+
+    /**
+     * Destroys every enemy that has crossed the left edge of the world and damages the player for each of them.
+     */
+    private void handleEnemyPenetration() {
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.kind[i] == EntityStore.KIND_ENEMY && !store.isDestroyed(i) && store.x[i] < 0) {
+                if (player != null) {
+                    player.takeDamage();
+                }
+                store.setDestroyed(i, true);
+            }
+        }
+    }
+
+    /**
+     * Retires projectiles that have left the world or outlived their maximum time to live.
+     */
+    private void retireExpiredProjectiles() {
+        projectileLifetime.beginTick();
+        projectileLifetime.retireExpired(store, EntityStore.KIND_USER_PROJECTILE);
+        projectileLifetime.retireExpired(store, EntityStore.KIND_ENEMY_PROJECTILE);
+    }
+
+    /**
+     * Removes every body from the world and cancels every pending timer. Removed bodies keep their final state.
+     */
+    public void clear() {
+        store.clear();
+        collisionGrid.clear();
+        timers.clear();
+    }
+
+    /**
+     * Sets the body that is damaged when enemies get past the player's defenses.
+     *
+     * @param player the player's body
+     */
+    public void setPlayer(Body player) {
+        this.player = player;
+    }
+
+    /**
+     * Adds a body on the player's side.
+     *
+     * @param body the body to add
+     */
+    public void addFriendly(Body body) {
+        store.add(body, EntityStore.KIND_FRIENDLY);
+    }
+
+    /**
+     * Adds an enemy body.
+     *
+     * @param body the body to add
+     */
+    public void addEnemy(Body body) {
+        store.add(body, EntityStore.KIND_ENEMY);
+    }
+
+    /**
+     * Adds a projectile fired by the player's side.
+     *
+     * @param body the body to add
+     */
+    public void addUserProjectile(Body body) {
+        store.add(body, EntityStore.KIND_USER_PROJECTILE);
+    }
+
+    /**
+     * Adds a projectile fired by the enemy side.
+     *
+     * @param body the body to add
+     */
+    public void addEnemyProjectile(Body body) {
+        store.add(body, EntityStore.KIND_ENEMY_PROJECTILE);
+    }
+
+    /**
+     * Sets the number of projectiles and targets in a collision pass from which the pass runs in parallel.
+     *
+     * @param threshold the entity count threshold, {@code 0} to always run in parallel
+     *                  or {@link Integer#MAX_VALUE} to never do so
+     */
+    public void setParallelCollisionThreshold(int threshold) {
+        this.parallelCollisionThreshold = threshold;
+    }
+
+    /**
+     * Gets the number of projectiles and targets in a collision pass from which the pass runs in parallel.
+     *
+     * @return the entity count threshold, {@link Integer#MAX_VALUE} if passes never run in parallel
+     */
+    public int getParallelCollisionThreshold() {
+        return parallelCollisionThreshold;
+    }
+
+    /**
+     * Sets whether collisions are tested over the motion of each step or only at its end. Testing only the end
+     * is slightly cheaper, but projectiles that move further than a target's width in one step can pass through it.
+     *
+     * @param swept {@code true} for continuous collisions, {@code false} to test the end of each step only
+     */
+    public void setSweptCollisions(boolean swept) {
+        this.sweptCollisions = swept;
+    }
+
+    /**
+     * Checks whether collisions are tested over the motion of each step.
+     *
+     * @return {@code true} for continuous collisions, {@code false} if only the end of each step is tested
+     */
+    public boolean isSweptCollisions() {
+        return sweptCollisions;
+    }
+
+    /**
+     * Gets the number of live enemy bodies.
+     *
+     * @return the enemy count
+     */
+    public int getEnemyCount() {
+        return store.count(EntityStore.KIND_ENEMY);
+    }
+
+    /**
+     * Gets the total number of bodies in the world.
+     *
+     * @return the body count
+     */
+    public int getBodyCount() {
+        return store.size();
+    }
+
+    /**
+     * Gets the number of steps run so far.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the store holding the state of every entity in the world.
+     *
+     * @return the {@code EntityStore} of this world
+     */
+    public EntityStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets the profiler timing the phases of each tick.
+     *
+     * @return the {@code TickProfiler} of this world
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the timers advanced by each step, for cooldowns and timed events that follow the simulation.
+     *
+     * @return the {@code TimingWheel} of this world
+     */
+    public TimingWheel getTimers() {
+        return timers;
+    }
+
+    /**
+     * Gets the manager that retires off-screen and expired projectiles.
+     *
+     * @return the {@code ProjectileLifetimeManager} of this world
+     */
+    public ProjectileLifetimeManager getProjectileLifetime() {
+        return projectileLifetime;
+    }
+}
@@ -1,7 +1,8 @@
 // Controller.java
 package com.example.demo.controller;
 
-import com.example.demo.Audio;
+import com.example.demo.DefinedLevel;
+import com.example.demo.LevelDefinitions;
 import com.example.demo.LevelParent;
 
 import javafx.scene.Scene;
@@ -11,59 +12,39 @@ import javafx.stage.Stage;
 
 public class Controller {
 
-    private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.LevelOne";
-    private static final String LEVEL_TWO_CLASS_NAME = "com.example.demo.LevelTwo";
-    private static final String BACKGROUND_MUSIC_PATH = "com.example.demo.images.BackgroundMusic.mp3";
-
     private final Stage stage;
-    private final Audio audio;
     private LevelParent currentLevel;
 
-    public Controller(Stage stage, LevelParent initialLevel, Audio audio) {
+    public Controller(Stage stage, LevelParent initialLevel) {
         this.stage = stage;
         this.currentLevel = initialLevel;
-        this.audio = audio;
         this.stage.setScene(initialLevel.initializeScene());
     }
 
     public void launchGame() {
         stage.show();
         try {
-            goToLevel(LEVEL_ONE_CLASS_NAME);
-        } catch (ClassCastException e) {
+            currentLevel.startGame(); // The initial level's scene is already on the stage
+        } catch (RuntimeException e) {
             showError("An error occurred while launching the game.", e);
         }
     }
 
-    private void goToLevel(String className) throws ClassCastException {
-        LevelParent level = createLevelInstance(className);
+    private void goToLevel(String levelId) {
+        LevelParent level = createLevelInstance(levelId);
         if (level != null) {
             currentLevel = level;
             Scene scene = level.initializeScene();
             stage.setScene(scene);
-            currentLevel.startGame();
-
-            // Play background music for the new level
-            audio.stopBackgroundMusic();
-            if (className.equals(LEVEL_ONE_CLASS_NAME)) {
-                audio.playBackgroundMusic(BACKGROUND_MUSIC_PATH);
-            } else if (className.equals(LEVEL_TWO_CLASS_NAME)) {
-                audio.playBackgroundMusic(BACKGROUND_MUSIC_PATH);
-            }
+            currentLevel.startGame(); // Also starts the level's music
         }
     }
 
-    private LevelParent createLevelInstance(String className) throws ClassCastException {
+    private LevelParent createLevelInstance(String levelId) {
         try {
-            Class<?> clazz = Class.forName(className);
-            Object instance = clazz.getConstructor(String.class, double.class, double.class, int.class, Stage.class)
-                    .newInstance("background.png", stage.getHeight(), stage.getWidth(), 100, stage);
-            if (!(instance instanceof LevelParent)) {
-                throw new ClassCastException("Class " + className + " does not extend LevelParent.");
-            }
-            return (LevelParent) instance;
-        } catch (Exception e) {
-            showError("Error while creating level instance: " + className, e);
+            return new DefinedLevel(LevelDefinitions.get(levelId), stage.getHeight(), stage.getWidth(), stage);
+        } catch (IllegalArgumentException e) {
+            showError("Error while creating level: " + levelId, e);
             return null;
         }
     }
@@ -80,27 +61,20 @@ public class Controller {
     public void restartGame() {
         if (currentLevel != null) {
             currentLevel.resetLevel();
-            try {
-                goToLevel(LEVEL_ONE_CLASS_NAME);
-            } catch (ClassCastException e) {
-                showError("An error occurred while restarting the game.", e);
-            }
+            goToLevel(LevelDefinitions.FIRST_LEVEL_ID);
         }
     }
 
     public void goToNextLevel() {
         if (currentLevel != null) {
-            try {
-                LevelParent nextLevel = createLevelInstance(LEVEL_TWO_CLASS_NAME);
-                if (nextLevel != null) {
-                    currentLevel.goToNextLevel(nextLevel);
-
-                    // Play music for the next level
-                    audio.stopBackgroundMusic();
-                    audio.playBackgroundMusic(BACKGROUND_MUSIC_PATH);
-                }
-            } catch (ClassCastException e) {
-                showError("An error occurred while transitioning to the next level.", e);
+            String nextLevelId = currentLevel.getDefinition().getNextLevelId();
+            if (nextLevelId == null) {
+                return; // The current level is the last one
+            }
+            LevelParent nextLevel = createLevelInstance(nextLevelId);
+            if (nextLevel != null) {
+                currentLevel.goToNextLevel(nextLevel);
+                currentLevel = nextLevel;
             }
         }
     }
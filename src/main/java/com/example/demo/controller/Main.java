@@ -1,7 +1,7 @@
 package com.example.demo.controller;
 
-import com.example.demo.Audio;
-import com.example.demo.LevelOne;
+import com.example.demo.DefinedLevel;
+import com.example.demo.LevelDefinitions;
 import com.example.demo.LevelParent;
 
 import javafx.application.Application;
@@ -13,36 +13,25 @@ public class Main extends Application {
     private static final int SCREEN_HEIGHT = 750;
     private static final String TITLE = "Sky Battle";
 
-    private static final String BACKGROUND_MUSIC_PATH = "com.example.demo.images.BackgroundMusic.mp3";
-
     private Controller myController;
-    private Audio audio;
 
     @Override
     public void start(Stage stage) {
         try {
             initializeStage(stage);
 
-            audio = new Audio();
-            audio.playBackgroundMusic(BACKGROUND_MUSIC_PATH);
-
-            LevelParent initialLevel = new LevelOne(
-                "/com/example/demo/images/background1.jpg",
-                SCREEN_WIDTH,
+            LevelParent initialLevel = new DefinedLevel(
+                LevelDefinitions.get(LevelDefinitions.FIRST_LEVEL_ID),
                 SCREEN_HEIGHT,
-                5,
+                SCREEN_WIDTH,
                 stage
             );
 
-            myController = new Controller(stage, initialLevel, audio);
+            myController = new Controller(stage, initialLevel);
 
             myController.launchGame();
         } catch (Exception e) {
             handleInitializationError(e);
-
-            if (audio != null) {
-                audio.stopBackgroundMusic();
-            }
         }
     }
 
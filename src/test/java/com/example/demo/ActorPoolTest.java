@@ -0,0 +1,120 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the accounting of {@link ActorPool}: steady acquire and recycle cycles must stop creating actors once the
+ * high-water mark is reached, releases beyond the idle limit must be discarded, and recycling must be idempotent.
+ */
+class ActorPoolTest {
+
+    // Number of acquire and recycle cycles, and actors in flight during each
+    private static final int CYCLES = 1000;
+    private static final int IN_FLIGHT = 5;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestToolkit.start();
+    }
+
+    @Test
+    void cyclesReuseActorsOnceTheHighWaterMarkIsReached() {
+        ActorPool<UserProjectile> pool = new ActorPool<>(() -> new UserProjectile(0, 0), IN_FLIGHT);
+        List<UserProjectile> acquired = new ArrayList<>();
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            for (int i = 0; i < IN_FLIGHT; i++) {
+                acquired.add(pool.acquire(i, i));
+            }
+            acquired.forEach(ActiveActorDestructible::recycle);
+            acquired.clear();
+        }
+
+        assertEquals(IN_FLIGHT, pool.getHighWaterMark());
+        assertEquals(IN_FLIGHT, pool.getCreatedCount(), "created must stay at the high-water mark");
+        assertEquals((long) (CYCLES - 1) * IN_FLIGHT, pool.getReusedCount());
+        assertEquals(0, pool.getDiscardedCount());
+        assertEquals(0, pool.getInUseCount());
+        assertEquals(IN_FLIGHT, pool.getIdleCount());
+    }
+
+    @Test
+    void acquiredActorsAreResetToTheRequestedPositionWithTheirHealthRestored() {
+        ActorPool<UserProjectile> pool = new ActorPool<>(() -> new UserProjectile(0, 0), 1);
+        UserProjectile first = pool.acquire(10, 20);
+        first.getBody().moveBy(300, 40);
+        first.getBody().setHealth(0); // As a hit in the simulation leaves it
+        first.destroy();
+        first.recycle();
+
+        UserProjectile second = pool.acquire(50, 60);
+        assertSame(first, second);
+        assertEquals(50, second.getBody().getX());
+        assertEquals(60, second.getBody().getY());
+        assertEquals(1, second.getBody().getHealth(), "a reused projectile must be fired with its health restored");
+        assertFalse(second.isDestroyed());
+    }
+
+    @Test
+    void releasesBeyondTheIdleLimitAreDiscarded() {
+        int maxIdle = 2;
+        ActorPool<UserProjectile> pool = new ActorPool<>(() -> new UserProjectile(0, 0), maxIdle);
+        List<UserProjectile> acquired = new ArrayList<>();
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            acquired.add(pool.acquire(0, 0));
+        }
+        acquired.forEach(ActiveActorDestructible::recycle);
+
+        assertEquals(maxIdle, pool.getIdleCount());
+        assertEquals(IN_FLIGHT - maxIdle, pool.getDiscardedCount());
+        assertEquals(0, pool.getInUseCount());
+
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            pool.acquire(0, 0);
+        }
+        assertEquals(maxIdle, pool.getReusedCount());
+        assertEquals(IN_FLIGHT + IN_FLIGHT - maxIdle, pool.getCreatedCount());
+    }
+
+    @Test
+    void recyclingTwiceReleasesOnce() {
+        ActorPool<UserProjectile> pool = new ActorPool<>(() -> new UserProjectile(0, 0), IN_FLIGHT);
+        UserProjectile projectile = pool.acquire(0, 0);
+        projectile.recycle();
+        projectile.recycle();
+
+        assertEquals(0, pool.getInUseCount());
+        assertEquals(1, pool.getIdleCount());
+        assertSame(projectile, pool.acquire(0, 0));
+        assertEquals(0, pool.getIdleCount(), "a second recycle must not queue the actor twice");
+    }
+
+    @Test
+    void recyclingAnUnpooledActorDoesNothing() {
+        ActorPool<UserProjectile> pool = new ActorPool<>(() -> new UserProjectile(0, 0), IN_FLIGHT);
+        new UserProjectile(0, 0).recycle();
+
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    @Test
+    void prefillIsCappedAtTheIdleLimit() {
+        int maxIdle = 3;
+        ActorPool<UserProjectile> pool = new ActorPool<>(() -> new UserProjectile(0, 0), maxIdle);
+        pool.prefill(10);
+
+        assertEquals(maxIdle, pool.getIdleCount());
+        assertEquals(maxIdle, pool.getCreatedCount());
+        pool.acquire(0, 0);
+        assertEquals(maxIdle, pool.getCreatedCount(), "acquiring a prefilled actor must not create one");
+        assertEquals(1, pool.getReusedCount());
+    }
+}
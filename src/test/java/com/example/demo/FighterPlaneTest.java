@@ -0,0 +1,53 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests the fire cooldown of {@link FighterPlane}: it must last one simulated second at any tick rate, and a reset
+ * must cancel it.
+ */
+class FighterPlaneTest {
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestToolkit.start();
+    }
+
+    @ParameterizedTest(name = "{0} ticks/s")
+    @ValueSource(ints = {60, 30, 20, 10, 5, 1})
+    void cooldownLastsOneSecondAtEveryTickRate(int tickRate) {
+        EnemyPlane plane = new EnemyPlane(0, 0);
+        TimingWheel timers = new TimingWheel();
+        assertTrue(plane.canFire(timers, tickRate));
+        for (int tick = 1; tick < tickRate; tick++) {
+            timers.advance();
+            assertFalse(plane.canFire(timers, tickRate), "fired again after " + tick + " ticks");
+        }
+        timers.advance();
+        assertTrue(plane.canFire(timers, tickRate));
+    }
+
+    @Test
+    void cooldownIsRoundedToTheNearestTickAndNeverZero() {
+        assertEquals(20, FighterPlane.getFireCooldownTicks(20));
+        assertEquals(144, FighterPlane.getFireCooldownTicks(144));
+        assertEquals(1, FighterPlane.getFireCooldownTicks(0));
+    }
+
+    @Test
+    void resetCancelsTheCooldown() {
+        EnemyPlane plane = new EnemyPlane(0, 0);
+        TimingWheel timers = new TimingWheel();
+        assertTrue(plane.canFire(timers, 20));
+        plane.reset(0, 0);
+        assertEquals(0, timers.getPendingCount());
+        assertTrue(plane.canFire(timers, 20));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.application.Platform;
+
+/**
+ * The {@code FxTestToolkit} class starts the JavaFX toolkit without a display for tests that create images, nodes
+ * and levels, using the Monocle headless glass platform and the software renderer. The toolkit is started at most
+ * once per JVM, with audio switched off. Exceptions thrown on the JavaFX application thread are kept, so that tests
+ * can fail on errors that would otherwise only be printed.
+ */
+public final class FxTestToolkit {
+
+    // Maximum time to wait for the toolkit to start
+    private static final long STARTUP_TIMEOUT_SECONDS = 30;
+
+    // Whether the toolkit has been started in this JVM
+    private static boolean started;
+
+    // First exception thrown on the JavaFX application thread since the last check
+    private static final AtomicReference<Throwable> FX_THREAD_FAILURE = new AtomicReference<>();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private FxTestToolkit() {
+    }
+
+    /**
+     * Starts the JavaFX toolkit headless if it is not running yet.
+     *
+     * @throws IllegalStateException if the toolkit does not start in time
+     */
+    public static synchronized void start() {
+        if (started) return; // Toolkit is already running
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.text", "t2k");
+        System.setProperty("java.awt.headless", "true");
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(() -> {
+            Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> FX_THREAD_FAILURE.compareAndSet(null, e));
+            latch.countDown();
+        });
+        try {
+            if (!latch.await(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("JavaFX toolkit did not start within " + STARTUP_TIMEOUT_SECONDS + " s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the JavaFX toolkit", e);
+        }
+        Platform.setImplicitExit(false);
+        Audio.setEnabled(false); // Tests have no one to play audio to
+        started = true;
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread and waits for it to finish.
+     *
+     * @param task the task to run
+     * @throws IllegalStateException if the task fails or the wait is interrupted
+     */
+    public static void runAndWait(Runnable task) {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the JavaFX application thread", e);
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Task failed on the JavaFX application thread", failure.get());
+        }
+    }
+
+    /**
+     * Waits for the tasks already posted to the JavaFX application thread to run, then returns and forgets the
+     * first exception thrown on that thread since the previous call.
+     *
+     * @return the exception, or {@code null} if the thread ran without errors
+     */
+    public static Throwable takeFxThreadFailure() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(latch::countDown);
+        try {
+            latch.await(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return FX_THREAD_FAILURE.getAndSet(null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a headless level ends without UI work, so that runners driving ticks from their own thread can tear
+ * it down at once, while a level with its UI still posts its game-over buttons.
+ */
+class HeadlessLevelTest {
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestToolkit.start();
+    }
+
+    @Test
+    void headlessLossOnlyMarksTheGameOver() {
+        LevelParent level = createLevel(true);
+        int nodes = level.getRoot().getChildren().size();
+        level.loseGame();
+
+        assertNull(FxTestToolkit.takeFxThreadFailure(), "the JavaFX application thread threw");
+        assertTrue(level.isGameOver());
+        assertEquals(nodes, level.getRoot().getChildren().size(), "a headless loss changed the scene graph");
+        level.tearDown();
+    }
+
+    @Test
+    void headlessWinOnlyMarksTheGameOver() {
+        LevelParent level = createLevel(true);
+        int nodes = level.getRoot().getChildren().size();
+        level.winGame();
+
+        assertNull(FxTestToolkit.takeFxThreadFailure(), "the JavaFX application thread threw");
+        assertTrue(level.isGameOver());
+        assertEquals(nodes, level.getRoot().getChildren().size(), "a headless win changed the scene graph");
+        level.tearDown();
+    }
+
+    @Test
+    void lossWithUiPostsTheRestartButton() {
+        LevelParent level = createLevel(false);
+        level.loseGame();
+
+        assertNull(FxTestToolkit.takeFxThreadFailure(), "the JavaFX application thread threw");
+        assertEquals(1, countButtons(level), "the restart button was not posted");
+        FxTestToolkit.runAndWait(level::tearDown);
+    }
+
+    /**
+     * Creates the first level with its scene built.
+     *
+     * @param isHeadless whether the level skips its game-over UI
+     * @return the level
+     */
+    private static LevelParent createLevel(boolean isHeadless) {
+        LevelParent level = new DefinedLevel(LevelDefinitions.get(LevelDefinitions.FIRST_LEVEL_ID), 750, 1300, null);
+        level.setHeadless(isHeadless);
+        level.initializeScene();
+        return level;
+    }
+
+    /**
+     * Counts the buttons in a level's scene graph.
+     *
+     * @param level the level
+     * @return the number of buttons
+     */
+    private static int countButtons(LevelParent level) {
+        int buttons = 0;
+        for (Node node : level.getRoot().getChildren()) {
+            buttons += node instanceof Button ? 1 : 0;
+        }
+        return buttons;
+    }
+}
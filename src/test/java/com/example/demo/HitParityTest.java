@@ -0,0 +1,136 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests that swept collisions give the same hits at every tick rate. A volley of projectiles crosses a field of thin,
+ * stationary targets that absorb any number of hits, so the number of projectiles that should hit is known exactly:
+ * those whose lane crosses a target. Swept collisions must hit every blocked lane at every rate, while collisions
+ * tested at the end of each step only lose hits once a projectile moves further than a target's width per tick.
+ */
+class HitParityTest {
+
+    // Size of the simulated screen
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    // Targets: thinner than a projectile's travel per tick at the game's speeds, and never destroyed
+    private static final int TARGET_COUNT = 40;
+    private static final double TARGET_WIDTH = 6;
+    private static final double TARGET_HEIGHT = 40;
+    private static final int TARGET_HEALTH = Integer.MAX_VALUE;
+
+    // Projectiles, sized like the opaque part of the user's projectile, and three times its speed in pixels per second
+    private static final int PROJECTILE_COUNT = 2000;
+    private static final double PROJECTILE_WIDTH = 20;
+    private static final double PROJECTILE_HEIGHT = 5;
+    private static final double PROJECTILE_SPEED = 900;
+
+    // Lowest tick rate compared, at which a projectile moves 30 target widths per tick
+    private static final int LOWEST_TICK_RATE = 5;
+
+    // Seed of the layout, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    // Layout of the volley, and the number of projectiles whose lane crosses a target
+    private static double[] targetX;
+    private static double[] targetY;
+    private static double[] projectileY;
+    private static int blockedLanes;
+
+    @BeforeAll
+    static void layOutVolley() {
+        targetX = new double[TARGET_COUNT];
+        targetY = new double[TARGET_COUNT];
+        projectileY = new double[PROJECTILE_COUNT];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < TARGET_COUNT; i++) {
+            targetX[i] = 400 + random.nextDouble(WIDTH - 500);
+            targetY[i] = random.nextDouble(HEIGHT - TARGET_HEIGHT);
+        }
+        for (int i = 0; i < PROJECTILE_COUNT; i++) {
+            projectileY[i] = random.nextDouble(HEIGHT - PROJECTILE_HEIGHT);
+            for (int t = 0; t < TARGET_COUNT; t++) {
+                if (projectileY[i] <= targetY[t] + TARGET_HEIGHT && targetY[t] <= projectileY[i] + PROJECTILE_HEIGHT) {
+                    blockedLanes++;
+                    break;
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0} ticks/s")
+    @ValueSource(ints = {60, 30, 20, 10, 5})
+    void sweptCollisionsHitEveryBlockedLane(int tickRate) {
+        assertTrue(blockedLanes > 0, "the layout must block some lanes");
+        assertEquals(blockedLanes, countHits(true, tickRate));
+    }
+
+    @Test
+    void endOfStepCollisionsMissAtLowTickRates() {
+        int hits = countHits(false, LOWEST_TICK_RATE);
+        assertTrue(hits < blockedLanes / 2,
+                "end-of-step collisions hit " + hits + " of " + blockedLanes + " blocked lanes");
+    }
+
+    @Test
+    void sweptHitboxesOverlapWhenPassingThroughWithinOneStep() {
+        EntityStore store = new EntityStore();
+        int projectile = store.add(new Body(0, 10, PROJECTILE_WIDTH, PROJECTILE_HEIGHT), EntityStore.KIND_USER_PROJECTILE);
+        int target = store.add(new Body(100, 0, TARGET_WIDTH, TARGET_HEIGHT), EntityStore.KIND_ENEMY);
+
+        store.x[projectile] = 200; // One step carries the projectile from before the target to beyond it
+        store.updateHitbox(projectile);
+        assertFalse(store.hitboxMaxX[projectile] >= store.hitboxMinX[target]
+                && store.hitboxMaxX[target] >= store.hitboxMinX[projectile], "the end positions must not overlap");
+        assertTrue(store.sweptHitboxesOverlap(projectile, target));
+        assertTrue(store.sweptHitboxesOverlap(target, projectile));
+
+        store.y[projectile] = store.previousY[projectile] = TARGET_HEIGHT + 1; // Same motion, in a lane below the target
+        store.updateHitbox(projectile);
+        assertFalse(store.sweptHitboxesOverlap(projectile, target));
+    }
+
+    /**
+     * Plays the volley until every projectile has hit or left the screen.
+     *
+     * @param swept {@code true} for swept collisions, {@code false} to test the end of each step only
+     * @param tickRate the number of steps per second
+     * @return the number of projectiles that hit a target
+     */
+    private static int countHits(boolean swept, int tickRate) {
+        World world = new World(WIDTH, HEIGHT, Integer.MAX_VALUE);
+        world.setSweptCollisions(swept);
+        for (int t = 0; t < TARGET_COUNT; t++) {
+            Body target = new Body(targetX[t], targetY[t], TARGET_WIDTH, TARGET_HEIGHT);
+            target.setHealth(TARGET_HEALTH);
+            world.addEnemy(target);
+        }
+        Body[] projectiles = new Body[PROJECTILE_COUNT];
+        for (int i = 0; i < projectiles.length; i++) {
+            projectiles[i] = new Body(0, projectileY[i], PROJECTILE_WIDTH, PROJECTILE_HEIGHT);
+            projectiles[i].setVelocity(PROJECTILE_SPEED, 0);
+            world.addUserProjectile(projectiles[i]);
+        }
+        int steps = (int) Math.ceil(WIDTH / PROJECTILE_SPEED * tickRate) + 2; // Long enough to cross the screen
+        for (int s = 0; s < steps; s++) {
+            world.step(1.0 / tickRate);
+        }
+        int hits = 0;
+        for (Body projectile : projectiles) {
+            if (projectile.isDestroyed() && projectile.getX() <= WIDTH) {
+                hits++; // Stopped on screen, so it hit a target rather than leaving
+            }
+        }
+        return hits;
+    }
+}
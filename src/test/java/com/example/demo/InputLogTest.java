@@ -0,0 +1,163 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the binary input log written by {@link InputRecorder} and read by {@link InputLog}, and that a session
+ * recorded from a level is played back identically by a {@link ReplayRunner}.
+ */
+class InputLogTest {
+
+    // Header of the logs written by the format tests
+    private static final String LEVEL_ID = "test";
+    private static final long SEED = 7;
+    private static final int TICK_RATE = 20;
+
+    // Length of the header: magic number, version, level identifier with its length, seed and tick rate
+    private static final int HEADER_BYTES = 4 + 1 + 2 + LEVEL_ID.length() + 8 + 4;
+
+    // Size of the screen the recorded session is played on, and the ticks it runs for
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final int SESSION_TICKS = 2000;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestToolkit.start();
+    }
+
+    @Test
+    void commandsAndTicksSurviveARoundTrip() throws IOException {
+        long[] ticks = {0, 0, 127, 255, 16_639, 3_000_000_000L};
+        byte[] commands = {InputBus.MOVE_UP, InputBus.FIRE, InputBus.STOP, InputBus.MOVE_DOWN, InputBus.FIRE, InputBus.STOP};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(bytes, LEVEL_ID, SEED, TICK_RATE);
+        for (int i = 0; i < ticks.length; i++) {
+            recorder.record(ticks[i], commands[i]);
+        }
+        recorder.finish(3_000_000_100L);
+
+        InputLog log = read(bytes.toByteArray());
+        assertEquals(LEVEL_ID, log.getLevelId());
+        assertEquals(SEED, log.getSeed());
+        assertEquals(TICK_RATE, log.getTickRate());
+        assertEquals(ticks.length, log.getCommandCount());
+        for (int i = 0; i < ticks.length; i++) {
+            assertEquals(ticks[i], log.getTick(i), "tick of command " + i);
+            assertEquals(commands[i], log.getCommand(i), "command " + i);
+        }
+        assertEquals(3_000_000_100L, log.getEndTick(), "the end marker holds the end tick");
+    }
+
+    @Test
+    void tickOffsetsTakeOneByteBelow128AndMoreFrom128() throws IOException {
+        assertEquals(HEADER_BYTES + 2 + 2, recordOne(127).length, "offset 127 fits in one byte");
+        assertEquals(HEADER_BYTES + 3 + 2, recordOne(128).length, "offset 128 needs a second byte");
+        assertEquals(HEADER_BYTES + 4 + 2, recordOne(16_384).length, "offset 16384 needs a third byte");
+        assertEquals(16_384, read(recordOne(16_384)).getTick(0));
+    }
+
+    @Test
+    void aLogWithoutAnEndMarkerEndsOneTickAfterItsLastCommand() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputRecorder recorder = new InputRecorder(bytes, LEVEL_ID, SEED, TICK_RATE)) {
+            recorder.record(10, InputBus.FIRE);
+            recorder.record(300, InputBus.MOVE_UP);
+        }
+
+        InputLog log = read(bytes.toByteArray());
+        assertEquals(2, log.getCommandCount());
+        assertEquals(300, log.getTick(1));
+        assertEquals(301, log.getEndTick());
+
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        new InputRecorder(empty, LEVEL_ID, SEED, TICK_RATE).close();
+        assertEquals(0, read(empty.toByteArray()).getEndTick(), "a session without commands ends at tick 0");
+    }
+
+    @Test
+    void aLogCutWithinATickOffsetIsRejected() throws IOException {
+        byte[] log = recordOne(128);
+        byte[] cut = Arrays.copyOf(log, HEADER_BYTES + 1); // Only the first byte of the first offset
+        assertThrows(EOFException.class, () -> read(cut));
+    }
+
+    @Test
+    void aBadMagicNumberOrVersionIsRejected() throws IOException {
+        byte[] badMagic = recordOne(1);
+        badMagic[0] ^= 1;
+        IOException magic = assertThrows(IOException.class, () -> read(badMagic));
+        assertEquals("Not an input log.", magic.getMessage());
+
+        byte[] badVersion = recordOne(1);
+        badVersion[4] = InputLog.VERSION + 1;
+        IOException version = assertThrows(IOException.class, () -> read(badVersion));
+        assertTrue(version.getMessage().startsWith("Unsupported input log version"), version.getMessage());
+    }
+
+    @Test
+    void aRecordedSessionReplaysToTheSameWorld() throws IOException {
+        LevelParent level = new DefinedLevel(LevelDefinitions.get(LevelDefinitions.FIRST_LEVEL_ID),
+                SCREEN_HEIGHT, SCREEN_WIDTH, null);
+        level.setHeadless(true);
+        level.initializeScene();
+        level.getRandom().reseed(SEED);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        level.startRecording(bytes);
+        ScriptedPlayer player = new ScriptedPlayer(SEED);
+        while (level.getInputBus().getTick() < SESSION_TICKS && !level.isGameOver()) {
+            player.act(level.getInputBus());
+            level.updateScene();
+        }
+        level.stopRecording();
+        long recordedTicks = level.getInputBus().getTick();
+        long recordedHash = ReplayDeterminismTest.hash(level.getWorld().getStore());
+        level.tearDown();
+
+        InputLog log = read(bytes.toByteArray());
+        assertTrue(log.getCommandCount() > 0, "the scripted player posted no commands");
+        assertEquals(recordedTicks, log.getEndTick());
+        ReplayRunner runner = new ReplayRunner(log, SCREEN_HEIGHT, SCREEN_WIDTH);
+        assertEquals(recordedTicks, runner.run());
+        assertEquals(recordedHash, ReplayDeterminismTest.hash(runner.getLevel().getWorld().getStore()),
+                "the replay ended in a different world");
+        runner.getLevel().tearDown();
+    }
+
+    /**
+     * Records a finished session holding one command.
+     *
+     * @param tick the tick of the command
+     * @return the log
+     * @throws IOException if the log cannot be written
+     */
+    private static byte[] recordOne(long tick) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(bytes, LEVEL_ID, SEED, TICK_RATE);
+        recorder.record(tick, InputBus.FIRE);
+        recorder.finish(tick);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a log from bytes.
+     *
+     * @param bytes the log
+     * @return the recorded session
+     * @throws IOException if the bytes do not hold an input log
+     */
+    private static InputLog read(byte[] bytes) throws IOException {
+        return InputLog.read(new ByteArrayInputStream(bytes));
+    }
+}
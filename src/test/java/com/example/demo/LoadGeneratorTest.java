@@ -0,0 +1,39 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a load ramp survives steps that lose the level: lost levels are torn down and restarted from the test
+ * thread, which must not race with game-over UI posted to the JavaFX application thread.
+ */
+class LoadGeneratorTest {
+
+    // Seed of every level's randomness
+    private static final long SEED = 42;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestToolkit.start();
+    }
+
+    @Test
+    void survivesStepsThatLoseTheLevel() {
+        FxTestToolkit.takeFxThreadFailure(); // Forget failures of earlier tests
+        Properties overrides = new Properties();
+        overrides.setProperty("playerHealth", "1"); // Lose at the first hit, so every step restarts
+        overrides.setProperty("wave.0.spawnChance", "1");
+        LoadGenerator generator = new LoadGenerator(LevelDefinitions.FIRST_LEVEL_ID, overrides, 750, 1300, SEED, 4);
+        generator.run(4, 2, 8, 3000, 3000, new PrintStream(OutputStream.nullOutputStream()));
+
+        assertTrue(generator.getRestartCount() > 0, "no step lost the level, so restarts were not covered");
+        assertNull(FxTestToolkit.takeFxThreadFailure(), "the JavaFX application thread threw");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests that collision passes run by {@link ParallelCollisions} have the same outcome as the serial pass: two
+ * identical worlds, one running every pass in parallel and one running every pass serially, must leave every body
+ * with the same health and destroyed state after each step.
+ */
+class ParallelCollisionsTest {
+
+    // Size of the simulated screen, and the ticks a projectile may live
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+    private static final int PROJECTILE_TICKS_TO_LIVE = 200;
+
+    // Entities of each kind, enough for the collision grid cells to hold many targets at once
+    private static final int USER_PROJECTILES = 1500;
+    private static final int ENEMIES = 1500;
+    private static final int ENEMY_PROJECTILES = 800;
+    private static final int FRIENDLIES = 50;
+
+    // Steps run, and their length at 20 ticks per second
+    private static final int STEPS = 80;
+    private static final double STEP_SECONDS = 1.0 / 20;
+
+    // Seed of the layout, fixed so that runs are comparable
+    private static final long SEED = 42;
+
+    @ParameterizedTest(name = "swept collisions: {0}")
+    @ValueSource(booleans = {true, false})
+    void parallelPassesMatchTheSerialPass(boolean swept) {
+        World parallel = new World(WIDTH, HEIGHT, PROJECTILE_TICKS_TO_LIVE);
+        World serial = new World(WIDTH, HEIGHT, PROJECTILE_TICKS_TO_LIVE);
+        parallel.setParallelCollisionThreshold(0);
+        serial.setParallelCollisionThreshold(Integer.MAX_VALUE);
+        parallel.setSweptCollisions(swept);
+        serial.setSweptCollisions(swept);
+        Body[] parallelBodies = populate(parallel);
+        Body[] serialBodies = populate(serial);
+
+        for (int step = 0; step < STEPS; step++) {
+            parallel.step(STEP_SECONDS);
+            serial.step(STEP_SECONDS);
+            for (int i = 0; i < parallelBodies.length; i++) {
+                assertEquals(serialBodies[i].isDestroyed(), parallelBodies[i].isDestroyed(),
+                        "destroyed state of body " + i + " after step " + step);
+                assertEquals(serialBodies[i].getHealth(), parallelBodies[i].getHealth(),
+                        "health of body " + i + " after step " + step);
+            }
+        }
+
+        int destroyed = 0;
+        for (Body body : serialBodies) {
+            if (body.isDestroyed()) destroyed++;
+        }
+        assertTrue(destroyed > 0 && destroyed < serialBodies.length, "the layout must produce some hits: " + destroyed);
+    }
+
+    /**
+     * Fills a world with the same seeded layout of projectiles and planes flying at each other.
+     *
+     * @param world the world to fill
+     * @return every body added, the player first, in the order they were added
+     */
+    private static Body[] populate(World world) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Body[] bodies = new Body[1 + FRIENDLIES + ENEMIES + USER_PROJECTILES + ENEMY_PROJECTILES];
+        int count = 0;
+
+        Body player = new Body(10, HEIGHT / 2, 150, 50);
+        player.setHealth(Integer.MAX_VALUE / 2); // Absorbs the enemies that get past
+        world.setPlayer(player);
+        world.addFriendly(player);
+        bodies[count++] = player;
+        for (int i = 0; i < FRIENDLIES; i++) {
+            Body friendly = new Body(random.nextDouble(300), random.nextDouble(HEIGHT - 50), 100, 40);
+            friendly.setHealth(3);
+            friendly.setVelocity(random.nextDouble(50, 150), 0);
+            world.addFriendly(friendly);
+            bodies[count++] = friendly;
+        }
+        for (int i = 0; i < ENEMIES; i++) {
+            Body enemy = new Body(random.nextDouble(400, WIDTH), random.nextDouble(HEIGHT - 40), 60, 40);
+            enemy.setHealth(1 + random.nextInt(4));
+            enemy.setVelocity(-random.nextDouble(50, 200), random.nextDouble(-20, 20));
+            world.addEnemy(enemy);
+            bodies[count++] = enemy;
+        }
+        for (int i = 0; i < USER_PROJECTILES; i++) {
+            Body projectile = new Body(random.nextDouble(600), random.nextDouble(HEIGHT - 5), 20, 5);
+            projectile.setVelocity(random.nextDouble(300, 900), 0);
+            world.addUserProjectile(projectile);
+            bodies[count++] = projectile;
+        }
+        for (int i = 0; i < ENEMY_PROJECTILES; i++) {
+            Body projectile = new Body(random.nextDouble(200, WIDTH), random.nextDouble(HEIGHT - 10), 20, 10);
+            projectile.setVelocity(-random.nextDouble(150, 450), 0);
+            world.addEnemyProjectile(projectile);
+            bodies[count++] = projectile;
+        }
+        return bodies;
+    }
+}
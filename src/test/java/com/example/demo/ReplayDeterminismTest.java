@@ -0,0 +1,75 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a level played twice with the same seed and the same input evolves identically, tick for tick,
+ * including the shots enemies fire by chance from the level's seeded randomness. The game loop does not run
+ * {@link LevelParent#generateEnemyFire()}, so the test rolls enemy fire itself before each tick.
+ */
+class ReplayDeterminismTest {
+
+    // Ticks compared, and the seed of the level and the scripted player
+    private static final int TICKS = 3000;
+    private static final long SEED = 7;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestToolkit.start();
+    }
+
+    @Test
+    void sameSeedAndInputGiveTheSameTicks() {
+        long[] first = play();
+        long[] second = play();
+
+        assertArrayEquals(first, second, "the two plays diverged");
+    }
+
+    /**
+     * Plays the first level with a scripted player, hashing the world after every tick.
+     *
+     * @return the hash of the world after each tick, 0 after the game is over
+     */
+    private static long[] play() {
+        LevelParent level = new DefinedLevel(LevelDefinitions.get(LevelDefinitions.FIRST_LEVEL_ID), 750, 1300, null);
+        level.setHeadless(true);
+        level.initializeScene();
+        level.getRandom().reseed(SEED);
+        ScriptedPlayer player = new ScriptedPlayer(SEED);
+        long[] hashes = new long[TICKS];
+        int mostEnemyShots = 0;
+        for (int tick = 0; tick < TICKS && !level.isGameOver(); tick++) {
+            player.act(level.getInputBus());
+            level.generateEnemyFire();
+            level.updateScene();
+            EntityStore store = level.getWorld().getStore();
+            hashes[tick] = hash(store);
+            mostEnemyShots = Math.max(mostEnemyShots, store.count(EntityStore.KIND_ENEMY_PROJECTILE));
+        }
+        level.tearDown();
+        assertTrue(mostEnemyShots > 0, "no enemy fired, so enemy fire randomness was not exercised");
+        return hashes;
+    }
+
+    /**
+     * Hashes the kind, position and health of every entity in a store.
+     *
+     * @param store the store
+     * @return the hash
+     */
+    static long hash(EntityStore store) {
+        long hash = store.size();
+        for (int slot = 0; slot < store.size(); slot++) {
+            hash = hash * 31 + store.kind[slot];
+            hash = hash * 31 + Double.doubleToLongBits(store.x[slot]);
+            hash = hash * 31 + Double.doubleToLongBits(store.y[slot]);
+            hash = hash * 31 + store.health[slot];
+        }
+        return hash;
+    }
+}
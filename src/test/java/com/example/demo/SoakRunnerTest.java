@@ -0,0 +1,47 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a soak survives many level restarts: the soak drives ticks and tear-downs from the test thread, so
+ * a level that posted its game-over UI to the JavaFX application thread would race with the tear-down.
+ */
+class SoakRunnerTest {
+
+    // Ticks played, long enough for the scripted player to lose the first level many times over
+    private static final long TICKS = 20_000;
+
+    // Fewest restarts for the run to count as a restart soak
+    private static final int MIN_LEVELS_PLAYED = 50;
+
+    // Seed of the levels and the scripted player
+    private static final long SEED = 42;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestToolkit.start();
+    }
+
+    @Test
+    void survivesManyRestartsWithoutUiWorkOrLeakedActors() {
+        FxTestToolkit.takeFxThreadFailure(); // Forget failures of earlier tests
+        SoakRunner runner = new SoakRunner(LevelDefinitions.FIRST_LEVEL_ID, 750, 1300, SEED, false);
+        runner.run(TICKS, TICKS, new PrintStream(OutputStream.nullOutputStream()));
+
+        assertEquals(TICKS, runner.getTicksRun());
+        assertTrue(runner.getLevelsPlayed() >= MIN_LEVELS_PLAYED,
+                "only " + runner.getLevelsPlayed() + " levels played, too few restarts to cover the race");
+        assertNull(FxTestToolkit.takeFxThreadFailure(), "the JavaFX application thread threw");
+        assertEquals(0, ActorPools.ENEMY_PLANES.getInUseCount(), "enemy planes leaked across restarts");
+        assertEquals(0, ActorPools.USER_PROJECTILES.getInUseCount(), "user projectiles leaked across restarts");
+        assertEquals(0, ActorPools.ENEMY_PROJECTILES.getInUseCount(), "enemy projectiles leaked across restarts");
+    }
+}
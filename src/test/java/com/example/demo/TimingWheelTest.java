@@ -0,0 +1,206 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link TimingWheel}: timers must run on exactly the tick they expire on, including those cascading down from
+ * the coarse wheels, and cancelling, stale handles and {@link TimingWheel#clear()} must leave no timer behind.
+ */
+class TimingWheelTest {
+
+    // Delays around the turn of each wheel: the tick wheel covers 2^8 ticks, each coarse wheel 6 more bits
+    private static final int[] DELAYS = {
+        1, 2, 255, 256, 257, 300, 511, 512, 513,
+        16_383, 16_384, 16_385, 100_000, (1 << 20) - 1, 1 << 20, (1 << 20) + 1
+    };
+
+    // Operations and seed of the comparison with a reference model
+    private static final int MODEL_OPERATIONS = 200_000;
+    private static final long SEED = 42;
+
+    @ParameterizedTest(name = "starting at tick {0}")
+    @ValueSource(ints = {0, 1, 255, 1000, 16_383})
+    void timersRunOnTheTickTheyExpireOn(int startTick) {
+        TimingWheel wheel = new TimingWheel();
+        for (int i = 0; i < startTick; i++) {
+            wheel.advance();
+        }
+        long[] firedAt = new long[DELAYS.length];
+        for (int i = 0; i < DELAYS.length; i++) {
+            int index = i;
+            wheel.schedule(DELAYS[i], () -> firedAt[index] = wheel.getTick());
+        }
+        int longest = DELAYS[DELAYS.length - 1];
+        for (int tick = 0; tick < longest; tick++) {
+            wheel.advance();
+        }
+
+        for (int i = 0; i < DELAYS.length; i++) {
+            assertEquals(startTick + DELAYS[i], firedAt[i], "timer with a delay of " + DELAYS[i]);
+        }
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void aTimerCancelledAfterCascadingNeverRuns() {
+        TimingWheel wheel = new TimingWheel();
+        int[] runs = new int[1];
+        long handle = wheel.schedule(1000, () -> runs[0]++);
+        for (int tick = 0; tick < 900; tick++) { // Past tick 768, where the timer moves down to the tick wheel
+            wheel.advance();
+        }
+        assertTrue(wheel.isPending(handle));
+
+        assertTrue(wheel.cancel(handle));
+        assertFalse(wheel.isPending(handle));
+        assertFalse(wheel.cancel(handle), "cancelling twice does nothing");
+        for (int tick = 0; tick < 200; tick++) {
+            wheel.advance();
+        }
+        assertEquals(0, runs[0]);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void staleHandlesNeverTouchTheTimerReusingTheirEntry() {
+        TimingWheel wheel = new TimingWheel();
+        long expired = wheel.schedule(1, () -> { });
+        wheel.advance();
+        long cancelled = wheel.schedule(5, () -> { });
+        wheel.cancel(cancelled);
+
+        int[] runs = new int[1];
+        long current = wheel.schedule(3, () -> runs[0]++); // Reuses a released entry
+        assertEquals((int) expired, (int) current, "the entry is reused");
+        assertFalse(wheel.isPending(expired));
+        assertFalse(wheel.isPending(cancelled));
+        assertFalse(wheel.cancel(expired));
+        assertFalse(wheel.cancel(cancelled));
+        assertTrue(wheel.isPending(current));
+        assertFalse(wheel.isPending(TimingWheel.NO_TIMER));
+        assertFalse(wheel.cancel(TimingWheel.NO_TIMER));
+
+        for (int tick = 0; tick < 3; tick++) {
+            wheel.advance();
+        }
+        assertEquals(1, runs[0]);
+    }
+
+    @Test
+    void clearCancelsEveryTimerAndKeepsTheTick() {
+        TimingWheel wheel = new TimingWheel();
+        for (int i = 0; i < 10; i++) {
+            wheel.advance();
+        }
+        int[] runs = new int[1];
+        long[] handles = new long[DELAYS.length];
+        for (int i = 0; i < DELAYS.length; i++) {
+            handles[i] = wheel.schedule(DELAYS[i], () -> runs[0]++);
+        }
+
+        wheel.clear();
+        assertEquals(0, wheel.getPendingCount());
+        assertEquals(10, wheel.getTick());
+        for (long handle : handles) {
+            assertFalse(wheel.isPending(handle));
+        }
+        for (int tick = 0; tick < 20_000; tick++) {
+            wheel.advance();
+        }
+        assertEquals(0, runs[0]);
+
+        wheel.schedule(300, () -> runs[0]++);
+        for (int tick = 0; tick < 300; tick++) {
+            wheel.advance();
+        }
+        assertEquals(1, runs[0], "the wheel schedules again after a clear");
+    }
+
+    @Test
+    void callbacksMayScheduleAndCancelTimersOfTheSameTick() {
+        TimingWheel wheel = new TimingWheel();
+        List<String> runs = new ArrayList<>();
+        long[] handles = new long[2];
+        for (int i = 0; i < handles.length; i++) {
+            long[] other = handles;
+            int index = i;
+            handles[i] = wheel.schedule(10, () -> { // Whichever runs first cancels the other, due on the same tick
+                runs.add("timer");
+                wheel.cancel(other[1 - index]);
+                wheel.schedule(1, () -> runs.add("rescheduled"));
+            });
+        }
+        for (int tick = 0; tick < 10; tick++) {
+            wheel.advance();
+        }
+        assertEquals(List.of("timer"), runs);
+        wheel.advance();
+        assertEquals(List.of("timer", "rescheduled"), runs);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void delaysOutOfRangeAreRejected() {
+        TimingWheel wheel = new TimingWheel();
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(0, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(TimingWheel.MAX_DELAY_TICKS + 1, () -> { }));
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void randomOperationsMatchAReferenceModel() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        TimingWheel wheel = new TimingWheel();
+        Map<Long, Long> pending = new HashMap<>(); // Expiry tick of each pending handle
+        List<Long> handles = new ArrayList<>();
+        List<Long> fired = new ArrayList<>();
+        for (int operation = 0; operation < MODEL_OPERATIONS; operation++) {
+            int choice = random.nextInt(10);
+            if (choice < 4) {
+                int delay = random.nextInt(4) == 0 ? 1 + random.nextInt(70_000) : 1 + random.nextInt(600);
+                long[] handle = new long[1];
+                handle[0] = wheel.schedule(delay, () -> fired.add(handle[0]));
+                pending.put(handle[0], wheel.getTick() + delay);
+                handles.add(handle[0]);
+            } else if (choice < 6 && !handles.isEmpty()) {
+                long handle = handles.get(random.nextInt(handles.size()));
+                assertEquals(pending.remove(handle) != null, wheel.cancel(handle), "cancel of " + handle);
+            } else {
+                fired.clear();
+                wheel.advance();
+                for (long handle : fired) {
+                    assertEquals(Long.valueOf(wheel.getTick()), pending.remove(handle), "expiry of " + handle);
+                }
+            }
+            if (handles.size() > 1000) {
+                handles.subList(0, 500).clear(); // Keep some stale handles around, but not all of them
+            }
+            assertEquals(pending.size(), wheel.getPendingCount());
+        }
+
+        // Run up to the last expiry, so that a timer the wheel lost is noticed
+        long lastExpiry = pending.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        while (wheel.getTick() < lastExpiry) {
+            fired.clear();
+            wheel.advance();
+            for (long handle : fired) {
+                assertEquals(Long.valueOf(wheel.getTick()), pending.remove(handle), "expiry of " + handle);
+            }
+        }
+        assertEquals(Map.of(), pending, "timers that did not run");
+        assertEquals(0, wheel.getPendingCount());
+    }
+}
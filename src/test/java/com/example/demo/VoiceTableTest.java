@@ -0,0 +1,102 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the voice allocation of {@link VoiceTable}: free voices first, the per-effect cap, taking over the oldest
+ * voice of the lowest-priority effect, dropping when only equal or higher priorities play, and releasing voices
+ * once their effect's length has passed.
+ */
+class VoiceTableTest {
+
+    // Effects, from lowest to highest priority
+    private static final int QUIET = 0;
+    private static final int SHOT = 1;
+    private static final int EXPLOSION = 2;
+    private static final int GAME_OVER = 3;
+
+    private static final int[] PRIORITIES = {0, 1, 2, 3};
+    private static final int[] MAX_VOICES = {4, 2, 4, 1};
+    private static final long[] LENGTH_NANOS = {1000, 1000, 1000, 1000};
+
+    // Number of voices of the table
+    private static final int VOICE_COUNT = 4;
+
+    @Test
+    void effectsTakeFreeVoicesFirst() {
+        VoiceTable voices = newTable();
+        assertEquals(0, voices.allocate(SHOT, 0));
+        assertEquals(1, voices.allocate(EXPLOSION, 0));
+        assertEquals(2, voices.allocate(QUIET, 0));
+        assertEquals(VoiceTable.NO_EFFECT, voices.getStolenEffect());
+        assertEquals(3, voices.getPlayedCount());
+        assertEquals(0, voices.getStolenCount());
+    }
+
+    @Test
+    void effectsBeyondTheirCapAreDropped() {
+        VoiceTable voices = newTable();
+        voices.allocate(SHOT, 0);
+        voices.allocate(SHOT, 0);
+        assertEquals(VoiceTable.NO_VOICE, voices.allocate(SHOT, 0), "free voices remain, but the cap is reached");
+        assertEquals(2, voices.getPlayedCount());
+        assertEquals(1, voices.getDroppedCount());
+    }
+
+    @Test
+    void aFullTableGivesTheOldestLowestPriorityVoiceAway() {
+        VoiceTable voices = newTable();
+        voices.allocate(SHOT, 0);
+        voices.allocate(QUIET, 10);
+        voices.allocate(QUIET, 5);
+        voices.allocate(SHOT, 0);
+
+        int voice = voices.allocate(EXPLOSION, 20);
+        assertEquals(2, voice, "the quiet effect started first ends first, so its voice is taken");
+        assertEquals(QUIET, voices.getStolenEffect());
+        assertEquals(1, voices.getStolenCount());
+        assertEquals(VoiceTable.NO_EFFECT, voices.getVoiceEffect(1), "every voice of the stolen effect is released");
+        assertEquals(EXPLOSION, voices.getVoiceEffect(2));
+        assertEquals(SHOT, voices.getVoiceEffect(0));
+        assertEquals(SHOT, voices.getVoiceEffect(3));
+    }
+
+    @Test
+    void aFullTableDropsEffectsWhenOnlyEqualOrHigherPrioritiesPlay() {
+        VoiceTable voices = newTable();
+        for (int i = 0; i < VOICE_COUNT; i++) {
+            voices.allocate(EXPLOSION, 0);
+        }
+        assertEquals(VoiceTable.NO_VOICE, voices.allocate(SHOT, 1));
+        assertEquals(VoiceTable.NO_VOICE, voices.allocate(EXPLOSION, 1));
+        assertEquals(VoiceTable.NO_EFFECT, voices.getStolenEffect());
+        assertEquals(2, voices.getDroppedCount());
+
+        assertNotEquals(VoiceTable.NO_VOICE, voices.allocate(GAME_OVER, 1), "a higher priority still takes a voice");
+        assertEquals(EXPLOSION, voices.getStolenEffect());
+    }
+
+    @Test
+    void voicesAreReleasedOnceTheEffectLengthHasPassed() {
+        VoiceTable voices = newTable();
+        for (int i = 0; i < VOICE_COUNT; i++) {
+            voices.allocate(EXPLOSION, 0);
+        }
+        assertEquals(VoiceTable.NO_VOICE, voices.allocate(QUIET, LENGTH_NANOS[EXPLOSION] - 1));
+        assertEquals(0, voices.allocate(QUIET, LENGTH_NANOS[EXPLOSION]));
+        assertEquals(VoiceTable.NO_EFFECT, voices.getStolenEffect());
+        assertEquals(VoiceTable.NO_EFFECT, voices.getVoiceEffect(1), "every ended voice is freed on the way");
+    }
+
+    /**
+     * Creates a table with every voice free.
+     *
+     * @return the table
+     */
+    private static VoiceTable newTable() {
+        return new VoiceTable(VOICE_COUNT, PRIORITIES, MAX_VOICES, LENGTH_NANOS);
+    }
+}